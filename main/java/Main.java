@@ -1,18 +1,23 @@
+import importer.CsvImportPipeline;
+import importer.EntityRowMappers;
+import importer.ImportResult;
+import importer.RowMapper;
+import logging.AsyncLogHandler;
 import model.*;
 import repositories.GenericRepository;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.logging.Logger;
-import java.util.logging.FileHandler;
-import java.util.logging.SimpleFormatter;
 
 public class Main {
     private static final Logger logger = Logger.getLogger(Main.class.getName());
 
     private static void setupLogging() {
         try {
-            FileHandler fileHandler = new FileHandler("logs/application.log");
-            fileHandler.setFormatter(new SimpleFormatter());
-            logger.addHandler(fileHandler);
+            AsyncLogHandler fileHandler = new AsyncLogHandler(Path.of("logs", "application.log"));
+            // LogManager closes root handlers at shutdown, which drains the queue.
+            Logger.getLogger("").addHandler(fileHandler);
         } catch (Exception e) {
             System.err.println("Could not create log file: " + e.getMessage());
         }
@@ -24,6 +29,7 @@ public class Main {
         
         try {
             demonstrateGenericRepository();
+            importDataFiles();
             
             logger.info("Application completed successfully");
             
@@ -142,4 +148,26 @@ public class Main {
         
         System.out.println("\n--- COMPLETE ---");
     }
-}
\ No newline at end of file
+
+    private static void importDataFiles() throws IOException {
+        System.out.println("\n--- CSV Import ---");
+
+        importFile("users", EntityRowMappers.USERS, new GenericRepository<>(User::getEmail));
+        importFile("coaches", EntityRowMappers.COACHES, new GenericRepository<>(Coach::getEmail));
+        importFile("exercises", EntityRowMappers.EXERCISES, new GenericRepository<>(Exercise::name));
+        importFile("levels", EntityRowMappers.LEVELS, new GenericRepository<>(model.Level::name));
+        importFile("intensities", EntityRowMappers.INTENSITIES, new GenericRepository<>(Intensity::name));
+    }
+
+    private static <T> void importFile(String name, RowMapper<T> mapper, GenericRepository<T> repository)
+            throws IOException {
+        Path file = Path.of("data", name + ".csv");
+        ImportResult result = new CsvImportPipeline<>(mapper).run(file, repository);
+        System.out.println("Imported " + result.imported() + " of " + result.rowsRead() + " " + name
+                + " (" + Math.round(result.rowsPerSecond()) + " rows/s, " + result.rejected() + " rejected)");
+        for (int i = 0; i < result.errors().size(); i++) {
+            System.out.println("  - " + result.errors().toException(i).getMessage()
+                    + ": '" + result.errors().getInvalidValue(i) + "'");
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package analytics;
+
+// Windows end at the latest measurement; undefined values are NaN.
+public record ClientTrend(String clientId,
+                          int measurements,
+                          long latestMillis,
+                          double latestWeight,
+                          double averageWeight7Days,
+                          double averageWeight30Days,
+                          double bmiSlopePerDay,
+                          double weightChangeSincePlanStart) {
+}
@@ -0,0 +1,246 @@
+package analytics;
+
+import model.Client;
+import model.Plan;
+import model.Progress;
+import repositories.IdentityExtractor;
+import validation.FieldRules;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Running window sums per client, so getTrend is O(1); late measurements are inserted in place.
+public class ProgressAnalytics {
+    public static final long DAY_MILLIS = 86_400_000L;
+    public static final int SHORT_WINDOW_DAYS = 7;
+    public static final int LONG_WINDOW_DAYS = 30;
+
+    private final IdentityExtractor<Client> clientIdentity;
+    private final Map<String, Series> series = new ConcurrentHashMap<>();
+
+    public ProgressAnalytics() {
+        this(Client::getEmail);
+    }
+
+    public ProgressAnalytics(IdentityExtractor<Client> clientIdentity) {
+        if (clientIdentity == null) {
+            throw new IllegalArgumentException("Client identity extractor must not be null");
+        }
+        this.clientIdentity = clientIdentity;
+    }
+
+    // Returns false for a missing client or date, or an out-of-range value.
+    public boolean record(Progress progress) {
+        if (progress == null || progress.getDate() == null) {
+            return false;
+        }
+        return record(progress.getClient(), progress.getDate().getTime(), progress.getWeight(), progress.getBmi());
+    }
+
+    public boolean record(Client client, long epochMillis, double weight, double bmi) {
+        String identity = identityOf(client);
+        if (identity == null || !FieldRules.WEIGHT.test(weight) || !FieldRules.BMI.test(bmi)) {
+            return false;
+        }
+        Series clientSeries = series.computeIfAbsent(identity, Series::new);
+        synchronized (clientSeries) {
+            clientSeries.add(epochMillis, weight, bmi);
+        }
+        return true;
+    }
+
+    public void track(Plan plan) {
+        if (plan == null) {
+            throw new IllegalArgumentException("Plan must not be null");
+        }
+        setPlanStart(plan.getClient(), plan.getStartDate());
+    }
+
+    public void setPlanStart(Client client, Date startDate) {
+        String identity = identityOf(client);
+        if (identity == null) {
+            throw new IllegalArgumentException("Client must have an identity");
+        }
+        Series clientSeries = series.computeIfAbsent(identity, Series::new);
+        synchronized (clientSeries) {
+            clientSeries.setPlanStart(startDate != null ? startDate.getTime() : Long.MAX_VALUE);
+        }
+    }
+
+    public ClientTrend getTrend(Client client) {
+        return getTrend(identityOf(client));
+    }
+
+    // Null if none of the client's measurements were recorded.
+    public ClientTrend getTrend(String identity) {
+        Series clientSeries = identity == null ? null : series.get(identity);
+        if (clientSeries == null) {
+            return null;
+        }
+        synchronized (clientSeries) {
+            return clientSeries.size == 0 ? null : clientSeries.toTrend();
+        }
+    }
+
+    public int getClientCount() {
+        return series.size();
+    }
+
+    private String identityOf(Client client) {
+        if (client == null) {
+            return null;
+        }
+        String identity = clientIdentity.extractIdentity(client);
+        return identity == null || identity.trim().isEmpty() ? null : identity;
+    }
+
+    private static final class Series {
+        private final String identity;
+        private final Window shortWindow = new Window(SHORT_WINDOW_DAYS * DAY_MILLIS);
+        private final Window longWindow = new Window(LONG_WINDOW_DAYS * DAY_MILLIS);
+        private long[] times = new long[8];
+        private double[] weights = new double[8];
+        private double[] bmis = new double[8];
+        private int size;
+        private long origin;
+        private long planStart = Long.MAX_VALUE;
+        private int baseline = -1;
+
+        private Series(String identity) {
+            this.identity = identity;
+        }
+
+        private void add(long time, double weight, double bmi) {
+            if (size == 0) {
+                origin = time;
+            }
+            if (size == times.length) {
+                times = Arrays.copyOf(times, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+                bmis = Arrays.copyOf(bmis, size * 2);
+            }
+            boolean newest = size == 0 || time >= times[size - 1];
+            int position = newest ? size : upperBound(time);
+            System.arraycopy(times, position, times, position + 1, size - position);
+            System.arraycopy(weights, position, weights, position + 1, size - position);
+            System.arraycopy(bmis, position, bmis, position + 1, size - position);
+            times[position] = time;
+            weights[position] = weight;
+            bmis[position] = bmi;
+            size++;
+
+            double day = days(time);
+            shortWindow.inserted(position, time, day, weight, bmi, size == 1);
+            longWindow.inserted(position, time, day, weight, bmi, size == 1);
+            if (newest) {
+                shortWindow.slideTo(time, this);
+                longWindow.slideTo(time, this);
+            }
+            if (baseline >= position) {
+                baseline++;
+            }
+            if (time >= planStart && (baseline < 0 || time < times[baseline])) {
+                baseline = position;
+            }
+        }
+
+        private void setPlanStart(long start) {
+            planStart = start;
+            int first = lowerBound(start);
+            baseline = first < size ? first : -1;
+        }
+
+        private ClientTrend toTrend() {
+            double latestWeight = weights[size - 1];
+            return new ClientTrend(identity, size, times[size - 1], latestWeight,
+                    shortWindow.averageWeight(), longWindow.averageWeight(), longWindow.bmiSlope(),
+                    baseline >= 0 ? latestWeight - weights[baseline] : Double.NaN);
+        }
+
+        private double days(long time) {
+            return (double) (time - origin) / DAY_MILLIS;
+        }
+
+        private int lowerBound(long time) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (times[mid] < time) low = mid + 1;
+                else high = mid;
+            }
+            return low;
+        }
+
+        private int upperBound(long time) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (times[mid] <= time) low = mid + 1;
+                else high = mid;
+            }
+            return low;
+        }
+    }
+
+    // Covers latest - length < time <= latest, which is the series from start to the end.
+    private static final class Window {
+        private final long length;
+        private long cutoff = Long.MIN_VALUE;
+        private int start;
+        private int count;
+        private double sumWeight;
+        private double sumDay;
+        private double sumBmi;
+        private double sumDaySquared;
+        private double sumDayBmi;
+
+        private Window(long length) {
+            this.length = length;
+        }
+
+        private void inserted(int position, long time, double day, double weight, double bmi, boolean first) {
+            if (first || time > cutoff) {
+                include(day, weight, bmi, 1);
+            } else if (position <= start) {
+                start++;
+            }
+        }
+
+        private void slideTo(long latest, Series series) {
+            cutoff = latest - length;
+            while (start < series.size && series.times[start] <= cutoff) {
+                include(series.days(series.times[start]), series.weights[start], series.bmis[start], -1);
+                start++;
+            }
+            if (count == 0) {
+                sumWeight = sumDay = sumBmi = sumDaySquared = sumDayBmi = 0;
+            }
+        }
+
+        private void include(double day, double weight, double bmi, int sign) {
+            count += sign;
+            sumWeight += sign * weight;
+            sumDay += sign * day;
+            sumBmi += sign * bmi;
+            sumDaySquared += sign * day * day;
+            sumDayBmi += sign * day * bmi;
+        }
+
+        private double averageWeight() {
+            return count > 0 ? sumWeight / count : Double.NaN;
+        }
+
+        // Least-squares slope of BMI per day.
+        private double bmiSlope() {
+            double denominator = count * sumDaySquared - sumDay * sumDay;
+            if (count < 2 || Math.abs(denominator) < 1e-9 * Math.max(1, count * sumDaySquared)) {
+                return Double.NaN;
+            }
+            return (count * sumDayBmi - sumDay * sumBmi) / denominator;
+        }
+    }
+}
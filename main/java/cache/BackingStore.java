@@ -0,0 +1,26 @@
+package cache;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+public interface BackingStore<T> {
+    T load(String identity) throws IOException;
+
+    void storeAll(Map<String, T> items) throws IOException;
+
+    void deleteAll(Collection<String> identities) throws IOException;
+
+    // Stores that can answer without decoding entries, or in one round trip, should override this.
+    default Set<String> findExisting(Collection<String> identities) throws IOException {
+        Set<String> existing = new HashSet<>();
+        for (String identity : identities) {
+            if (load(identity) != null) {
+                existing.add(identity);
+            }
+        }
+        return existing;
+    }
+}
@@ -0,0 +1,158 @@
+package cache;
+
+import repositories.BatchResult;
+import repositories.ConcurrentGenericRepository;
+import repositories.IdentityExtractor;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+public class BoundedGenericRepository<T> extends ConcurrentGenericRepository<T> {
+    private final long maximumWeight;
+    private final Weigher<? super T> weigher;
+    private final EvictionPolicy policy;
+    private final EvictionListener<? super T> listener;
+    private final CacheStats stats = new CacheStats(getMetrics());
+    private final Map<String, Integer> weights = new HashMap<>();
+    private final Object lock = new Object();
+    private long totalWeight;
+
+    public BoundedGenericRepository(IdentityExtractor<T> identityExtractor, int maximumSize, EvictionPolicy policy) {
+        this(identityExtractor, maximumSize, item -> 1, policy, null);
+    }
+
+    public BoundedGenericRepository(IdentityExtractor<T> identityExtractor, long maximumWeight, Weigher<? super T> weigher,
+                                    EvictionPolicy policy, EvictionListener<? super T> listener) {
+        super(identityExtractor);
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException("Maximum weight must be positive");
+        }
+        if (weigher == null || policy == null) {
+            throw new IllegalArgumentException("Weigher and eviction policy must not be null");
+        }
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+        this.policy = policy;
+        this.listener = listener;
+    }
+
+    @Override
+    public void add(T item) {
+        synchronized (lock) {
+            if (item != null) {
+                weigh(item);
+            }
+            super.add(item);
+        }
+    }
+
+    @Override
+    public BatchResult addAll(Collection<? extends T> batch) {
+        synchronized (lock) {
+            if (batch != null) {
+                for (T item : batch) {
+                    if (item != null) {
+                        weigh(item);
+                    }
+                }
+            }
+            return super.addAll(batch);
+        }
+    }
+
+    @Override
+    public boolean delete(String identity) {
+        synchronized (lock) {
+            return super.delete(identity);
+        }
+    }
+
+    @Override
+    public BatchResult deleteAll(Iterable<String> identities) {
+        synchronized (lock) {
+            return super.deleteAll(identities);
+        }
+    }
+
+    @Override
+    public T findByIdentity(String identity) {
+        T item = super.findByIdentity(identity);
+        if (item != null) {
+            synchronized (lock) {
+                policy.onAccess(identity);
+            }
+        } else if (identity != null && !identity.trim().isEmpty()) {
+            synchronized (lock) {
+                policy.onMiss(identity);
+            }
+        }
+        return item;
+    }
+
+    public CacheStats getStats() {
+        return stats;
+    }
+
+    public long getWeightedSize() {
+        synchronized (lock) {
+            return totalWeight;
+        }
+    }
+
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    @Override
+    protected void onAdded(String identity, T item) {
+        int weight = weigh(item);
+        weights.put(identity, weight);
+        totalWeight += weight;
+        policy.onInsert(identity);
+        evictIfNeeded();
+    }
+
+    @Override
+    protected void onDeleted(String identity, T item) {
+        release(identity);
+    }
+
+    @Override
+    protected void onEvicted(String identity, T item) {
+        stats.recordEviction(release(identity));
+        if (listener != null) {
+            listener.onEviction(identity, item);
+        }
+    }
+
+    // Checked before the item reaches the map, so a bad weight never leaves an untracked entry behind.
+    private int weigh(T item) {
+        int weight = weigher.weigh(item);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Weight must not be negative: " + weight);
+        }
+        return weight;
+    }
+
+    private int release(String identity) {
+        Integer weight = weights.remove(identity);
+        if (weight != null) {
+            totalWeight -= weight;
+        }
+        policy.onRemove(identity);
+        return weight != null ? weight : 0;
+    }
+
+    private void evictIfNeeded() {
+        while (totalWeight > maximumWeight) {
+            String victim = policy.selectVictim();
+            if (victim == null) {
+                return;
+            }
+            if (evict(victim) == null) {
+                policy.onRemove(victim);
+            }
+        }
+    }
+}
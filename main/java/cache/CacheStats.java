@@ -0,0 +1,58 @@
+package cache;
+
+import metrics.RepositoryMetrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class CacheStats {
+    private final RepositoryMetrics metrics;
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder evictedWeight = new LongAdder();
+
+    CacheStats(RepositoryMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    void recordEviction(int weight) {
+        evictions.increment();
+        evictedWeight.add(weight);
+    }
+
+    public long getHitCount() {
+        return metrics.getHitCount();
+    }
+
+    public long getMissCount() {
+        return metrics.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public long getEvictedWeight() {
+        return evictedWeight.sum();
+    }
+
+    public double getHitRate() {
+        long hitCount = getHitCount();
+        long requests = hitCount + getMissCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    // Hits and misses are reset with the repository's metrics.
+    public void reset() {
+        evictions.reset();
+        evictedWeight.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{" +
+                "hits=" + getHitCount() +
+                ", misses=" + getMissCount() +
+                ", evictions=" + getEvictionCount() +
+                ", hitRate=" + String.format("%.4f", getHitRate()) +
+                '}';
+    }
+}
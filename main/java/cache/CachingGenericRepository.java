@@ -0,0 +1,267 @@
+package cache;
+
+import repositories.ConcurrentGenericRepository;
+import repositories.IdentityExtractor;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class CachingGenericRepository<T> extends ConcurrentGenericRepository<T> implements Closeable {
+    private static final Logger logger = Logger.getLogger(CachingGenericRepository.class.getName());
+
+    private final BackingStore<T> store;
+    private final WriteBehindOptions options;
+    private final CacheStats stats = new CacheStats(getMetrics());
+    private final ConcurrentHashMap<String, CompletableFuture<T>> loads = new ConcurrentHashMap<>();
+    private final AtomicLong deletions = new AtomicLong();
+    private final Object pendingLock = new Object();
+    private final Object flushLock = new Object();
+    private final Thread writer;
+
+    private LinkedHashMap<String, PendingWrite<T>> pending = new LinkedHashMap<>();
+    private Map<String, PendingWrite<T>> flushing = Map.of();
+    private boolean running = true;
+
+    public CachingGenericRepository(IdentityExtractor<T> identityExtractor, BackingStore<T> store) {
+        this(identityExtractor, store, WriteBehindOptions.defaults());
+    }
+
+    public CachingGenericRepository(IdentityExtractor<T> identityExtractor, BackingStore<T> store,
+                                    WriteBehindOptions options) {
+        super(identityExtractor);
+        if (store == null || options == null) {
+            throw new IllegalArgumentException("Backing store and options must not be null");
+        }
+        this.store = store;
+        this.options = options;
+        this.writer = new Thread(this::writeLoop, "write-behind-" + store.getClass().getSimpleName());
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public T findByIdentity(String identity) {
+        T item = super.findByIdentity(identity);
+        if (item != null || identity == null || identity.trim().isEmpty()) {
+            return item;
+        }
+        return readThrough(identity);
+    }
+
+    // Drops the in-memory copy only; the backing store and queued writes are left alone.
+    public boolean invalidate(String identity) {
+        return evict(identity) != null;
+    }
+
+    public void flush() {
+        synchronized (flushLock) {
+            LinkedHashMap<String, PendingWrite<T>> batch;
+            synchronized (pendingLock) {
+                if (pending.isEmpty()) return;
+                batch = pending;
+                pending = new LinkedHashMap<>();
+                flushing = batch;
+            }
+
+            Map<String, T> upserts = new LinkedHashMap<>();
+            List<String> inserts = new ArrayList<>();
+            List<String> removals = new ArrayList<>();
+            for (Map.Entry<String, PendingWrite<T>> entry : batch.entrySet()) {
+                if (entry.getValue().item() == null) {
+                    removals.add(entry.getKey());
+                } else {
+                    upserts.put(entry.getKey(), entry.getValue().item());
+                    if (entry.getValue().insertOnly()) {
+                        inserts.add(entry.getKey());
+                    }
+                }
+            }
+
+            Map<String, T> duplicates = new LinkedHashMap<>();
+            try {
+                if (!inserts.isEmpty()) {
+                    for (String identity : store.findExisting(inserts)) {
+                        duplicates.put(identity, upserts.remove(identity));
+                    }
+                }
+                if (!upserts.isEmpty()) store.storeAll(upserts);
+                if (!removals.isEmpty()) store.deleteAll(removals);
+            } catch (IOException | RuntimeException e) {
+                synchronized (pendingLock) {
+                    for (Map.Entry<String, PendingWrite<T>> entry : batch.entrySet()) {
+                        pending.putIfAbsent(entry.getKey(), entry.getValue());
+                    }
+                    flushing = Map.of();
+                }
+                throw e instanceof IOException io ? new UncheckedIOException("Write-behind flush failed", io)
+                        : (RuntimeException) e;
+            }
+            synchronized (pendingLock) {
+                flushing = Map.of();
+            }
+            rejectDuplicates(duplicates);
+            if (logger.isLoggable(Level.FINE)) {
+                logger.log(Level.FINE, "Flushed {0} writes and {1} deletes to backing store",
+                        new Object[]{upserts.size(), removals.size()});
+            }
+        }
+    }
+
+    public int getPendingWriteCount() {
+        synchronized (pendingLock) {
+            return pending.size();
+        }
+    }
+
+    public CacheStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        synchronized (pendingLock) {
+            running = false;
+            pendingLock.notifyAll();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    // An add is only checked against the store when no delete of the same key is queued ahead of it.
+    @Override
+    protected void onAdded(String identity, T item) {
+        synchronized (pendingLock) {
+            PendingWrite<T> previous = pending.containsKey(identity) ? pending.get(identity) : flushing.get(identity);
+            enqueue(identity, new PendingWrite<>(item, previous == null || previous.insertOnly()));
+        }
+    }
+
+    @Override
+    protected void onDeleted(String identity, T item) {
+        deletions.incrementAndGet();
+        enqueue(identity, new PendingWrite<>(null, false));
+    }
+
+    // Not cached, but it may still be stored, so the delete is queued for the store without reading it first.
+    @Override
+    protected void onDeleteMissed(String identity) {
+        deletions.incrementAndGet();
+        enqueue(identity, new PendingWrite<>(null, false));
+    }
+
+    // The stored entry wins; the cached copy is dropped so the next read loads it.
+    private void rejectDuplicates(Map<String, T> duplicates) {
+        if (duplicates.isEmpty()) return;
+        for (Map.Entry<String, T> entry : duplicates.entrySet()) {
+            evict(entry.getKey(), entry.getValue());
+        }
+        getMetrics().recordDuplicates(duplicates.size());
+        logger.log(Level.WARNING, "Write-behind dropped {0} adds whose identities already exist in the backing store",
+                duplicates.size());
+    }
+
+    private void enqueue(String identity, PendingWrite<T> write) {
+        synchronized (pendingLock) {
+            if (!running) {
+                throw new IllegalStateException("Repository is closed");
+            }
+            pending.remove(identity);
+            pending.put(identity, write);
+            if (pending.size() >= options.maxBatchSize()) {
+                pendingLock.notifyAll();
+            }
+        }
+    }
+
+    private void writeLoop() {
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(options.flushIntervalMillis());
+        while (true) {
+            synchronized (pendingLock) {
+                long deadline = System.nanoTime() + intervalNanos;
+                long remaining = intervalNanos;
+                while (running && pending.size() < options.maxBatchSize() && remaining > 0) {
+                    try {
+                        TimeUnit.NANOSECONDS.timedWait(pendingLock, remaining);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    remaining = deadline - System.nanoTime();
+                }
+                if (!running) return;
+            }
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                logger.warning("Write-behind flush failed, will retry: " + e.getMessage());
+            }
+        }
+    }
+
+    private T readThrough(String identity) {
+        PendingWrite<T> write;
+        synchronized (pendingLock) {
+            write = pending.get(identity);
+            if (write == null) {
+                write = flushing.get(identity);
+            }
+        }
+        if (write != null) {
+            if (write.item() != null) {
+                populate(write.item());
+            }
+            return write.item();
+        }
+
+        CompletableFuture<T> load = new CompletableFuture<>();
+        CompletableFuture<T> inFlight = loads.putIfAbsent(identity, load);
+        if (inFlight != null) {
+            return join(inFlight);
+        }
+        try {
+            long seenDeletions = deletions.get();
+            T loaded = store.load(identity);
+            if (loaded != null && deletions.get() == seenDeletions) {
+                populate(loaded);
+            }
+            load.complete(loaded);
+            return loaded;
+        } catch (IOException | RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e instanceof IOException io ? new UncheckedIOException("Failed to load " + identity, io)
+                    : (RuntimeException) e;
+        } finally {
+            loads.remove(identity, load);
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw new UncheckedIOException("Failed to load shared entry", io);
+            }
+            throw cause instanceof RuntimeException runtime ? runtime : e;
+        }
+    }
+
+    private record PendingWrite<T>(T item, boolean insertOnly) {
+    }
+}
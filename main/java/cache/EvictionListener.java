@@ -0,0 +1,6 @@
+package cache;
+
+@FunctionalInterface
+public interface EvictionListener<T> {
+    void onEviction(String identity, T item);
+}
@@ -0,0 +1,16 @@
+package cache;
+
+public interface EvictionPolicy {
+    void onInsert(String key);
+
+    void onAccess(String key);
+
+    void onRemove(String key);
+
+    default void onMiss(String key) {
+    }
+
+    String selectVictim();
+
+    int size();
+}
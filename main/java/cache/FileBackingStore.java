@@ -0,0 +1,78 @@
+package cache;
+
+import persistence.EntityCodec;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+
+public class FileBackingStore<T> implements BackingStore<T> {
+    private static final String ENTRY_SUFFIX = ".bin";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final EntityCodec<T> codec;
+
+    public FileBackingStore(Path directory, EntityCodec<T> codec) throws IOException {
+        this.directory = directory;
+        this.codec = codec;
+        Files.createDirectories(directory);
+    }
+
+    @Override
+    public T load(String identity) throws IOException {
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(pathOf(identity));
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        return codec.decode(new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+
+    @Override
+    public void storeAll(Map<String, T> items) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        for (Map.Entry<String, T> entry : items.entrySet()) {
+            bytes.reset();
+            DataOutputStream out = new DataOutputStream(bytes);
+            codec.encode(entry.getValue(), out);
+            out.flush();
+
+            Path target = pathOf(entry.getKey());
+            Path temp = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+            Files.write(temp, bytes.toByteArray());
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    @Override
+    public void deleteAll(Collection<String> identities) throws IOException {
+        for (String identity : identities) {
+            Files.deleteIfExists(pathOf(identity));
+        }
+    }
+
+    @Override
+    public Set<String> findExisting(Collection<String> identities) {
+        Set<String> existing = new HashSet<>();
+        for (String identity : identities) {
+            if (Files.exists(pathOf(identity))) {
+                existing.add(identity);
+            }
+        }
+        return existing;
+    }
+
+    private Path pathOf(String identity) {
+        return directory.resolve(HexFormat.of().formatHex(identity.getBytes(StandardCharsets.UTF_8)) + ENTRY_SUFFIX);
+    }
+}
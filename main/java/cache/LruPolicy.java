@@ -0,0 +1,35 @@
+package cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class LruPolicy implements EvictionPolicy {
+    private final Map<String, Boolean> order = new LinkedHashMap<>(16, 0.75f, true);
+
+    @Override
+    public void onInsert(String key) {
+        order.put(key, Boolean.TRUE);
+    }
+
+    @Override
+    public void onAccess(String key) {
+        order.get(key);
+    }
+
+    @Override
+    public void onRemove(String key) {
+        order.remove(key);
+    }
+
+    @Override
+    public String selectVictim() {
+        Iterator<String> keys = order.keySet().iterator();
+        return keys.hasNext() ? keys.next() : null;
+    }
+
+    @Override
+    public int size() {
+        return order.size();
+    }
+}
@@ -0,0 +1,99 @@
+package cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+public class TinyLfuPolicy implements EvictionPolicy {
+    private static final double WINDOW_SHARE = 0.01;
+    private static final double PROTECTED_SHARE = 0.80;
+
+    private final FrequencySketch sketch;
+    private final int windowMaximum;
+    private final int protectedMaximum;
+    private final LinkedHashSet<String> window = new LinkedHashSet<>();
+    private final LinkedHashSet<String> probation = new LinkedHashSet<>();
+    private final LinkedHashSet<String> protectedSegment = new LinkedHashSet<>();
+    private String candidate;
+
+    public TinyLfuPolicy(int expectedEntries) {
+        if (expectedEntries <= 0) {
+            throw new IllegalArgumentException("Expected entries must be positive");
+        }
+        this.sketch = new FrequencySketch(expectedEntries);
+        this.windowMaximum = Math.max(1, (int) (expectedEntries * WINDOW_SHARE));
+        this.protectedMaximum = (int) ((expectedEntries - windowMaximum) * PROTECTED_SHARE);
+    }
+
+    @Override
+    public void onInsert(String key) {
+        sketch.increment(key);
+        window.add(key);
+        if (window.size() > windowMaximum) {
+            String overflow = first(window);
+            window.remove(overflow);
+            probation.add(overflow);
+            candidate = overflow;
+        }
+    }
+
+    @Override
+    public void onAccess(String key) {
+        sketch.increment(key);
+        if (window.remove(key)) {
+            window.add(key);
+        } else if (probation.remove(key)) {
+            protectedSegment.add(key);
+            if (protectedSegment.size() > protectedMaximum) {
+                String demoted = first(protectedSegment);
+                protectedSegment.remove(demoted);
+                probation.add(demoted);
+            }
+        } else if (protectedSegment.remove(key)) {
+            protectedSegment.add(key);
+        }
+    }
+
+    @Override
+    public void onMiss(String key) {
+        sketch.increment(key);
+    }
+
+    @Override
+    public void onRemove(String key) {
+        if (key.equals(candidate)) {
+            candidate = null;
+        }
+        if (!window.remove(key) && !probation.remove(key)) {
+            protectedSegment.remove(key);
+        }
+    }
+
+    @Override
+    public String selectVictim() {
+        String victim = first(probation);
+        if (victim != null) {
+            if (candidate != null && !candidate.equals(victim) && probation.contains(candidate)
+                    && sketch.frequency(candidate) <= sketch.frequency(victim)) {
+                return candidate;
+            }
+            return victim;
+        }
+        if (!protectedSegment.isEmpty()) return first(protectedSegment);
+        return first(window);
+    }
+
+    @Override
+    public int size() {
+        return window.size() + probation.size() + protectedSegment.size();
+    }
+
+    public int frequency(String key) {
+        return sketch.frequency(key);
+    }
+
+    private static String first(Set<String> keys) {
+        Iterator<String> iterator = keys.iterator();
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+}
@@ -0,0 +1,6 @@
+package cache;
+
+@FunctionalInterface
+public interface Weigher<T> {
+    int weigh(T item);
+}
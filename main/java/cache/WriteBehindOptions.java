@@ -0,0 +1,27 @@
+package cache;
+
+public record WriteBehindOptions(long flushIntervalMillis, int maxBatchSize) {
+    private static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 1_000;
+    private static final int DEFAULT_MAX_BATCH_SIZE = 1_000;
+
+    public WriteBehindOptions {
+        if (flushIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Flush interval must be positive");
+        }
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Maximum batch size must be positive");
+        }
+    }
+
+    public static WriteBehindOptions defaults() {
+        return new WriteBehindOptions(DEFAULT_FLUSH_INTERVAL_MILLIS, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    public WriteBehindOptions withFlushInterval(long flushIntervalMillis) {
+        return new WriteBehindOptions(flushIntervalMillis, maxBatchSize);
+    }
+
+    public WriteBehindOptions withMaxBatchSize(int maxBatchSize) {
+        return new WriteBehindOptions(flushIntervalMillis, maxBatchSize);
+    }
+}
@@ -27,6 +27,17 @@ public class InvalidDataException extends Exception {
         this.fieldName = null;
         this.invalidValue = null;
     }
+
+    private InvalidDataException(String message, String fieldName, String invalidValue, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.fieldName = fieldName;
+        this.invalidValue = invalidValue;
+    }
+
+    // Skips the stack trace, which would dominate the cost of rejecting bad input.
+    public static InvalidDataException withoutStackTrace(String message, String fieldName, String invalidValue) {
+        return new InvalidDataException(message, fieldName, invalidValue, false);
+    }
     
     public String getFieldName() {
         return fieldName;
@@ -0,0 +1,289 @@
+package importer;
+
+import repositories.BatchResult;
+import repositories.GenericRepository;
+import validation.ValidationErrors;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+// Reader thread -> parse workers -> calling thread, over bounded queues.
+public class CsvImportPipeline<T> {
+    private static final Logger logger = Logger.getLogger(CsvImportPipeline.class.getName());
+    private static final long POLL_MILLIS = 100;
+
+    private final RowMapper<T> mapper;
+    private final ImportOptions options;
+
+    public CsvImportPipeline(RowMapper<T> mapper) {
+        this(mapper, ImportOptions.defaults());
+    }
+
+    public CsvImportPipeline(RowMapper<T> mapper, ImportOptions options) {
+        if (mapper == null || options == null) {
+            throw new IllegalArgumentException("Row mapper and options must not be null");
+        }
+        this.mapper = mapper;
+        this.options = options;
+    }
+
+    public ImportResult run(Path file, GenericRepository<T> repository) throws IOException {
+        if (file == null || repository == null) {
+            throw new IllegalArgumentException("File and repository must not be null");
+        }
+        try (MappedCsvReader reader = new MappedCsvReader(file)) {
+            if (options.skipHeader()) {
+                reader.next();
+            }
+            ImportResult result = new Run(sequence -> {
+                MappedCsvReader.Range range = reader.nextRange(options.batchSize());
+                return range == null ? null : new Chunk(sequence, range.firstLine(), null, range);
+            }, repository).execute();
+            logger.log(Level.INFO, "Imported {0} of {1} rows from {2} ({3} rows/s)",
+                    new Object[]{result.imported(), result.rowsRead(), file, Math.round(result.rowsPerSecond())});
+            return result;
+        }
+    }
+
+    public ImportResult run(BufferedReader reader, GenericRepository<T> repository) throws IOException {
+        if (reader == null || repository == null) {
+            throw new IllegalArgumentException("Reader and repository must not be null");
+        }
+        long[] lineNumber = {0};
+        if (options.skipHeader() && reader.readLine() != null) {
+            lineNumber[0]++;
+        }
+        return new Run(sequence -> {
+            List<String> lines = new ArrayList<>(options.batchSize());
+            long firstLine = lineNumber[0] + 1;
+            String line;
+            while (lines.size() < options.batchSize() && (line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+            lineNumber[0] += lines.size();
+            return lines.isEmpty() ? null : new Chunk(sequence, firstLine, lines, null);
+        }, repository).execute();
+    }
+
+    @FunctionalInterface
+    private interface ChunkSource {
+        Chunk next(long sequence) throws IOException;
+    }
+
+    private record Chunk(long sequence, long firstLine, List<String> lines, MappedCsvReader.Range range) {
+    }
+
+    private record Parsed<T>(long sequence, int rows, List<T> items, ValidationErrors errors) {
+    }
+
+    private final class Run {
+        private final Chunk endOfInput = new Chunk(-1, -1, List.of(), null);
+        private final Parsed<T> endOfWork = new Parsed<>(-1, 0, List.of(), null);
+
+        private final ChunkSource source;
+        private final GenericRepository<T> repository;
+        private final BlockingQueue<Chunk> chunks = new ArrayBlockingQueue<>(options.queueCapacity());
+        private final BlockingQueue<Parsed<T>> parsed = new ArrayBlockingQueue<>(options.queueCapacity());
+        private final Semaphore inFlight = new Semaphore(2 * options.queueCapacity() + options.workers());
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final List<Thread> threads = new ArrayList<>();
+        private final ValidationErrors errors = new ValidationErrors(options.maxErrors());
+
+        private long rowsRead;
+        private long imported;
+        private long rejected;
+        private long duplicates;
+
+        Run(ChunkSource source, GenericRepository<T> repository) {
+            this.source = source;
+            this.repository = repository;
+        }
+
+        ImportResult execute() throws IOException {
+            long started = System.nanoTime();
+            start(this::read, "csv-import-reader");
+            for (int i = 0; i < options.workers(); i++) {
+                start(this::work, "csv-import-worker-" + i);
+            }
+            try {
+                insertAll();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                stop();
+                throw new InterruptedIOException("Import interrupted");
+            } catch (IOException | RuntimeException | Error e) {
+                stop();
+                throw e;
+            }
+            return new ImportResult(rowsRead, imported, rejected, duplicates, errors, System.nanoTime() - started);
+        }
+
+        private void start(Runnable stage, String name) {
+            Thread thread = new Thread(() -> {
+                try {
+                    stage.run();
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                }
+            }, name);
+            thread.setDaemon(true);
+            threads.add(thread);
+            thread.start();
+        }
+
+        private void stop() {
+            for (Thread thread : threads) {
+                thread.interrupt();
+            }
+        }
+
+        private void read() {
+            try {
+                long sequence = 0;
+                Chunk chunk;
+                while ((chunk = source.next(sequence)) != null) {
+                    inFlight.acquire();
+                    chunks.put(chunk);
+                    sequence++;
+                }
+                for (int i = 0; i < options.workers(); i++) {
+                    chunks.put(endOfInput);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void work() {
+            CsvRow row = new CsvRow();
+            try {
+                while (true) {
+                    Chunk chunk = chunks.take();
+                    if (chunk == endOfInput) {
+                        parsed.put(endOfWork);
+                        return;
+                    }
+                    parsed.put(chunk.lines() != null ? parseLines(chunk, row) : parseRange(chunk, row));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private Parsed<T> parseLines(Chunk chunk, CsvRow row) {
+            Batch batch = new Batch(chunk.lines().size());
+            for (int i = 0; i < chunk.lines().size(); i++) {
+                row.parseLine(chunk.lines().get(i));
+                batch.map(row, chunk.firstLine() + i);
+            }
+            return batch.toParsed(chunk.sequence());
+        }
+
+        private Parsed<T> parseRange(Chunk chunk, CsvRow row) {
+            MappedCsvReader.Range range = chunk.range();
+            Batch batch = new Batch(options.batchSize());
+            long line = range.firstLine();
+            int position = range.start();
+            while (position < range.end()) {
+                position = row.parseRecord(range.buffer(), position, range.end(), true, true);
+                batch.map(row, line);
+                line += row.lineBreaks();
+            }
+            return batch.toParsed(chunk.sequence());
+        }
+
+        private final class Batch {
+            private final ValidationErrors errors = new ValidationErrors(options.maxErrors());
+            private final List<T> items;
+            private int rows;
+
+            Batch(int capacity) {
+                items = new ArrayList<>(capacity);
+            }
+
+            void map(CsvRow row, long line) {
+                if (row.isBlank()) {
+                    return;
+                }
+                rows++;
+                T item = mapper.map(row, line, errors);
+                if (item != null) {
+                    items.add(item);
+                }
+            }
+
+            Parsed<T> toParsed(long sequence) {
+                return new Parsed<>(sequence, rows, items, errors);
+            }
+        }
+
+        private void insertAll() throws IOException, InterruptedException {
+            Map<Long, Parsed<T>> waiting = new HashMap<>();
+            long next = 0;
+            int finished = 0;
+            while (finished < options.workers()) {
+                Parsed<T> batch = parsed.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                rethrowFailure();
+                if (batch == null) {
+                    continue;
+                }
+                if (batch == endOfWork) {
+                    finished++;
+                } else if (!options.ordered()) {
+                    insert(batch);
+                } else {
+                    waiting.put(batch.sequence(), batch);
+                    Parsed<T> ready;
+                    while ((ready = waiting.remove(next)) != null) {
+                        insert(ready);
+                        next++;
+                    }
+                }
+            }
+            rethrowFailure();
+        }
+
+        private void insert(Parsed<T> batch) {
+            BatchResult result = repository.addAll(batch.items());
+            rowsRead += batch.rows();
+            imported += result.succeeded();
+            duplicates += result.skipped();
+            rejected += batch.rows() - batch.items().size() + result.rejected();
+            errors.addAll(batch.errors());
+            inFlight.release();
+        }
+
+        private void rethrowFailure() throws IOException {
+            Throwable cause = failure.get();
+            if (cause == null) {
+                return;
+            }
+            if (cause instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException("Import stage failed", cause);
+        }
+    }
+}
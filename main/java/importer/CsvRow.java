@@ -0,0 +1,213 @@
+package importer;
+
+import validation.TextRule;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+// Reused for every record; fields are views into the source bytes or line.
+public final class CsvRow {
+    private static final byte DELIMITER = ',';
+    private static final byte QUOTE = '"';
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+    private static final char REPLACEMENT = '\uFFFD';
+
+    private FieldSlice[] fields = new FieldSlice[8];
+    private int size;
+    private int lineBreaks;
+
+    public static CsvRow parse(String line) {
+        CsvRow row = new CsvRow();
+        row.parseLine(line);
+        return row;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public FieldSlice get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Field " + index + " out of bounds for " + size + " fields");
+        }
+        return fields[index];
+    }
+
+    public String getString(int index) {
+        return get(index).toString();
+    }
+
+    public boolean isBlank() {
+        return size == 1 && TextRule.trimmedLength(fields[0]) == 0;
+    }
+
+    // Quoted fields may not contain line breaks here.
+    public void parseLine(String line) {
+        size = 0;
+        lineBreaks = 0;
+        int i = 0;
+        int end = line.length();
+        while (true) {
+            FieldSlice field = nextField();
+            if (i < end && line.charAt(i) == QUOTE) {
+                int contentStart = ++i;
+                boolean escaped = false;
+                while (i < end) {
+                    if (line.charAt(i) == QUOTE) {
+                        if (i + 1 < end && line.charAt(i + 1) == QUOTE) {
+                            escaped = true;
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                if (escaped) {
+                    field.decoded();
+                    for (int c = contentStart; c < i; c++) {
+                        field.append(line.charAt(c));
+                        if (line.charAt(c) == QUOTE) c++;
+                    }
+                } else {
+                    field.ofChars(line, contentStart, i - contentStart);
+                }
+                while (i < end && line.charAt(i) != DELIMITER) i++;
+            } else {
+                int fieldStart = i;
+                while (i < end && line.charAt(i) != DELIMITER) i++;
+                field.ofChars(line, fieldStart, i - fieldStart);
+            }
+            if (i >= end) {
+                return;
+            }
+            i++;
+        }
+    }
+
+    // Includes line breaks inside quoted fields.
+    int lineBreaks() {
+        return lineBreaks;
+    }
+
+    // Returns -1 if the record may continue past limit; with capture false the fields are skipped.
+    int parseRecord(ByteBuffer buffer, int position, int limit, boolean endOfInput, boolean capture) {
+        size = 0;
+        lineBreaks = 0;
+        int i = position;
+        while (true) {
+            FieldSlice field = capture ? nextField() : null;
+            if (i < limit && buffer.get(i) == QUOTE) {
+                int contentStart = ++i;
+                boolean simple = true;
+                while (true) {
+                    if (i >= limit) {
+                        if (!endOfInput) return -1;
+                        break;
+                    }
+                    byte b = buffer.get(i);
+                    if (b == QUOTE) {
+                        if (i + 1 >= limit && !endOfInput) return -1;
+                        if (i + 1 < limit && buffer.get(i + 1) == QUOTE) {
+                            simple = false;
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    if (b < 0) simple = false;
+                    if (b == LF) lineBreaks++;
+                    i++;
+                }
+                if (capture) {
+                    if (simple) {
+                        field.ofBytes(buffer, contentStart, i - contentStart);
+                    } else {
+                        decode(field, buffer, contentStart, i, true);
+                    }
+                }
+                while (i < limit && !isFieldEnd(buffer.get(i))) i++;
+            } else {
+                int fieldStart = i;
+                boolean ascii = true;
+                while (i < limit) {
+                    byte b = buffer.get(i);
+                    if (isFieldEnd(b)) break;
+                    if (b < 0) ascii = false;
+                    i++;
+                }
+                if (i >= limit && !endOfInput) {
+                    return -1;
+                }
+                if (capture) {
+                    if (ascii) {
+                        field.ofBytes(buffer, fieldStart, i - fieldStart);
+                    } else {
+                        decode(field, buffer, fieldStart, i, false);
+                    }
+                }
+            }
+            if (i >= limit) {
+                return limit;
+            }
+            byte b = buffer.get(i);
+            if (b == DELIMITER) {
+                i++;
+                continue;
+            }
+            if (b == CR) {
+                if (i + 1 < limit) {
+                    if (buffer.get(i + 1) == LF) i++;
+                } else if (!endOfInput) {
+                    return -1;
+                }
+            }
+            lineBreaks++;
+            return i + 1;
+        }
+    }
+
+    private static boolean isFieldEnd(byte b) {
+        return b == DELIMITER || b == LF || b == CR;
+    }
+
+    private FieldSlice nextField() {
+        if (size == fields.length) {
+            fields = Arrays.copyOf(fields, size * 2);
+        }
+        FieldSlice field = fields[size];
+        if (field == null) {
+            field = fields[size] = new FieldSlice();
+        }
+        size++;
+        return field;
+    }
+
+    private static void decode(FieldSlice field, ByteBuffer buffer, int from, int to, boolean quoted) {
+        field.decoded();
+        int i = from;
+        while (i < to) {
+            int b = buffer.get(i) & 0xFF;
+            if (b < 0x80) {
+                field.append((char) b);
+                i += quoted && b == QUOTE ? 2 : 1;
+            } else if ((b & 0xE0) == 0xC0 && i + 1 < to) {
+                field.append((char) ((b & 0x1F) << 6 | buffer.get(i + 1) & 0x3F));
+                i += 2;
+            } else if ((b & 0xF0) == 0xE0 && i + 2 < to) {
+                field.append((char) ((b & 0x0F) << 12 | (buffer.get(i + 1) & 0x3F) << 6 | buffer.get(i + 2) & 0x3F));
+                i += 3;
+            } else if ((b & 0xF8) == 0xF0 && i + 3 < to) {
+                int codePoint = (b & 0x07) << 18 | (buffer.get(i + 1) & 0x3F) << 12
+                        | (buffer.get(i + 2) & 0x3F) << 6 | buffer.get(i + 3) & 0x3F;
+                field.append(Character.highSurrogate(codePoint));
+                field.append(Character.lowSurrogate(codePoint));
+                i += 4;
+            } else {
+                field.append(REPLACEMENT);
+                i++;
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package importer;
+
+import model.Coach;
+import model.Exercise;
+import model.Intensity;
+import model.Level;
+import model.User;
+import validation.EmailScanner;
+import validation.FieldRules;
+import validation.TextRule;
+import validation.Validator;
+
+public final class EntityRowMappers {
+    public static final RowMapper<User> USERS = RowMapper.of(3, Validator.<CsvRow>builder()
+            .text("firstName", row -> row.get(0), FieldRules.NAME)
+            .text("lastName", row -> row.get(1), FieldRules.NAME)
+            .check("email", row -> isValidEmail(row.get(2)), row -> row.get(2))
+            .build(), row -> new User(row.getString(0), row.getString(1), row.getString(2)));
+
+    public static final RowMapper<Coach> COACHES = RowMapper.of(4, Validator.<CsvRow>builder()
+            .text("firstName", row -> row.get(0), FieldRules.NAME)
+            .text("lastName", row -> row.get(1), FieldRules.NAME)
+            .check("email", row -> isValidEmail(row.get(2)), row -> row.get(2))
+            .check("experienceYears", row -> FieldRules.EXPERIENCE_YEARS.test(parseInt(row.get(3))), row -> row.get(3))
+            .build(), row -> new Coach(row.getString(0), row.getString(1), row.getString(2), parseInt(row.get(3))));
+
+    public static final RowMapper<Exercise> EXERCISES = RowMapper.of(3, Validator.<CsvRow>builder()
+            .text("name", row -> row.get(0), FieldRules.EXERCISE_NAME)
+            .check("reps", row -> FieldRules.REPS.test(parseInt(row.get(1))), row -> row.get(1))
+            .check("sets", row -> FieldRules.SETS.test(parseInt(row.get(2))), row -> row.get(2))
+            .build(), row -> new Exercise(row.getString(0), parseInt(row.get(1)), parseInt(row.get(2))));
+
+    // Same spellings as ClientUtils.parseLevel and WorkoutUtils.parseIntensity, matched without a String.
+    private static final String[] LEVEL_NAMES = {"beginner", "beg", "intermediate", "inter", "advanced", "adv"};
+    private static final Level[] LEVEL_VALUES = {Level.BEGINNER, Level.BEGINNER, Level.INTERMEDIATE,
+            Level.INTERMEDIATE, Level.ADVANCED, Level.ADVANCED};
+    private static final String[] INTENSITY_NAMES = {"low", "medium", "med", "high"};
+    private static final Intensity[] INTENSITY_VALUES = {Intensity.LOW, Intensity.MEDIUM, Intensity.MEDIUM,
+            Intensity.HIGH};
+
+    public static final RowMapper<Level> LEVELS = RowMapper.of(1, Validator.<CsvRow>builder()
+            .check("level", row -> matchName(row.get(0), LEVEL_NAMES, LEVEL_VALUES) != null, row -> row.get(0))
+            .build(), row -> matchName(row.get(0), LEVEL_NAMES, LEVEL_VALUES));
+
+    public static final RowMapper<Intensity> INTENSITIES = RowMapper.of(1, Validator.<CsvRow>builder()
+            .check("intensity", row -> matchName(row.get(0), INTENSITY_NAMES, INTENSITY_VALUES) != null,
+                    row -> row.get(0))
+            .build(), row -> matchName(row.get(0), INTENSITY_NAMES, INTENSITY_VALUES));
+
+    private EntityRowMappers() {
+    }
+
+    // Users lower-case and trim the address when it is stored.
+    static boolean isValidEmail(CharSequence text) {
+        int start = TextRule.trimStart(text);
+        int end = TextRule.trimEnd(text, start);
+        return EmailScanner.isValid(text, start, end);
+    }
+
+    // Compares the trimmed text ignoring ASCII case.
+    static <E> E matchName(CharSequence text, String[] names, E[] values) {
+        int start = TextRule.trimStart(text);
+        int end = TextRule.trimEnd(text, start);
+        int length = end - start;
+        for (int i = 0; i < names.length; i++) {
+            String name = names[i];
+            if (name.length() != length) {
+                continue;
+            }
+            int j = 0;
+            while (j < length) {
+                char c = text.charAt(start + j);
+                if (c >= 'A' && c <= 'Z') {
+                    c += 'a' - 'A';
+                }
+                if (c != name.charAt(j)) {
+                    break;
+                }
+                j++;
+            }
+            if (j == length) {
+                return values[i];
+            }
+        }
+        return null;
+    }
+
+    // Integer.MIN_VALUE instead of throwing on bad input.
+    static int parseInt(CharSequence text) {
+        int start = TextRule.trimStart(text);
+        int end = TextRule.trimEnd(text, start);
+        boolean negative = start < end && text.charAt(start) == '-';
+        if (negative || (start < end && text.charAt(start) == '+')) {
+            start++;
+        }
+        if (start == end || end - start > 9) {
+            return Integer.MIN_VALUE;
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return Integer.MIN_VALUE;
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+}
@@ -0,0 +1,84 @@
+package importer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Only valid until its row is parsed again; use toString() for values to store.
+public final class FieldSlice implements CharSequence {
+    private static final int BYTES = 0;
+    private static final int CHARS = 1;
+    private static final int DECODED = 2;
+
+    private int mode;
+    private ByteBuffer bytes;
+    private CharSequence chars;
+    private char[] scratch = new char[32];
+    private int start;
+    private int length;
+
+    FieldSlice() {
+    }
+
+    void ofBytes(ByteBuffer bytes, int start, int length) {
+        this.mode = BYTES;
+        this.bytes = bytes;
+        this.start = start;
+        this.length = length;
+    }
+
+    void ofChars(CharSequence chars, int start, int length) {
+        this.mode = CHARS;
+        this.chars = chars;
+        this.start = start;
+        this.length = length;
+    }
+
+    void decoded() {
+        this.mode = DECODED;
+        this.start = 0;
+        this.length = 0;
+    }
+
+    void append(char c) {
+        if (length == scratch.length) {
+            scratch = Arrays.copyOf(scratch, length * 2);
+        }
+        scratch[length++] = c;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+        }
+        return switch (mode) {
+            case BYTES -> (char) bytes.get(start + index);
+            case CHARS -> chars.charAt(start + index);
+            default -> scratch[index];
+        };
+    }
+
+    @Override
+    public CharSequence subSequence(int from, int to) {
+        return toString().substring(from, to);
+    }
+
+    @Override
+    public String toString() {
+        return switch (mode) {
+            case BYTES -> {
+                byte[] copy = new byte[length];
+                bytes.get(start, copy);
+                yield new String(copy, StandardCharsets.ISO_8859_1);
+            }
+            case CHARS -> chars.subSequence(start, start + length).toString();
+            default -> new String(scratch, 0, length);
+        };
+    }
+}
@@ -0,0 +1,52 @@
+package importer;
+
+public record ImportOptions(int workers, int queueCapacity, int batchSize, boolean ordered, boolean skipHeader,
+                            int maxErrors) {
+    private static final int DEFAULT_QUEUE_CAPACITY = 16;
+    private static final int DEFAULT_BATCH_SIZE = 1_000;
+    private static final int DEFAULT_MAX_ERRORS = 10_000;
+
+    public ImportOptions {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("Worker count must be positive");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        if (maxErrors < 0) {
+            throw new IllegalArgumentException("Maximum errors must not be negative");
+        }
+    }
+
+    public static ImportOptions defaults() {
+        int workers = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        return new ImportOptions(workers, DEFAULT_QUEUE_CAPACITY, DEFAULT_BATCH_SIZE, true, true, DEFAULT_MAX_ERRORS);
+    }
+
+    public ImportOptions withWorkers(int workers) {
+        return new ImportOptions(workers, queueCapacity, batchSize, ordered, skipHeader, maxErrors);
+    }
+
+    public ImportOptions withQueueCapacity(int queueCapacity) {
+        return new ImportOptions(workers, queueCapacity, batchSize, ordered, skipHeader, maxErrors);
+    }
+
+    public ImportOptions withBatchSize(int batchSize) {
+        return new ImportOptions(workers, queueCapacity, batchSize, ordered, skipHeader, maxErrors);
+    }
+
+    public ImportOptions withOrdered(boolean ordered) {
+        return new ImportOptions(workers, queueCapacity, batchSize, ordered, skipHeader, maxErrors);
+    }
+
+    public ImportOptions withSkipHeader(boolean skipHeader) {
+        return new ImportOptions(workers, queueCapacity, batchSize, ordered, skipHeader, maxErrors);
+    }
+
+    public ImportOptions withMaxErrors(int maxErrors) {
+        return new ImportOptions(workers, queueCapacity, batchSize, ordered, skipHeader, maxErrors);
+    }
+}
@@ -0,0 +1,24 @@
+package importer;
+
+import validation.ValidationErrors;
+
+import java.util.concurrent.TimeUnit;
+
+public record ImportResult(long rowsRead, long imported, long rejected, long duplicates, ValidationErrors errors,
+                           long elapsedNanos) {
+
+    public double rowsPerSecond() {
+        return elapsedNanos == 0 ? 0 : rowsRead * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "ImportResult{" +
+                "rowsRead=" + rowsRead +
+                ", imported=" + imported +
+                ", rejected=" + rejected +
+                ", duplicates=" + duplicates +
+                ", rowsPerSecond=" + Math.round(rowsPerSecond()) +
+                '}';
+    }
+}
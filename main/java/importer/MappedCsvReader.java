@@ -0,0 +1,120 @@
+package importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// A window is remapped from the first record it cuts off. Not thread-safe.
+public final class MappedCsvReader implements Closeable {
+    static final int DEFAULT_WINDOW_BYTES = 64 << 20;
+    private static final int MAX_WINDOW_BYTES = Integer.MAX_VALUE - 8;
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final CsvRow row = new CsvRow();
+    private int windowBytes;
+    private ByteBuffer window;
+    private long windowStart;
+    private int position;
+    private long nextLine = 1;
+    private long rowLine;
+
+    public MappedCsvReader(Path file) throws IOException {
+        this(file, DEFAULT_WINDOW_BYTES);
+    }
+
+    MappedCsvReader(Path file, int windowBytes) throws IOException {
+        if (windowBytes <= 0) {
+            throw new IllegalArgumentException("Window size must be positive");
+        }
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            this.fileSize = channel.size();
+            this.windowBytes = windowBytes;
+            map(0);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public boolean next() throws IOException {
+        while (windowStart + position < fileSize) {
+            int end = row.parseRecord(window, position, window.limit(), isLastWindow(), true);
+            if (end >= 0) {
+                position = end;
+                rowLine = nextLine;
+                nextLine += row.lineBreaks();
+                return true;
+            }
+            remap();
+        }
+        return false;
+    }
+
+    public CsvRow row() {
+        return row;
+    }
+
+    // Counted from 1.
+    public long getLineNumber() {
+        return rowLine;
+    }
+
+    // Returns whole records as one range of the window; workers re-parse it with their own row.
+    Range nextRange(int maxRecords) throws IOException {
+        while (windowStart + position < fileSize) {
+            int start = position;
+            long firstLine = nextLine;
+            int records = 0;
+            while (records < maxRecords && position < window.limit()) {
+                int end = row.parseRecord(window, position, window.limit(), isLastWindow(), false);
+                if (end < 0) {
+                    break;
+                }
+                position = end;
+                nextLine += row.lineBreaks();
+                records++;
+            }
+            if (records > 0) {
+                return new Range(window, start, position, firstLine);
+            }
+            remap();
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    record Range(ByteBuffer buffer, int start, int end, long firstLine) {
+    }
+
+    private boolean isLastWindow() {
+        return windowStart + window.limit() == fileSize;
+    }
+
+    private void remap() throws IOException {
+        long from = windowStart + position;
+        if (position == 0) {
+            if (windowBytes == MAX_WINDOW_BYTES) {
+                throw new IOException("CSV record at byte " + from + " exceeds " + MAX_WINDOW_BYTES + " bytes");
+            }
+            windowBytes = (int) Math.min((long) windowBytes * 2, MAX_WINDOW_BYTES);
+        }
+        map(from);
+    }
+
+    private void map(long from) throws IOException {
+        long length = Math.min(windowBytes, fileSize - from);
+        window = length == 0 ? ByteBuffer.allocate(0)
+                : channel.map(FileChannel.MapMode.READ_ONLY, from, length);
+        windowStart = from;
+        position = 0;
+    }
+}
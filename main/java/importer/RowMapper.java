@@ -0,0 +1,25 @@
+package importer;
+
+import validation.ValidationErrors;
+import validation.Validator;
+
+import java.util.function.Function;
+
+@FunctionalInterface
+public interface RowMapper<T> {
+    // Null after reporting the rejection; row fields are overwritten by the next row.
+    T map(CsvRow row, long line, ValidationErrors errors);
+
+    static <T> RowMapper<T> of(int columns, Validator<CsvRow> validator, Function<CsvRow, ? extends T> factory) {
+        return (row, line, errors) -> {
+            if (row.size() != columns) {
+                errors.add(line, "columns", row.size());
+                return null;
+            }
+            if (!validator.validate(row, line, errors)) {
+                return null;
+            }
+            return factory.apply(row);
+        };
+    }
+}
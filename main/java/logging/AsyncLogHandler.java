@@ -0,0 +1,174 @@
+package logging;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+public class AsyncLogHandler extends Handler {
+    private static final long POLL_MILLIS = 100;
+
+    private final AsyncLogOptions options;
+    private final ArrayBlockingQueue<LogRecord> buffer;
+    private final Writer writer;
+    private final Thread worker;
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder droppedSinceReport = new LongAdder();
+    private final Object progressLock = new Object();
+    private long written;
+    private volatile boolean running = true;
+
+    public AsyncLogHandler(Path file) throws IOException {
+        this(file, AsyncLogOptions.defaults());
+    }
+
+    public AsyncLogHandler(Path file, AsyncLogOptions options) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        this.options = options;
+        this.buffer = new ArrayBlockingQueue<>(options.bufferCapacity());
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        setFormatter(new CompactFormatter());
+        this.worker = new Thread(this::drainLoop, "async-log-" + file.getFileName());
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (!running || !isLoggable(record)) {
+            return;
+        }
+        if (options.overflowPolicy() == OverflowPolicy.BLOCK) {
+            try {
+                buffer.put(record);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                recordDrop();
+                return;
+            }
+        } else if (!buffer.offer(record)) {
+            recordDrop();
+            return;
+        }
+        enqueued.increment();
+    }
+
+    @Override
+    public void flush() {
+        long target = enqueued.sum();
+        synchronized (progressLock) {
+            boolean interrupted = false;
+            while (written < target && worker.isAlive()) {
+                try {
+                    progressLock.wait(POLL_MILLIS);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (!running) return;
+        running = false;
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            reportError("Failed to close log file", e, ErrorManager.CLOSE_FAILURE);
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public int getQueuedCount() {
+        return buffer.size();
+    }
+
+    private void recordDrop() {
+        dropped.increment();
+        droppedSinceReport.increment();
+    }
+
+    private void drainLoop() {
+        List<LogRecord> batch = new ArrayList<>(options.maxBatchSize());
+        while (true) {
+            LogRecord first;
+            try {
+                first = buffer.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                first = buffer.poll();
+            }
+            if (first == null) {
+                if (!running && buffer.isEmpty()) return;
+                continue;
+            }
+            batch.add(first);
+            buffer.drainTo(batch, options.maxBatchSize() - 1);
+            writeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    private void writeBatch(List<LogRecord> batch) {
+        long droppedRecords = droppedSinceReport.sumThenReset();
+        if (droppedRecords > 0) {
+            LogRecord notice = new LogRecord(Level.WARNING, "Async log buffer full, dropped {0} records");
+            notice.setParameters(new Object[]{droppedRecords});
+            notice.setLoggerName(AsyncLogHandler.class.getName());
+            write(notice);
+        }
+        for (LogRecord record : batch) {
+            write(record);
+        }
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            reportError("Failed to flush log file", e, ErrorManager.FLUSH_FAILURE);
+        }
+        synchronized (progressLock) {
+            written += batch.size();
+            progressLock.notifyAll();
+        }
+    }
+
+    private void write(LogRecord record) {
+        String line;
+        try {
+            line = getFormatter().format(record);
+        } catch (RuntimeException e) {
+            reportError("Failed to format log record", e, ErrorManager.FORMAT_FAILURE);
+            return;
+        }
+        try {
+            writer.write(line);
+        } catch (IOException e) {
+            reportError("Failed to write log record", e, ErrorManager.WRITE_FAILURE);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package logging;
+
+public record AsyncLogOptions(int bufferCapacity, int maxBatchSize, OverflowPolicy overflowPolicy) {
+    private static final int DEFAULT_BUFFER_CAPACITY = 8_192;
+    private static final int DEFAULT_MAX_BATCH_SIZE = 512;
+
+    public AsyncLogOptions {
+        if (bufferCapacity <= 0) {
+            throw new IllegalArgumentException("Buffer capacity must be positive");
+        }
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Maximum batch size must be positive");
+        }
+        if (overflowPolicy == null) {
+            throw new IllegalArgumentException("Overflow policy must not be null");
+        }
+    }
+
+    public static AsyncLogOptions defaults() {
+        return new AsyncLogOptions(DEFAULT_BUFFER_CAPACITY, DEFAULT_MAX_BATCH_SIZE, OverflowPolicy.DROP);
+    }
+
+    public AsyncLogOptions withBufferCapacity(int bufferCapacity) {
+        return new AsyncLogOptions(bufferCapacity, maxBatchSize, overflowPolicy);
+    }
+
+    public AsyncLogOptions withMaxBatchSize(int maxBatchSize) {
+        return new AsyncLogOptions(bufferCapacity, maxBatchSize, overflowPolicy);
+    }
+
+    public AsyncLogOptions withOverflowPolicy(OverflowPolicy overflowPolicy) {
+        return new AsyncLogOptions(bufferCapacity, maxBatchSize, overflowPolicy);
+    }
+}
@@ -0,0 +1,29 @@
+package logging;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.logging.Formatter;
+import java.util.logging.LogRecord;
+
+public class CompactFormatter extends Formatter {
+    private static final DateTimeFormatter TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    @Override
+    public String format(LogRecord record) {
+        StringBuilder line = new StringBuilder(128);
+        TIMESTAMP.formatTo(record.getInstant(), line);
+        line.append(' ').append(record.getLevel().getName())
+                .append(' ').append(record.getLoggerName())
+                .append(" - ").append(formatMessage(record))
+                .append(System.lineSeparator());
+        if (record.getThrown() != null) {
+            StringWriter trace = new StringWriter();
+            record.getThrown().printStackTrace(new PrintWriter(trace));
+            line.append(trace);
+        }
+        return line.toString();
+    }
+}
@@ -0,0 +1,27 @@
+package logging;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public final class LogLevels {
+    // LogManager only holds loggers weakly; keep configured ones reachable so their level survives GC.
+    private static final Map<String, Logger> configured = new ConcurrentHashMap<>();
+
+    private LogLevels() {
+    }
+
+    public static void set(String loggerName, Level level) {
+        Logger logger = configured.computeIfAbsent(loggerName, Logger::getLogger);
+        logger.setLevel(level);
+    }
+
+    public static void set(Class<?> type, Level level) {
+        set(type.getName(), level);
+    }
+
+    public static void apply(Map<String, Level> levels) {
+        levels.forEach(LogLevels::set);
+    }
+}
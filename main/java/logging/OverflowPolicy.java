@@ -0,0 +1,6 @@
+package logging;
+
+public enum OverflowPolicy {
+    DROP,
+    BLOCK
+}
@@ -0,0 +1,127 @@
+package metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyHistogram {
+    // 16 linear sub-buckets per power of two keeps the relative error of any reported value under 6.25%.
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    // Threads record into one of several bucket arrays, chosen by thread id and allocated on first use.
+    private static final int STRIPES = Math.min(8, Integer.highestOneBit(
+            Math.max(1, Runtime.getRuntime().availableProcessors() - 1)) << 1);
+
+    private final AtomicReferenceArray<AtomicLongArray> stripes = new AtomicReferenceArray<>(STRIPES);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        stripe((int) Thread.currentThread().getId() & (STRIPES - 1)).getAndIncrement(indexOf(nanos));
+        count.increment();
+        totalNanos.add(nanos);
+        long max = maxNanos.get();
+        while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+            max = maxNanos.get();
+        }
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public LatencySnapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int s = 0; s < STRIPES; s++) {
+            AtomicLongArray stripe = stripes.get(s);
+            for (int i = 0; stripe != null && i < BUCKET_COUNT; i++) {
+                counts[i] += stripe.get(i);
+            }
+        }
+        for (long bucket : counts) {
+            total += bucket;
+        }
+        long max = maxNanos.get();
+        double mean = total == 0 ? 0 : (double) totalNanos.sum() / total;
+        return new LatencySnapshot(total, mean,
+                percentile(counts, total, 0.50, max),
+                percentile(counts, total, 0.90, max),
+                percentile(counts, total, 0.99, max),
+                percentile(counts, total, 0.999, max),
+                max);
+    }
+
+    public void reset() {
+        for (int s = 0; s < STRIPES; s++) {
+            AtomicLongArray stripe = stripes.get(s);
+            for (int i = 0; stripe != null && i < BUCKET_COUNT; i++) {
+                stripe.set(i, 0);
+            }
+        }
+        count.reset();
+        totalNanos.reset();
+        maxNanos.set(0);
+    }
+
+    int getAllocatedStripeCount() {
+        int allocated = 0;
+        for (int s = 0; s < STRIPES; s++) {
+            if (stripes.get(s) != null) {
+                allocated++;
+            }
+        }
+        return allocated;
+    }
+
+    private AtomicLongArray stripe(int index) {
+        AtomicLongArray stripe = stripes.get(index);
+        if (stripe == null) {
+            stripe = new AtomicLongArray(BUCKET_COUNT);
+            if (!stripes.compareAndSet(index, null, stripe)) {
+                stripe = stripes.get(index);
+            }
+        }
+        return stripe;
+    }
+
+    private static long percentile(long[] counts, long total, double quantile, long max) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    static int indexOf(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) nanos;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBoundOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = index % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return ((SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS)) + width - 1;
+    }
+}
@@ -0,0 +1,140 @@
+package metrics;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+public class RepositoryMetrics {
+    public static final long NOT_SAMPLED = Long.MIN_VALUE;
+    private static final int DEFAULT_SAMPLING_INTERVAL = 16;
+
+    private final LongAdder adds = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder invalidIdentities = new LongAdder();
+    private final LongAdder deletes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LatencyHistogram addLatency = new LatencyHistogram();
+    private final LatencyHistogram deleteLatency = new LatencyHistogram();
+    private final LatencyHistogram findLatency = new LatencyHistogram();
+    private final LatencyHistogram batchLatency = new LatencyHistogram();
+    // Reading the clock costs about as much as a map lookup, so single-item operations are timed on a sample.
+    private volatile int samplingInterval = DEFAULT_SAMPLING_INTERVAL;
+
+    public long startTimer() {
+        int interval = samplingInterval;
+        if (interval > 1 && ThreadLocalRandom.current().nextInt(interval) != 0) {
+            return NOT_SAMPLED;
+        }
+        return System.nanoTime();
+    }
+
+    public void recordAddLatency(long started) {
+        recordSince(addLatency, started);
+    }
+
+    public void recordDeleteLatency(long started) {
+        recordSince(deleteLatency, started);
+    }
+
+    public void recordFindLatency(long started) {
+        recordSince(findLatency, started);
+    }
+
+    public void recordBatchLatency(long started) {
+        recordSince(batchLatency, started);
+    }
+
+    public int getSamplingInterval() {
+        return samplingInterval;
+    }
+
+    public void setSamplingInterval(int samplingInterval) {
+        if (samplingInterval <= 0) {
+            throw new IllegalArgumentException("Sampling interval must be positive");
+        }
+        this.samplingInterval = samplingInterval;
+    }
+
+    public void recordAdds(int count) {
+        adds.add(count);
+    }
+
+    public void recordDuplicates(int count) {
+        duplicates.add(count);
+    }
+
+    public void recordInvalidIdentities(int count) {
+        invalidIdentities.add(count);
+    }
+
+    public void recordDeletes(int count) {
+        deletes.add(count);
+    }
+
+    public void recordHits(int count) {
+        hits.add(count);
+    }
+
+    public void recordMisses(int count) {
+        misses.add(count);
+    }
+
+    public LatencyHistogram getAddLatency() {
+        return addLatency;
+    }
+
+    public LatencyHistogram getDeleteLatency() {
+        return deleteLatency;
+    }
+
+    public LatencyHistogram getFindLatency() {
+        return findLatency;
+    }
+
+    public LatencyHistogram getBatchLatency() {
+        return batchLatency;
+    }
+
+    public long getAddCount() {
+        return adds.sum();
+    }
+
+    public long getDuplicateCount() {
+        return duplicates.sum();
+    }
+
+    public long getInvalidIdentityCount() {
+        return invalidIdentities.sum();
+    }
+
+    public long getDeleteCount() {
+        return deletes.sum();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public void reset() {
+        adds.reset();
+        duplicates.reset();
+        invalidIdentities.reset();
+        deletes.reset();
+        hits.reset();
+        misses.reset();
+        addLatency.reset();
+        deleteLatency.reset();
+        findLatency.reset();
+        batchLatency.reset();
+    }
+
+    private static void recordSince(LatencyHistogram histogram, long started) {
+        if (started != NOT_SAMPLED) {
+            histogram.record(System.nanoTime() - started);
+        }
+    }
+}
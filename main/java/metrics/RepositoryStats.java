@@ -0,0 +1,123 @@
+package metrics;
+
+import javax.management.*;
+import java.lang.management.ManagementFactory;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+public class RepositoryStats implements RepositoryStatsMXBean {
+    private static final String DOMAIN = "repositories";
+
+    private final RepositoryMetrics metrics;
+    private final IntSupplier size;
+    private final LongSupplier estimatedMemory;
+
+    public RepositoryStats(RepositoryMetrics metrics, IntSupplier size, LongSupplier estimatedMemory) {
+        this.metrics = metrics;
+        this.size = size;
+        this.estimatedMemory = estimatedMemory;
+    }
+
+    public ObjectName register(String name) {
+        try {
+            ObjectName objectName = objectNameFor(name);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to register repository MBean " + name, e);
+        }
+    }
+
+    public static void unregister(String name) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = objectNameFor(name);
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to unregister repository MBean " + name, e);
+        }
+    }
+
+    public static ObjectName objectNameFor(String name) throws MalformedObjectNameException {
+        return new ObjectName(DOMAIN + ":type=GenericRepository,name=" + ObjectName.quote(name));
+    }
+
+    @Override
+    public long getAddCount() {
+        return metrics.getAddCount();
+    }
+
+    @Override
+    public long getDuplicateCount() {
+        return metrics.getDuplicateCount();
+    }
+
+    @Override
+    public long getInvalidIdentityCount() {
+        return metrics.getInvalidIdentityCount();
+    }
+
+    @Override
+    public long getDeleteCount() {
+        return metrics.getDeleteCount();
+    }
+
+    @Override
+    public long getHitCount() {
+        return metrics.getHitCount();
+    }
+
+    @Override
+    public long getMissCount() {
+        return metrics.getMissCount();
+    }
+
+    @Override
+    public double getHitRate() {
+        long hits = metrics.getHitCount();
+        long lookups = hits + metrics.getMissCount();
+        return lookups == 0 ? 1.0 : (double) hits / lookups;
+    }
+
+    @Override
+    public int getSize() {
+        return size.getAsInt();
+    }
+
+    @Override
+    public long getEstimatedMemoryBytes() {
+        return estimatedMemory.getAsLong();
+    }
+
+    @Override
+    public int getLatencySamplingInterval() {
+        return metrics.getSamplingInterval();
+    }
+
+    @Override
+    public LatencySnapshot getAddLatency() {
+        return metrics.getAddLatency().snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getDeleteLatency() {
+        return metrics.getDeleteLatency().snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getFindLatency() {
+        return metrics.getFindLatency().snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getBatchLatency() {
+        return metrics.getBatchLatency().snapshot();
+    }
+
+    @Override
+    public void reset() {
+        metrics.reset();
+    }
+}
@@ -0,0 +1,34 @@
+package metrics;
+
+public interface RepositoryStatsMXBean {
+    long getAddCount();
+
+    long getDuplicateCount();
+
+    long getInvalidIdentityCount();
+
+    long getDeleteCount();
+
+    long getHitCount();
+
+    long getMissCount();
+
+    double getHitRate();
+
+    int getSize();
+
+    long getEstimatedMemoryBytes();
+
+    // Add, delete and find latencies are recorded for one operation in this many; counts are exact.
+    int getLatencySamplingInterval();
+
+    LatencySnapshot getAddLatency();
+
+    LatencySnapshot getDeleteLatency();
+
+    LatencySnapshot getFindLatency();
+
+    LatencySnapshot getBatchLatency();
+
+    void reset();
+}
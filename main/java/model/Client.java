@@ -7,7 +7,8 @@ import java.util.Objects;
 
 public class Client extends User{
     private Level level;
-    private Coach coach;
+    private volatile Coach coach;
+    private volatile CoachChangeListener coachListener;
     
     public Client() {
         super();
@@ -31,8 +32,22 @@ public class Client extends User{
         return coach;
     }
     
-    public void setCoach(Coach coach) {
+    // Listeners run under this client's lock, so they see its changes in order.
+    public synchronized void setCoach(Coach coach) {
+        Coach previous = this.coach;
         this.coach = coach;
+        CoachChangeListener listener = coachListener;
+        if (listener != null && previous != coach) {
+            listener.coachChanged(this, previous, coach);
+        }
+    }
+
+    public synchronized void addCoachChangeListener(CoachChangeListener listener) {
+        coachListener = CoachChangeListeners.add(coachListener, listener);
+    }
+
+    public synchronized void removeCoachChangeListener(CoachChangeListener listener) {
+        coachListener = CoachChangeListeners.remove(coachListener, listener);
     }
     
     public static Client createClient(String firstName, String lastName, Level level, Coach coach) {
@@ -0,0 +1,61 @@
+package model;
+
+import java.util.Objects;
+
+public final class ClientSnapshot extends UserSnapshot {
+    private final Level level;
+    private final CoachSnapshot coach;
+    private final int hash;
+
+    public ClientSnapshot(String firstName, String lastName, String email, Level level, CoachSnapshot coach) {
+        super(firstName, lastName, email);
+        this.level = level;
+        this.coach = coach;
+        this.hash = Objects.hash(super.hashCode(), level, coach);
+    }
+
+    public static ClientSnapshot of(Client client) {
+        return client == null ? null : new ClientSnapshot(client.getFirstName(), client.getLastName(),
+                client.getEmail(), client.getLevel(), CoachSnapshot.of(client.getCoach()));
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    public CoachSnapshot getCoach() {
+        return coach;
+    }
+
+    public Client toClient() {
+        return new Client(getFirstName(), getLastName(), getEmail(), level, coach != null ? coach.toCoach() : null);
+    }
+
+    @Override
+    public User toUser() {
+        return toClient();
+    }
+
+    @Override
+    public String toString() {
+        return "ClientSnapshot{" +
+                "firstName='" + getFirstName() + '\'' +
+                ", lastName='" + getLastName() + '\'' +
+                ", email='" + getEmail() + '\'' +
+                ", level='" + level + '\'' +
+                ", coach=" + (coach != null ? coach.getEmail() : "No Coach") +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ClientSnapshot client) || hash != client.hash) return false;
+        return level == client.level && Objects.equals(coach, client.coach) && super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
@@ -0,0 +1,6 @@
+package model;
+
+@FunctionalInterface
+public interface CoachChangeListener {
+    void coachChanged(Client client, Coach previous, Coach current);
+}
@@ -0,0 +1,51 @@
+package model;
+
+// Immutable; a client with a single listener holds it directly.
+final class CoachChangeListeners implements CoachChangeListener {
+    private final CoachChangeListener first;
+    private final CoachChangeListener second;
+
+    private CoachChangeListeners(CoachChangeListener first, CoachChangeListener second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    static CoachChangeListener add(CoachChangeListener existing, CoachChangeListener added) {
+        if (existing == null) {
+            return added;
+        }
+        if (added == null || contains(existing, added)) {
+            return existing;
+        }
+        return new CoachChangeListeners(existing, added);
+    }
+
+    static CoachChangeListener remove(CoachChangeListener existing, CoachChangeListener removed) {
+        if (existing == removed) {
+            return null;
+        }
+        if (!(existing instanceof CoachChangeListeners chain)) {
+            return existing;
+        }
+        CoachChangeListener first = remove(chain.first, removed);
+        CoachChangeListener second = remove(chain.second, removed);
+        if (first == chain.first && second == chain.second) {
+            return existing;
+        }
+        return first == null ? second : second == null ? first : new CoachChangeListeners(first, second);
+    }
+
+    private static boolean contains(CoachChangeListener existing, CoachChangeListener listener) {
+        if (existing == listener) {
+            return true;
+        }
+        return existing instanceof CoachChangeListeners chain
+                && (contains(chain.first, listener) || contains(chain.second, listener));
+    }
+
+    @Override
+    public void coachChanged(Client client, Coach previous, Coach current) {
+        first.coachChanged(client, previous, current);
+        second.coachChanged(client, previous, current);
+    }
+}
@@ -0,0 +1,54 @@
+package model;
+
+import java.util.Objects;
+
+public final class CoachSnapshot extends UserSnapshot {
+    private final int experienceYears;
+    private final int hash;
+
+    public CoachSnapshot(String firstName, String lastName, String email, int experienceYears) {
+        super(firstName, lastName, email);
+        this.experienceYears = experienceYears;
+        this.hash = Objects.hash(super.hashCode(), experienceYears);
+    }
+
+    public static CoachSnapshot of(Coach coach) {
+        return coach == null ? null : new CoachSnapshot(coach.getFirstName(), coach.getLastName(),
+                coach.getEmail(), coach.getExperienceYears());
+    }
+
+    public int getExperienceYears() {
+        return experienceYears;
+    }
+
+    public Coach toCoach() {
+        return new Coach(getFirstName(), getLastName(), getEmail(), experienceYears);
+    }
+
+    @Override
+    public User toUser() {
+        return toCoach();
+    }
+
+    @Override
+    public String toString() {
+        return "CoachSnapshot{" +
+                "firstName='" + getFirstName() + '\'' +
+                ", lastName='" + getLastName() + '\'' +
+                ", email='" + getEmail() + '\'' +
+                ", experienceYears=" + experienceYears +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CoachSnapshot coach) || hash != coach.hash) return false;
+        return experienceYears == coach.experienceYears && super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
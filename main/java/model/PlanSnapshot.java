@@ -0,0 +1,62 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+// Workouts are immutable records and are shared with the source plan; Plan allows null entries.
+public final class PlanSnapshot {
+    private final Long startMillis;
+    private final ClientSnapshot client;
+    private final List<Workout> workouts;
+    private final int hash;
+
+    public PlanSnapshot(Date startDate, ClientSnapshot client, List<Workout> workouts) {
+        this.startMillis = startDate != null ? startDate.getTime() : null;
+        this.client = client;
+        this.workouts = workouts != null ? Collections.unmodifiableList(new ArrayList<>(workouts)) : List.of();
+        this.hash = Objects.hash(startDate, client, this.workouts);
+    }
+
+    public static PlanSnapshot of(Plan plan) {
+        return plan == null ? null
+                : new PlanSnapshot(plan.getStartDate(), ClientSnapshot.of(plan.getClient()), plan.getWorkouts());
+    }
+
+    public Date getStartDate() {
+        return startMillis != null ? new Date(startMillis) : null;
+    }
+
+    public ClientSnapshot getClient() {
+        return client;
+    }
+
+    public List<Workout> getWorkouts() {
+        return workouts;
+    }
+
+    @Override
+    public String toString() {
+        return "PlanSnapshot{" +
+                "startDate=" + getStartDate() +
+                ", client=" + (client != null ? client.getEmail() : "No Client") +
+                ", workouts=" + workouts.size() +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PlanSnapshot plan) || hash != plan.hash) return false;
+        return Objects.equals(startMillis, plan.startMillis) &&
+                Objects.equals(client, plan.client) &&
+                workouts.equals(plan.workouts);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
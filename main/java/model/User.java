@@ -29,7 +29,7 @@ public class User {
 
     public  void setFirstName(String firstName) {
         if (UserUtils.isValidName(firstName)) {
-            this.firstName = UserUtils.capitalizeText(firstName);
+            this.firstName = UserUtils.canonicalName(firstName);
         }
     }
 
@@ -39,7 +39,7 @@ public class User {
 
     public  void setLastName(String lastName) {
         if (UserUtils.isValidName(lastName)) {
-            this.lastName = UserUtils.capitalizeText(lastName);
+            this.lastName = UserUtils.canonicalName(lastName);
         }
     }
 
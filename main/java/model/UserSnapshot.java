@@ -0,0 +1,72 @@
+package model;
+
+import java.util.Objects;
+
+// Hash code uses the same formula as User and is computed once.
+public class UserSnapshot {
+    private final String firstName;
+    private final String lastName;
+    private final String email;
+    private final int userHash;
+
+    public UserSnapshot(String firstName, String lastName, String email) {
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.userHash = Objects.hash(firstName, lastName, email);
+    }
+
+    public static UserSnapshot of(User user) {
+        if (user == null) {
+            return null;
+        }
+        if (user instanceof Coach coach) {
+            return CoachSnapshot.of(coach);
+        }
+        if (user instanceof Client client) {
+            return ClientSnapshot.of(client);
+        }
+        return new UserSnapshot(user.getFirstName(), user.getLastName(), user.getEmail());
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public User toUser() {
+        return new User(firstName, lastName, email);
+    }
+
+    @Override
+    public String toString() {
+        return "UserSnapshot{" +
+                "firstName='" + firstName + '\'' +
+                ", lastName='" + lastName + '\'' +
+                ", email='" + email + '\'' +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        UserSnapshot other = (UserSnapshot) o;
+        return userHash == other.userHash &&
+                Objects.equals(email, other.email) &&
+                Objects.equals(firstName, other.firstName) &&
+                Objects.equals(lastName, other.lastName);
+    }
+
+    @Override
+    public int hashCode() {
+        return userHash;
+    }
+}
@@ -0,0 +1,260 @@
+package persistence;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+final class ColumnEncoding {
+    private static final long[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000};
+    private static final double MAX_SCALED = 1L << 52;
+    private static final int XOR_DOUBLES = 0xFF;
+    private static final int LEADING_BITS = 5;
+    private static final int MAX_LEADING_ZEROS = (1 << LEADING_BITS) - 1;
+    private static final int LENGTH_BITS = 6;
+
+    private ColumnEncoding() {
+    }
+
+    static void encodeTimestamps(long[] values, int count, Sink out) {
+        long previous = 0;
+        long previousDelta = 0;
+        for (int i = 0; i < count; i++) {
+            long delta = values[i] - previous;
+            out.writeVarLong(zigZag(delta - previousDelta));
+            previous = values[i];
+            previousDelta = delta;
+        }
+    }
+
+    static void decodeTimestamps(ByteBuffer in, long[] values, int count) {
+        long previous = 0;
+        long delta = 0;
+        for (int i = 0; i < count; i++) {
+            delta += unZigZag(readVarLong(in));
+            previous += delta;
+            values[i] = previous;
+        }
+    }
+
+    // Scaled integers when every value has few decimals, otherwise XOR with the previous value.
+    static void encodeDoubles(double[] values, int count, Sink out) {
+        int scale = decimalScale(values, count);
+        if (scale >= 0) {
+            out.writeByte(scale);
+            long power = POWERS_OF_TEN[scale];
+            long previous = 0;
+            for (int i = 0; i < count; i++) {
+                long scaled = Math.round(values[i] * power);
+                out.writeVarLong(zigZag(scaled - previous));
+                previous = scaled;
+            }
+            return;
+        }
+        out.writeByte(XOR_DOUBLES);
+        long previous = 0;
+        int leading = Integer.MAX_VALUE;
+        int trailing = 0;
+        for (int i = 0; i < count; i++) {
+            long bits = Double.doubleToRawLongBits(values[i]);
+            long xor = bits ^ previous;
+            previous = bits;
+            if (xor == 0) {
+                out.writeBits(0, 1);
+                continue;
+            }
+            int newLeading = Math.min(Long.numberOfLeadingZeros(xor), MAX_LEADING_ZEROS);
+            int newTrailing = Long.numberOfTrailingZeros(xor);
+            if (newLeading >= leading && newTrailing >= trailing) {
+                out.writeBits(0b10, 2);
+                out.writeBits(xor >>> trailing, 64 - leading - trailing);
+            } else {
+                leading = newLeading;
+                trailing = newTrailing;
+                int significant = 64 - leading - trailing;
+                out.writeBits(0b11, 2);
+                out.writeBits(leading, LEADING_BITS);
+                out.writeBits(significant - 1, LENGTH_BITS);
+                out.writeBits(xor >>> trailing, significant);
+            }
+        }
+        out.alignBits();
+    }
+
+    static void decodeDoubles(ByteBuffer in, double[] values, int count) {
+        int scale = in.get() & 0xFF;
+        if (scale != XOR_DOUBLES) {
+            double power = POWERS_OF_TEN[scale];
+            long scaled = 0;
+            for (int i = 0; i < count; i++) {
+                scaled += unZigZag(readVarLong(in));
+                values[i] = scaled / power;
+            }
+            return;
+        }
+        BitSource source = new BitSource(in);
+        long previous = 0;
+        int leading = 0;
+        int trailing = 0;
+        for (int i = 0; i < count; i++) {
+            if (source.readBits(1) != 0) {
+                if (source.readBits(1) != 0) {
+                    leading = (int) source.readBits(LEADING_BITS);
+                    int significant = (int) source.readBits(LENGTH_BITS) + 1;
+                    trailing = 64 - leading - significant;
+                }
+                previous ^= source.readBits(64 - leading - trailing) << trailing;
+            }
+            values[i] = Double.longBitsToDouble(previous);
+        }
+    }
+
+    static void encodeRuns(int[] values, int count, Sink out) {
+        int i = 0;
+        while (i < count) {
+            int value = values[i];
+            int run = 1;
+            while (i + run < count && values[i + run] == value) {
+                run++;
+            }
+            out.writeVarLong(zigZag(value));
+            out.writeVarLong(run);
+            i += run;
+        }
+    }
+
+    static void decodeRuns(ByteBuffer in, int[] values, int count) {
+        int i = 0;
+        while (i < count) {
+            int value = (int) unZigZag(readVarLong(in));
+            int run = (int) readVarLong(in);
+            if (run <= 0 || run > count - i) {
+                throw new IllegalStateException("Corrupt run length " + run + " at row " + i);
+            }
+            Arrays.fill(values, i, i + run, value);
+            i += run;
+        }
+    }
+
+    private static int decimalScale(double[] values, int count) {
+        for (int scale = 0; scale < POWERS_OF_TEN.length; scale++) {
+            if (isScaledExactly(values, count, POWERS_OF_TEN[scale])) {
+                return scale;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isScaledExactly(double[] values, int count, long power) {
+        for (int i = 0; i < count; i++) {
+            double scaled = values[i] * power;
+            if (!(Math.abs(scaled) < MAX_SCALED) || Double.doubleToRawLongBits(Math.round(scaled) / (double) power)
+                    != Double.doubleToRawLongBits(values[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint");
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static final class Sink {
+        private byte[] bytes = new byte[1 << 16];
+        private int size;
+        private int pending;
+        private int pendingBits;
+
+        int size() {
+            return size;
+        }
+
+        ByteBuffer toByteBuffer() {
+            return ByteBuffer.wrap(bytes, 0, size);
+        }
+
+        void reset() {
+            size = 0;
+            pending = 0;
+            pendingBits = 0;
+        }
+
+        void writeByte(int b) {
+            if (size == bytes.length) {
+                bytes = Arrays.copyOf(bytes, size * 2);
+            }
+            bytes[size++] = (byte) b;
+        }
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                writeByte((int) (value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            writeByte((int) value);
+        }
+
+        void writeBits(long value, int bits) {
+            while (bits > 0) {
+                int take = Math.min(bits, 8 - pendingBits);
+                int chunk = (int) (value >>> (bits - take)) & ((1 << take) - 1);
+                pending = (pending << take) | chunk;
+                pendingBits += take;
+                bits -= take;
+                if (pendingBits == 8) {
+                    writeByte(pending);
+                    pending = 0;
+                    pendingBits = 0;
+                }
+            }
+        }
+
+        void alignBits() {
+            if (pendingBits > 0) {
+                writeByte(pending << (8 - pendingBits));
+                pending = 0;
+                pendingBits = 0;
+            }
+        }
+    }
+
+    private static final class BitSource {
+        private final ByteBuffer in;
+        private int current;
+        private int available;
+
+        private BitSource(ByteBuffer in) {
+            this.in = in;
+        }
+
+        private long readBits(int bits) {
+            long value = 0;
+            while (bits > 0) {
+                if (available == 0) {
+                    current = in.get() & 0xFF;
+                    available = 8;
+                }
+                int take = Math.min(bits, available);
+                value = (value << take) | ((current >>> (available - take)) & ((1 << take) - 1));
+                available -= take;
+                bits -= take;
+            }
+            return value;
+        }
+    }
+}
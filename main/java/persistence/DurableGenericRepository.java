@@ -0,0 +1,238 @@
+package persistence;
+
+import repositories.BatchResult;
+import repositories.ConcurrentGenericRepository;
+import repositories.IdentityExtractor;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+public class DurableGenericRepository<T> extends ConcurrentGenericRepository<T> implements Closeable {
+    private static final Logger logger = Logger.getLogger(DurableGenericRepository.class.getName());
+    private static final String SNAPSHOT_FILE = "snapshot.dat";
+    private static final int REPLAY_BATCH_SIZE = 10_000;
+
+    private final Path directory;
+    private final IdentityExtractor<T> identityExtractor;
+    private final EntityCodec<T> codec;
+    private final WalOptions options;
+    private final SnapshotBackedMap<T> items;
+    private final Object mutationLock = new Object();
+    private final Object compactionLock = new Object();
+    private final WriteAheadLog wal;
+    private final ScheduledExecutorService compactor;
+    private boolean recovering;
+
+    private DurableGenericRepository(Path directory, IdentityExtractor<T> identityExtractor, EntityCodec<T> codec,
+                                     WalOptions options, SnapshotBackedMap<T> items) throws IOException {
+        super(identityExtractor, items);
+        this.directory = directory;
+        this.identityExtractor = identityExtractor;
+        this.codec = codec;
+        this.options = options;
+        this.items = items;
+
+        long nextGeneration = recover();
+        this.wal = new WriteAheadLog(directory, nextGeneration, options.syncOnCommit());
+
+        if (options.compactionCheckMillis() > 0) {
+            this.compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "wal-compactor-" + directory.getFileName());
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.compactor.scheduleWithFixedDelay(this::compactIfNeeded,
+                    options.compactionCheckMillis(), options.compactionCheckMillis(), TimeUnit.MILLISECONDS);
+        } else {
+            this.compactor = null;
+        }
+    }
+
+    public static <T> DurableGenericRepository<T> open(Path directory, IdentityExtractor<T> identityExtractor,
+                                                       EntityCodec<T> codec) throws IOException {
+        return open(directory, identityExtractor, codec, WalOptions.defaults());
+    }
+
+    public static <T> DurableGenericRepository<T> open(Path directory, IdentityExtractor<T> identityExtractor,
+                                                       EntityCodec<T> codec, WalOptions options) throws IOException {
+        Files.createDirectories(directory);
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        MappedSnapshot<T> base = Files.exists(snapshot) ? MappedSnapshot.open(snapshot, codec) : null;
+        try {
+            return new DurableGenericRepository<>(directory, identityExtractor, codec, options, new SnapshotBackedMap<>(base));
+        } catch (IOException | RuntimeException e) {
+            if (base != null) {
+                base.close();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void add(T item) {
+        long sequence;
+        synchronized (mutationLock) {
+            super.add(item);
+            sequence = wal.lastSequence();
+        }
+        wal.awaitDurable(sequence);
+    }
+
+    @Override
+    public BatchResult addAll(Collection<? extends T> batch) {
+        BatchResult result;
+        long sequence;
+        synchronized (mutationLock) {
+            result = super.addAll(batch);
+            sequence = wal.lastSequence();
+        }
+        wal.awaitDurable(sequence);
+        return result;
+    }
+
+    @Override
+    public boolean delete(String identity) {
+        boolean deleted;
+        long sequence;
+        synchronized (mutationLock) {
+            deleted = super.delete(identity);
+            sequence = wal.lastSequence();
+        }
+        wal.awaitDurable(sequence);
+        return deleted;
+    }
+
+    @Override
+    public BatchResult deleteAll(Iterable<String> identities) {
+        BatchResult result;
+        long sequence;
+        synchronized (mutationLock) {
+            result = super.deleteAll(identities);
+            sequence = wal.lastSequence();
+        }
+        wal.awaitDurable(sequence);
+        return result;
+    }
+
+    public void compact() throws IOException {
+        synchronized (compactionLock) {
+            long generation;
+            synchronized (mutationLock) {
+                generation = wal.rotate();
+            }
+            long written = MappedSnapshot.write(directory.resolve(SNAPSHOT_FILE), generation,
+                    stream()::iterator, identityExtractor, codec);
+            wal.deleteSegmentsBefore(generation);
+            logger.info("Compacted write-ahead log into snapshot of " + written + " items");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (compactor != null) {
+            compactor.shutdownNow();
+        }
+        synchronized (compactionLock) {
+            wal.close();
+        }
+        if (items.getBase() != null) {
+            items.getBase().close();
+        }
+    }
+
+    @Override
+    protected void onAdded(String identity, T item) {
+        if (recovering) return;
+        wal.append(WriteAheadLog.ADD, encode(identity, item));
+    }
+
+    @Override
+    protected void onDeleted(String identity, T item) {
+        if (recovering) return;
+        wal.append(WriteAheadLog.DELETE, encode(identity, null));
+    }
+
+    private void compactIfNeeded() {
+        try {
+            if (wal.getSegmentBytes() >= options.compactionThresholdBytes()) {
+                compact();
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Background compaction failed: " + e.getMessage());
+        }
+    }
+
+    private long recover() throws IOException {
+        long started = System.nanoTime();
+        recovering = true;
+        try {
+            List<T> pendingAdds = new ArrayList<>();
+            List<String> pendingDeletes = new ArrayList<>();
+            MappedSnapshot<T> snapshot = items.getBase();
+            long snapshotGeneration = snapshot != null ? snapshot.getWalGeneration() : 0;
+            long snapshotItems = snapshot != null ? snapshot.size() : 0;
+
+            long records = 0;
+            long nextGeneration = snapshotGeneration;
+            for (WriteAheadLog.SegmentFile segment : WriteAheadLog.listSegments(directory)) {
+                if (segment.generation() < snapshotGeneration) {
+                    Files.deleteIfExists(segment.path());
+                    continue;
+                }
+                records += WriteAheadLog.replay(segment.path(), (type, payload) -> {
+                    String identity = payload.readUTF();
+                    if (type == WriteAheadLog.ADD) {
+                        if (!pendingDeletes.isEmpty()) flushReplay(pendingAdds, pendingDeletes);
+                        pendingAdds.add(codec.decode(payload));
+                    } else if (type == WriteAheadLog.DELETE) {
+                        if (!pendingAdds.isEmpty()) flushReplay(pendingAdds, pendingDeletes);
+                        pendingDeletes.add(identity);
+                    }
+                    if (pendingAdds.size() + pendingDeletes.size() >= REPLAY_BATCH_SIZE) {
+                        flushReplay(pendingAdds, pendingDeletes);
+                    }
+                });
+                flushReplay(pendingAdds, pendingDeletes);
+                nextGeneration = Math.max(nextGeneration, segment.generation() + 1);
+            }
+
+            logger.info("Recovered " + size() + " items (" + snapshotItems + " in snapshot, " + records
+                    + " log records) in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) + " ms");
+            return nextGeneration;
+        } finally {
+            recovering = false;
+        }
+    }
+
+    private void flushReplay(List<T> pendingAdds, List<String> pendingDeletes) {
+        if (!pendingAdds.isEmpty()) {
+            super.addAll(pendingAdds);
+            pendingAdds.clear();
+        }
+        if (!pendingDeletes.isEmpty()) {
+            super.deleteAll(pendingDeletes);
+            pendingDeletes.clear();
+        }
+    }
+
+    private byte[] encode(String identity, T item) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(identity);
+            if (item != null) {
+                codec.encode(item, out);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,11 @@
+package persistence;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+public interface EntityCodec<T> {
+    void encode(T item, DataOutput out) throws IOException;
+
+    T decode(DataInput in) throws IOException;
+}
@@ -0,0 +1,89 @@
+package persistence;
+
+import model.*;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+public class EntityCodecs {
+    public static final EntityCodec<User> USER = new EntityCodec<>() {
+        @Override
+        public void encode(User user, DataOutput out) throws IOException {
+            writeNullableString(out, user.getFirstName());
+            writeNullableString(out, user.getLastName());
+            writeNullableString(out, user.getEmail());
+        }
+
+        @Override
+        public User decode(DataInput in) throws IOException {
+            return new User(readNullableString(in), readNullableString(in), readNullableString(in));
+        }
+    };
+
+    public static final EntityCodec<Coach> COACH = new EntityCodec<>() {
+        @Override
+        public void encode(Coach coach, DataOutput out) throws IOException {
+            USER.encode(coach, out);
+            out.writeInt(coach.getExperienceYears());
+        }
+
+        @Override
+        public Coach decode(DataInput in) throws IOException {
+            String firstName = readNullableString(in);
+            String lastName = readNullableString(in);
+            String email = readNullableString(in);
+            return new Coach(firstName, lastName, email, in.readInt());
+        }
+    };
+
+    public static final EntityCodec<Client> CLIENT = new EntityCodec<>() {
+        @Override
+        public void encode(Client client, DataOutput out) throws IOException {
+            USER.encode(client, out);
+            out.writeByte(client.getLevel() != null ? client.getLevel().ordinal() : -1);
+            out.writeBoolean(client.getCoach() != null);
+            if (client.getCoach() != null) {
+                COACH.encode(client.getCoach(), out);
+            }
+        }
+
+        @Override
+        public Client decode(DataInput in) throws IOException {
+            String firstName = readNullableString(in);
+            String lastName = readNullableString(in);
+            String email = readNullableString(in);
+            byte level = in.readByte();
+            Coach coach = in.readBoolean() ? COACH.decode(in) : null;
+            return new Client(firstName, lastName, email, level >= 0 ? Level.values()[level] : null, coach);
+        }
+    };
+
+    public static final EntityCodec<Exercise> EXERCISE = new EntityCodec<>() {
+        @Override
+        public void encode(Exercise exercise, DataOutput out) throws IOException {
+            out.writeUTF(exercise.name());
+            out.writeInt(exercise.reps());
+            out.writeInt(exercise.sets());
+        }
+
+        @Override
+        public Exercise decode(DataInput in) throws IOException {
+            return new Exercise(in.readUTF(), in.readInt(), in.readInt());
+        }
+    };
+
+    private EntityCodecs() {
+    }
+
+    static void writeNullableString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    static String readNullableString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
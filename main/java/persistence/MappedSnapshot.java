@@ -0,0 +1,384 @@
+package persistence;
+
+import repositories.GenericRepository;
+import repositories.IdentityExtractor;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+
+public class MappedSnapshot<T> implements Closeable {
+    private static final int MAGIC = 0x4D534E31;
+    private static final short VERSION = 1;
+    private static final int HEADER_BYTES = 64;
+    private static final int SLOT_BYTES = Integer.BYTES;
+    private static final int ENTRY_BYTES = Integer.BYTES + Long.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES;
+    private static final int EMPTY_SLOT = -1;
+    private static final long CHUNK_BYTES = 1L << 30;
+    private static final int LOAD_BATCH_SIZE = 10_000;
+
+    private final Path path;
+    private final EntityCodec<T> codec;
+    private final MappedByteBuffer[] chunks;
+    private final long walGeneration;
+    private final int count;
+    private final int slotMask;
+    private final long slotsOffset;
+    private final long entriesOffset;
+    private final AtomicReferenceArray<T> decoded;
+
+    private MappedSnapshot(Path path, EntityCodec<T> codec) throws IOException {
+        this.path = path;
+        this.codec = codec;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length < HEADER_BYTES) {
+                throw new IOException("Truncated snapshot: " + path);
+            }
+            int chunkCount = (int) ((length + CHUNK_BYTES - 1) / CHUNK_BYTES);
+            chunks = new MappedByteBuffer[chunkCount];
+            for (int i = 0; i < chunkCount; i++) {
+                long start = i * CHUNK_BYTES;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(CHUNK_BYTES, length - start));
+            }
+
+            if (getInt(0) != MAGIC) {
+                throw new IOException("Not a mapped repository snapshot: " + path);
+            }
+            short version = chunks[0].getShort(4);
+            if (version != VERSION) {
+                throw new IOException("Unsupported snapshot version " + version + ": " + path);
+            }
+            walGeneration = getLong(8);
+            count = getInt(16);
+            int slotCount = getInt(20);
+            slotsOffset = getLong(24);
+            entriesOffset = getLong(32);
+            long expectedLength = getLong(40);
+            if (expectedLength != length || Integer.bitCount(slotCount) != 1) {
+                throw new IOException("Corrupt snapshot header: " + path);
+            }
+            slotMask = slotCount - 1;
+        }
+        decoded = new AtomicReferenceArray<>(count);
+    }
+
+    public static <T> MappedSnapshot<T> open(Path path, EntityCodec<T> codec) throws IOException {
+        return new MappedSnapshot<>(path, codec);
+    }
+
+    public static <T> long write(Path target, long walGeneration, Iterable<? extends T> items,
+                                 IdentityExtractor<T> identityExtractor, EntityCodec<T> codec) throws IOException {
+        Path keysFile = target.resolveSibling(target.getFileName() + ".keys.tmp");
+        Path dataFile = target.resolveSibling(target.getFileName() + ".data.tmp");
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+
+        EntryTable table = new EntryTable();
+        try {
+            try (CountingOutput keys = new CountingOutput(keysFile);
+                 CountingOutput data = new CountingOutput(dataFile)) {
+                for (T item : items) {
+                    String identity = identityExtractor.extractIdentity(item);
+                    byte[] key = identity.getBytes(StandardCharsets.UTF_8);
+                    long keyOffset = keys.position();
+                    keys.out.write(key);
+                    long dataOffset = data.position();
+                    codec.encode(item, data.out);
+                    table.add(identity.hashCode(), keyOffset, key.length, dataOffset, (int) (data.position() - dataOffset));
+                }
+            }
+
+            int slotCount = Integer.highestOneBit(Math.max(2, table.size * 2 - 1)) << 1;
+            long slotsOffset = HEADER_BYTES;
+            long entriesOffset = slotsOffset + (long) slotCount * SLOT_BYTES;
+            long keysOffset = entriesOffset + (long) table.size * ENTRY_BYTES;
+            long dataOffset = keysOffset + Files.size(keysFile);
+            long totalLength = dataOffset + Files.size(dataFile);
+
+            try (FileChannel out = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+                header.putInt(MAGIC).putShort(VERSION).putShort((short) 0)
+                        .putLong(walGeneration)
+                        .putInt(table.size)
+                        .putInt(slotCount)
+                        .putLong(slotsOffset)
+                        .putLong(entriesOffset)
+                        .putLong(totalLength)
+                        .rewind();
+                writeFully(out, header);
+
+                int[] slots = new int[slotCount];
+                Arrays.fill(slots, EMPTY_SLOT);
+                int mask = slotCount - 1;
+                for (int i = 0; i < table.size; i++) {
+                    int slot = spread(table.hashes[i]) & mask;
+                    while (slots[slot] != EMPTY_SLOT) {
+                        slot = (slot + 1) & mask;
+                    }
+                    slots[slot] = i;
+                }
+                ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+                for (int slot : slots) {
+                    if (buffer.remaining() < SLOT_BYTES) flushBuffer(out, buffer);
+                    buffer.putInt(slot);
+                }
+                for (int i = 0; i < table.size; i++) {
+                    if (buffer.remaining() < ENTRY_BYTES) flushBuffer(out, buffer);
+                    buffer.putInt(table.hashes[i])
+                            .putLong(keysOffset + table.keyOffsets[i])
+                            .putInt(table.keyLengths[i])
+                            .putLong(dataOffset + table.dataOffsets[i])
+                            .putInt(table.dataLengths[i]);
+                }
+                flushBuffer(out, buffer);
+
+                transferAll(keysFile, out);
+                transferAll(dataFile, out);
+                out.force(true);
+            }
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return table.size;
+        } finally {
+            Files.deleteIfExists(keysFile);
+            Files.deleteIfExists(dataFile);
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    public T findByIdentity(String identity) {
+        if (identity == null || identity.trim().isEmpty()) {
+            return null;
+        }
+        int index = indexOf(identity);
+        return index >= 0 ? itemAt(index) : null;
+    }
+
+    public boolean contains(String identity) {
+        return identity != null && indexOf(identity) >= 0;
+    }
+
+    public String identityAt(int index) {
+        long entry = entryOffset(index);
+        return new String(read(getLong(entry + 4), getInt(entry + 12)), StandardCharsets.UTF_8);
+    }
+
+    public T itemAt(int index) {
+        T item = decoded.get(index);
+        if (item != null) {
+            return item;
+        }
+        long entry = entryOffset(index);
+        byte[] bytes = read(getLong(entry + 16), getInt(entry + 24));
+        try {
+            item = codec.decode(new DataInputStream(new ByteArrayInputStream(bytes)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt snapshot entry " + index + " in " + path, e);
+        }
+        return decoded.compareAndSet(index, null, item) ? item : decoded.get(index);
+    }
+
+    public void forEach(BiConsumer<String, ? super T> action) {
+        for (int i = 0; i < count; i++) {
+            action.accept(identityAt(i), itemAt(i));
+        }
+    }
+
+    public void loadInto(GenericRepository<T> repository) {
+        List<T> batch = new ArrayList<>(Math.min(count, LOAD_BATCH_SIZE));
+        for (int i = 0; i < count; i++) {
+            batch.add(itemAt(i));
+            if (batch.size() == LOAD_BATCH_SIZE) {
+                repository.addAll(batch);
+                batch.clear();
+            }
+        }
+        repository.addAll(batch);
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public long getWalGeneration() {
+        return walGeneration;
+    }
+
+    @Override
+    public void close() {
+        Arrays.fill(chunks, null);
+    }
+
+    private int indexOf(String identity) {
+        if (count == 0) {
+            return -1;
+        }
+        int hash = identity.hashCode();
+        byte[] key = null;
+        int slot = spread(hash) & slotMask;
+        while (true) {
+            int index = getInt(slotsOffset + (long) slot * SLOT_BYTES);
+            if (index == EMPTY_SLOT) {
+                return -1;
+            }
+            long entry = entryOffset(index);
+            if (getInt(entry) == hash) {
+                if (key == null) {
+                    key = identity.getBytes(StandardCharsets.UTF_8);
+                }
+                if (keyEquals(getLong(entry + 4), getInt(entry + 12), key)) {
+                    return index;
+                }
+            }
+            slot = (slot + 1) & slotMask;
+        }
+    }
+
+    private boolean keyEquals(long offset, int length, byte[] key) {
+        if (length != key.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (byteAt(offset + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long entryOffset(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Snapshot entry " + index + " out of range [0, " + count + ")");
+        }
+        return entriesOffset + (long) index * ENTRY_BYTES;
+    }
+
+    private byte byteAt(long offset) {
+        return chunks[(int) (offset / CHUNK_BYTES)].get((int) (offset % CHUNK_BYTES));
+    }
+
+    private int byte1(long offset) {
+        return byteAt(offset) & 0xFF;
+    }
+
+    private int getInt(long offset) {
+        int chunk = (int) (offset / CHUNK_BYTES);
+        int position = (int) (offset % CHUNK_BYTES);
+        if (position + Integer.BYTES <= chunks[chunk].limit()) {
+            return chunks[chunk].getInt(position);
+        }
+        return (byte1(offset) << 24) | (byte1(offset + 1) << 16) | (byte1(offset + 2) << 8) | byte1(offset + 3);
+    }
+
+    private long getLong(long offset) {
+        return ((long) getInt(offset) << 32) | (getInt(offset + 4) & 0xFFFFFFFFL);
+    }
+
+    private byte[] read(long offset, int length) {
+        byte[] bytes = new byte[length];
+        int copied = 0;
+        while (copied < length) {
+            long position = offset + copied;
+            MappedByteBuffer chunk = chunks[(int) (position / CHUNK_BYTES)];
+            int start = (int) (position % CHUNK_BYTES);
+            int run = Math.min(length - copied, chunk.limit() - start);
+            chunk.get(start, bytes, copied, run);
+            copied += run;
+        }
+        return bytes;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    private static void flushBuffer(FileChannel out, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        writeFully(out, buffer);
+        buffer.clear();
+    }
+
+    private static void transferAll(Path source, FileChannel out) throws IOException {
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+            long position = 0;
+            long size = in.size();
+            while (position < size) {
+                position += in.transferTo(position, size - position, out);
+            }
+        }
+    }
+
+    private static final class EntryTable {
+        private int size;
+        private int[] hashes = new int[1024];
+        private long[] keyOffsets = new long[1024];
+        private int[] keyLengths = new int[1024];
+        private long[] dataOffsets = new long[1024];
+        private int[] dataLengths = new int[1024];
+
+        private void add(int hash, long keyOffset, int keyLength, long dataOffset, int dataLength) {
+            if (size == hashes.length) {
+                int capacity = size * 2;
+                hashes = Arrays.copyOf(hashes, capacity);
+                keyOffsets = Arrays.copyOf(keyOffsets, capacity);
+                keyLengths = Arrays.copyOf(keyLengths, capacity);
+                dataOffsets = Arrays.copyOf(dataOffsets, capacity);
+                dataLengths = Arrays.copyOf(dataLengths, capacity);
+            }
+            hashes[size] = hash;
+            keyOffsets[size] = keyOffset;
+            keyLengths[size] = keyLength;
+            dataOffsets[size] = dataOffset;
+            dataLengths[size] = dataLength;
+            size++;
+        }
+    }
+
+    private static final class CountingOutput implements Closeable {
+        private final DataOutputStream out;
+        private long written;
+
+        private CountingOutput(Path path) throws IOException {
+            OutputStream file = new BufferedOutputStream(Files.newOutputStream(path), 1 << 16);
+            this.out = new DataOutputStream(new FilterOutputStream(file) {
+                @Override
+                public void write(int b) throws IOException {
+                    out.write(b);
+                    written++;
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                    written += len;
+                }
+            });
+        }
+
+        private long position() {
+            return written;
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package persistence;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+// Reused for every block a reader decodes; copy out values that outlive the callback.
+public final class ProgressBlock {
+    private final Set<ProgressColumn> columns;
+    private final List<String> clientIds;
+    private long[] epochMillis = new long[0];
+    private double[] weights = new double[0];
+    private double[] bmis = new double[0];
+    private int[] clientIndexes = new int[0];
+    private int size;
+    private int capacity;
+
+    ProgressBlock(Set<ProgressColumn> columns, List<String> clientIds) {
+        this.columns = EnumSet.copyOf(columns);
+        this.clientIds = clientIds;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean hasColumn(ProgressColumn column) {
+        return columns.contains(column);
+    }
+
+    public long getEpochMillis(int row) {
+        require(ProgressColumn.EPOCH_MILLIS, row);
+        return epochMillis[row];
+    }
+
+    public double getWeight(int row) {
+        require(ProgressColumn.WEIGHT, row);
+        return weights[row];
+    }
+
+    public double getBmi(int row) {
+        require(ProgressColumn.BMI, row);
+        return bmis[row];
+    }
+
+    // -1 if the row has no client.
+    public int getClientIndex(int row) {
+        require(ProgressColumn.CLIENT_ID, row);
+        return clientIndexes[row];
+    }
+
+    public String getClientId(int row) {
+        int index = getClientIndex(row);
+        return index >= 0 ? clientIds.get(index) : null;
+    }
+
+    void resize(int rows) {
+        size = rows;
+        if (capacity < rows) {
+            capacity = rows;
+            epochMillis = columns.contains(ProgressColumn.EPOCH_MILLIS) ? new long[rows] : epochMillis;
+            weights = columns.contains(ProgressColumn.WEIGHT) ? new double[rows] : weights;
+            bmis = columns.contains(ProgressColumn.BMI) ? new double[rows] : bmis;
+            clientIndexes = columns.contains(ProgressColumn.CLIENT_ID) ? new int[rows] : clientIndexes;
+        }
+    }
+
+    long[] epochMillis() {
+        return epochMillis;
+    }
+
+    double[] weights() {
+        return weights;
+    }
+
+    double[] bmis() {
+        return bmis;
+    }
+
+    int[] clientIndexes() {
+        return clientIndexes;
+    }
+
+    private void require(ProgressColumn column, int row) {
+        if (!columns.contains(column)) {
+            throw new IllegalStateException("Column " + column + " was not projected");
+        }
+        Objects.checkIndex(row, size);
+    }
+}
@@ -0,0 +1,9 @@
+package persistence;
+
+// In storage order within a block.
+public enum ProgressColumn {
+    EPOCH_MILLIS,
+    WEIGHT,
+    BMI,
+    CLIENT_ID
+}
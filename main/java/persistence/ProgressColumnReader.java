@@ -0,0 +1,174 @@
+package persistence;
+
+import model.Client;
+import model.Progress;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// Reads only the chunks of the projected columns.
+public class ProgressColumnReader implements Closeable {
+    private static final int COLUMNS = ProgressColumn.values().length;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final long rowCount;
+    private final int[] blockRows;
+    private final long[][] offsets;
+    private final int[][] lengths;
+    private final List<String> clientIds;
+    private ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+    private long bytesRead;
+
+    private ProgressColumnReader(Path path) throws IOException {
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long length = channel.size();
+            if (length < ProgressColumnWriter.HEADER_BYTES + ProgressColumnWriter.TRAILER_BYTES) {
+                throw new IOException("Truncated progress column file: " + path);
+            }
+            ByteBuffer header = read(0, ProgressColumnWriter.HEADER_BYTES);
+            if (header.getInt() != ProgressColumnWriter.MAGIC) {
+                throw new IOException("Not a progress column file: " + path);
+            }
+            short version = header.getShort();
+            if (version != ProgressColumnWriter.VERSION) {
+                throw new IOException("Unsupported progress column file version " + version + ": " + path);
+            }
+            ByteBuffer trailer = read(length - ProgressColumnWriter.TRAILER_BYTES, ProgressColumnWriter.TRAILER_BYTES);
+            long footerOffset = trailer.getLong();
+            if (trailer.getInt() != ProgressColumnWriter.MAGIC || footerOffset < ProgressColumnWriter.HEADER_BYTES
+                    || footerOffset > length - ProgressColumnWriter.TRAILER_BYTES) {
+                throw new IOException("Corrupt progress column file trailer: " + path);
+            }
+            ByteBuffer footer = read(footerOffset, (int) (length - ProgressColumnWriter.TRAILER_BYTES - footerOffset));
+            DataInputStream in = new DataInputStream(
+                    new ByteArrayInputStream(footer.array(), footer.position(), footer.remaining()));
+            rowCount = in.readLong();
+            int blockCount = in.readInt();
+            blockRows = new int[blockCount];
+            offsets = new long[blockCount][COLUMNS];
+            lengths = new int[blockCount][COLUMNS];
+            for (int i = 0; i < blockCount; i++) {
+                blockRows[i] = in.readInt();
+                for (int column = 0; column < COLUMNS; column++) {
+                    offsets[i][column] = in.readLong();
+                    lengths[i][column] = in.readInt();
+                }
+            }
+            int clientCount = in.readInt();
+            List<String> ids = new ArrayList<>(clientCount);
+            for (int i = 0; i < clientCount; i++) {
+                ids.add(in.readUTF());
+            }
+            clientIds = Collections.unmodifiableList(ids);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        } catch (RuntimeException e) {
+            channel.close();
+            throw new IOException("Corrupt progress column file: " + path, e);
+        }
+    }
+
+    public static ProgressColumnReader open(Path path) throws IOException {
+        return new ProgressColumnReader(path);
+    }
+
+    public long size() {
+        return rowCount;
+    }
+
+    public int getBlockCount() {
+        return blockRows.length;
+    }
+
+    // Indexed by ProgressBlock.getClientIndex.
+    public List<String> getClientIds() {
+        return clientIds;
+    }
+
+    // Includes the header and footer read on open.
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    public void forEachBlock(Set<ProgressColumn> columns, Consumer<? super ProgressBlock> action) throws IOException {
+        if (columns == null || columns.isEmpty() || action == null) {
+            throw new IllegalArgumentException("Columns must not be empty and action must not be null");
+        }
+        ProgressBlock block = new ProgressBlock(columns, clientIds);
+        for (int i = 0; i < blockRows.length; i++) {
+            int rows = blockRows[i];
+            block.resize(rows);
+            for (ProgressColumn column : columns) {
+                ByteBuffer chunk = read(offsets[i][column.ordinal()], lengths[i][column.ordinal()]);
+                try {
+                    switch (column) {
+                        case EPOCH_MILLIS -> ColumnEncoding.decodeTimestamps(chunk, block.epochMillis(), rows);
+                        case WEIGHT -> ColumnEncoding.decodeDoubles(chunk, block.weights(), rows);
+                        case BMI -> ColumnEncoding.decodeDoubles(chunk, block.bmis(), rows);
+                        case CLIENT_ID -> ColumnEncoding.decodeRuns(chunk, block.clientIndexes(), rows);
+                    }
+                } catch (RuntimeException e) {
+                    throw new IOException("Corrupt " + column + " chunk in block " + i + " of " + path, e);
+                }
+            }
+            action.accept(block);
+        }
+    }
+
+    // Identities that clients cannot resolve leave the client unset.
+    public List<Progress> readAll(Function<String, ? extends Client> clients) throws IOException {
+        if (clients == null) {
+            throw new IllegalArgumentException("Client lookup must not be null");
+        }
+        Client[] resolved = new Client[clientIds.size()];
+        for (int i = 0; i < resolved.length; i++) {
+            resolved[i] = clients.apply(clientIds.get(i));
+        }
+        List<Progress> progress = new ArrayList<>((int) Math.min(rowCount, Integer.MAX_VALUE));
+        forEachBlock(EnumSet.allOf(ProgressColumn.class), block -> {
+            for (int row = 0; row < block.size(); row++) {
+                int client = block.getClientIndex(row);
+                progress.add(new Progress(new Date(block.getEpochMillis(row)), block.getWeight(row),
+                        block.getBmi(row), client >= 0 ? resolved[client] : null));
+            }
+        });
+        return progress;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private ByteBuffer read(long offset, int length) throws IOException {
+        if (length < 0 || offset < 0 || offset + length > channel.size()) {
+            throw new IOException("Chunk at " + offset + " of " + length + " bytes is outside " + path);
+        }
+        if (buffer.capacity() < length) {
+            buffer = ByteBuffer.allocate(Math.max(length, buffer.capacity() * 2));
+        }
+        buffer.clear().limit(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of " + path);
+            }
+        }
+        bytesRead += length;
+        return buffer.flip();
+    }
+}
@@ -0,0 +1,219 @@
+package persistence;
+
+import model.Client;
+import model.Progress;
+import repositories.IdentityExtractor;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Written to a temporary sibling and moved into place on close().
+public class ProgressColumnWriter implements Closeable {
+    static final int MAGIC = 0x50434631;
+    static final short VERSION = 1;
+    static final int HEADER_BYTES = Integer.BYTES + Short.BYTES + Short.BYTES;
+    static final int TRAILER_BYTES = Long.BYTES + Integer.BYTES;
+    static final int DEFAULT_BLOCK_ROWS = 64 * 1024;
+    static final int NO_CLIENT = -1;
+
+    private final Path target;
+    private final Path temporary;
+    private final FileChannel channel;
+    private final IdentityExtractor<Client> clientIdentity;
+    private final int blockRows;
+    private final long[] epochMillis;
+    private final double[] weights;
+    private final double[] bmis;
+    private final int[] clientIndexes;
+    private final ColumnEncoding.Sink sink = new ColumnEncoding.Sink();
+    private final Map<String, Integer> clientDictionary = new HashMap<>();
+    private final List<String> clientIds = new ArrayList<>();
+    private final BlockTable blocks = new BlockTable();
+    private int buffered;
+    private long position;
+    private long rowCount;
+    private boolean closed;
+
+    public ProgressColumnWriter(Path target) throws IOException {
+        this(target, Client::getEmail, DEFAULT_BLOCK_ROWS);
+    }
+
+    public ProgressColumnWriter(Path target, IdentityExtractor<Client> clientIdentity, int blockRows) throws IOException {
+        if (target == null || clientIdentity == null) {
+            throw new IllegalArgumentException("Target and client identity extractor must not be null");
+        }
+        if (blockRows <= 0) {
+            throw new IllegalArgumentException("Block rows must be positive");
+        }
+        this.target = target;
+        this.temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        this.clientIdentity = clientIdentity;
+        this.blockRows = blockRows;
+        this.epochMillis = new long[blockRows];
+        this.weights = new double[blockRows];
+        this.bmis = new double[blockRows];
+        this.clientIndexes = new int[blockRows];
+        this.channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).putShort(VERSION).putShort((short) 0).flip();
+            writeFully(header);
+        } catch (IOException e) {
+            discard();
+            throw e;
+        }
+    }
+
+    public static long write(Path target, Iterable<? extends Progress> items) throws IOException {
+        try (ProgressColumnWriter writer = new ProgressColumnWriter(target)) {
+            for (Progress progress : items) {
+                writer.write(progress);
+            }
+            return writer.getRowCount();
+        }
+    }
+
+    public void write(Progress progress) throws IOException {
+        if (progress == null || progress.getDate() == null) {
+            throw new IllegalArgumentException("Progress and its date must not be null");
+        }
+        Client client = progress.getClient();
+        write(progress.getDate().getTime(), progress.getWeight(), progress.getBmi(),
+                client != null ? clientIdentity.extractIdentity(client) : null);
+    }
+
+    public void write(long epochMillis, double weight, double bmi, String clientId) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Writer is closed");
+        }
+        this.epochMillis[buffered] = epochMillis;
+        this.weights[buffered] = weight;
+        this.bmis[buffered] = bmi;
+        this.clientIndexes[buffered] = clientId != null ? clientIndex(clientId) : NO_CLIENT;
+        buffered++;
+        rowCount++;
+        if (buffered == blockRows) {
+            flushBlock();
+        }
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            flushBlock();
+            long footerOffset = position;
+            writeFully(ByteBuffer.wrap(footer()));
+            ByteBuffer trailer = ByteBuffer.allocate(TRAILER_BYTES);
+            trailer.putLong(footerOffset).putInt(MAGIC).flip();
+            writeFully(trailer);
+            channel.force(true);
+            channel.close();
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            discard();
+            throw e;
+        }
+    }
+
+    private int clientIndex(String clientId) {
+        Integer index = clientDictionary.get(clientId);
+        if (index == null) {
+            index = clientIds.size();
+            clientDictionary.put(clientId, index);
+            clientIds.add(clientId);
+        }
+        return index;
+    }
+
+    private void flushBlock() throws IOException {
+        if (buffered == 0) {
+            return;
+        }
+        long[] offsets = new long[ProgressColumn.values().length];
+        int[] lengths = new int[offsets.length];
+        for (ProgressColumn column : ProgressColumn.values()) {
+            sink.reset();
+            switch (column) {
+                case EPOCH_MILLIS -> ColumnEncoding.encodeTimestamps(epochMillis, buffered, sink);
+                case WEIGHT -> ColumnEncoding.encodeDoubles(weights, buffered, sink);
+                case BMI -> ColumnEncoding.encodeDoubles(bmis, buffered, sink);
+                case CLIENT_ID -> ColumnEncoding.encodeRuns(clientIndexes, buffered, sink);
+            }
+            offsets[column.ordinal()] = position;
+            lengths[column.ordinal()] = sink.size();
+            writeFully(sink.toByteBuffer());
+        }
+        blocks.add(buffered, offsets, lengths);
+        buffered = 0;
+    }
+
+    private byte[] footer() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeLong(rowCount);
+        out.writeInt(blocks.size);
+        for (int i = 0; i < blocks.size; i++) {
+            out.writeInt(blocks.rows[i]);
+            for (int column = 0; column < ProgressColumn.values().length; column++) {
+                out.writeLong(blocks.offsets[i][column]);
+                out.writeInt(blocks.lengths[i][column]);
+            }
+        }
+        out.writeInt(clientIds.size());
+        for (String clientId : clientIds) {
+            out.writeUTF(clientId);
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer);
+        }
+    }
+
+    private void discard() throws IOException {
+        closed = true;
+        channel.close();
+        Files.deleteIfExists(temporary);
+    }
+
+    private static final class BlockTable {
+        private int size;
+        private int[] rows = new int[64];
+        private long[][] offsets = new long[64][];
+        private int[][] lengths = new int[64][];
+
+        private void add(int blockRows, long[] blockOffsets, int[] blockLengths) {
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+                offsets = Arrays.copyOf(offsets, size * 2);
+                lengths = Arrays.copyOf(lengths, size * 2);
+            }
+            rows[size] = blockRows;
+            offsets[size] = blockOffsets;
+            lengths[size] = blockLengths;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package persistence;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// Reads fall through to the mapped snapshot, which decodes on first access; only writes are held in memory.
+final class SnapshotBackedMap<V> extends AbstractMap<String, V> implements ConcurrentMap<String, V> {
+    private final MappedSnapshot<V> base;
+    private final Map<String, V> written = new ConcurrentHashMap<>();
+    private final Set<String> removed = ConcurrentHashMap.newKeySet();
+    private volatile int size;
+
+    SnapshotBackedMap(MappedSnapshot<V> base) {
+        this.base = base;
+        this.size = base != null ? base.size() : 0;
+    }
+
+    MappedSnapshot<V> getBase() {
+        return base;
+    }
+
+    int getWrittenCount() {
+        return written.size();
+    }
+
+    @Override
+    public V get(Object key) {
+        if (!(key instanceof String identity)) {
+            return null;
+        }
+        V value = written.get(identity);
+        if (value != null || base == null || removed.contains(identity)) {
+            return value;
+        }
+        return base.findByIdentity(identity);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public synchronized V put(String key, V value) {
+        Objects.requireNonNull(value);
+        V previous = get(key);
+        written.put(key, value);
+        if (previous == null) {
+            size++;
+        }
+        return previous;
+    }
+
+    @Override
+    public synchronized V putIfAbsent(String key, V value) {
+        Objects.requireNonNull(value);
+        V previous = get(key);
+        if (previous == null) {
+            written.put(key, value);
+            size++;
+        }
+        return previous;
+    }
+
+    @Override
+    public synchronized V remove(Object key) {
+        V previous = get(key);
+        if (previous == null) {
+            return null;
+        }
+        String identity = (String) key;
+        written.remove(identity);
+        if (base != null && base.contains(identity)) {
+            removed.add(identity);
+        }
+        size--;
+        return previous;
+    }
+
+    @Override
+    public synchronized boolean remove(Object key, Object value) {
+        V current = get(key);
+        if (current == null || !current.equals(value)) {
+            return false;
+        }
+        remove(key);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean replace(String key, V oldValue, V newValue) {
+        Objects.requireNonNull(newValue);
+        V current = get(key);
+        if (current == null || !current.equals(oldValue)) {
+            return false;
+        }
+        written.put(key, newValue);
+        return true;
+    }
+
+    @Override
+    public synchronized V replace(String key, V value) {
+        Objects.requireNonNull(value);
+        V current = get(key);
+        if (current != null) {
+            written.put(key, value);
+        }
+        return current;
+    }
+
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    // Written entries first, then snapshot entries that were neither removed nor rewritten.
+    private final class EntryIterator implements Iterator<Entry<String, V>> {
+        private final Iterator<Entry<String, V>> writtenEntries = written.entrySet().iterator();
+        private final int baseCount = base != null ? base.size() : 0;
+        private int index;
+        private Entry<String, V> next = advance();
+
+        private Entry<String, V> advance() {
+            if (writtenEntries.hasNext()) {
+                return writtenEntries.next();
+            }
+            while (index < baseCount) {
+                int current = index++;
+                String identity = base.identityAt(current);
+                if (!removed.contains(identity) && !written.containsKey(identity)) {
+                    return new SnapshotEntry(identity, current);
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Entry<String, V> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Entry<String, V> current = next;
+            next = advance();
+            return current;
+        }
+    }
+
+    private final class SnapshotEntry implements Entry<String, V> {
+        private final String identity;
+        private final int index;
+
+        private SnapshotEntry(String identity, int index) {
+            this.identity = identity;
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return identity;
+        }
+
+        @Override
+        public V getValue() {
+            return base.itemAt(index);
+        }
+
+        @Override
+        public V setValue(V value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Entry<?, ?> entry && identity.equals(entry.getKey())
+                    && Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return identity.hashCode() ^ Objects.hashCode(getValue());
+        }
+    }
+}
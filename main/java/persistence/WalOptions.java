@@ -0,0 +1,24 @@
+package persistence;
+
+public record WalOptions(boolean syncOnCommit, long compactionThresholdBytes, long compactionCheckMillis) {
+    private static final long DEFAULT_COMPACTION_THRESHOLD_BYTES = 64L * 1024 * 1024;
+    private static final long DEFAULT_COMPACTION_CHECK_MILLIS = 10_000;
+
+    public WalOptions {
+        if (compactionThresholdBytes <= 0) {
+            throw new IllegalArgumentException("Compaction threshold must be positive");
+        }
+    }
+
+    public static WalOptions defaults() {
+        return new WalOptions(true, DEFAULT_COMPACTION_THRESHOLD_BYTES, DEFAULT_COMPACTION_CHECK_MILLIS);
+    }
+
+    public WalOptions withSyncOnCommit(boolean syncOnCommit) {
+        return new WalOptions(syncOnCommit, compactionThresholdBytes, compactionCheckMillis);
+    }
+
+    public WalOptions withCompaction(long thresholdBytes, long checkMillis) {
+        return new WalOptions(syncOnCommit, thresholdBytes, checkMillis);
+    }
+}
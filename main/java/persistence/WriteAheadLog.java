@@ -0,0 +1,317 @@
+package persistence;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+public class WriteAheadLog implements Closeable {
+    public static final byte ADD = 1;
+    public static final byte DELETE = 2;
+
+    private static final Logger logger = Logger.getLogger(WriteAheadLog.class.getName());
+    private static final int MAGIC = 0x57414C31;
+    private static final short VERSION = 1;
+    private static final int SEGMENT_HEADER_BYTES = Integer.BYTES + Short.BYTES + Long.BYTES;
+    private static final int RECORD_HEADER_BYTES = Integer.BYTES + Integer.BYTES;
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    @FunctionalInterface
+    public interface RecordHandler {
+        void onRecord(byte type, DataInput payload) throws IOException;
+    }
+
+    private final Path directory;
+    private final boolean syncOnCommit;
+    private final Object bufferLock = new Object();
+    private final Object ioLock = new Object();
+    private final Thread committer;
+
+    private ByteArrayOutputStream pending = new ByteArrayOutputStream(64 * 1024);
+    private ByteArrayOutputStream flushing = new ByteArrayOutputStream(64 * 1024);
+    private long appendedSequence;
+    private long durableSequence;
+    private IOException failure;
+    private volatile boolean running = true;
+
+    private FileChannel channel;
+    private long generation;
+    private long segmentBytes;
+
+    public WriteAheadLog(Path directory, long generation, boolean syncOnCommit) throws IOException {
+        this.directory = directory;
+        this.syncOnCommit = syncOnCommit;
+        Files.createDirectories(directory);
+        openSegment(generation);
+        this.committer = new Thread(this::commitLoop, "wal-committer-" + directory.getFileName());
+        this.committer.setDaemon(true);
+        this.committer.start();
+    }
+
+    public long append(byte type, byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(type);
+        crc.update(payload);
+        synchronized (bufferLock) {
+            if (!running) {
+                throw new IllegalStateException("Write-ahead log is closed");
+            }
+            writeInt(pending, payload.length + 1);
+            writeInt(pending, (int) crc.getValue());
+            pending.write(type);
+            pending.write(payload, 0, payload.length);
+            appendedSequence++;
+            bufferLock.notifyAll();
+            return appendedSequence;
+        }
+    }
+
+    public void awaitDurable(long sequence) {
+        synchronized (bufferLock) {
+            boolean interrupted = false;
+            while (durableSequence < sequence && failure == null) {
+                try {
+                    bufferLock.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            if (failure != null) {
+                throw new UncheckedIOException("Write-ahead log commit failed", failure);
+            }
+        }
+    }
+
+    public long lastSequence() {
+        synchronized (bufferLock) {
+            return appendedSequence;
+        }
+    }
+
+    public long rotate() throws IOException {
+        synchronized (ioLock) {
+            flush();
+            channel.close();
+            openSegment(generation + 1);
+            return generation;
+        }
+    }
+
+    public long getGeneration() {
+        synchronized (ioLock) {
+            return generation;
+        }
+    }
+
+    public long getSegmentBytes() {
+        synchronized (ioLock) {
+            return segmentBytes;
+        }
+    }
+
+    public void deleteSegmentsBefore(long generation) throws IOException {
+        for (SegmentFile segment : listSegments(directory)) {
+            if (segment.generation() < generation) {
+                Files.deleteIfExists(segment.path());
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (bufferLock) {
+            if (!running) return;
+            running = false;
+            bufferLock.notifyAll();
+        }
+        try {
+            committer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (ioLock) {
+            try {
+                flush();
+            } catch (IOException e) {
+                synchronized (bufferLock) {
+                    failure = e;
+                    bufferLock.notifyAll();
+                }
+                throw e;
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    public static List<SegmentFile> listSegments(Path directory) throws IOException {
+        List<SegmentFile> segments = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return segments;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(path -> {
+                String name = path.getFileName().toString();
+                if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                    String number = name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length());
+                    try {
+                        segments.add(new SegmentFile(Long.parseLong(number), path));
+                    } catch (NumberFormatException e) {
+                        logger.warning("Ignoring unexpected file in log directory: " + name);
+                    }
+                }
+            });
+        }
+        segments.sort((a, b) -> Long.compare(a.generation(), b.generation()));
+        return segments;
+    }
+
+    public static long replay(Path segment, RecordHandler handler) throws IOException {
+        long records = 0;
+        long validBytes;
+        long fileSize = Files.size(segment);
+        if (fileSize < SEGMENT_HEADER_BYTES) {
+            logger.warning("Skipping segment without complete header: " + segment.getFileName());
+            return 0;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(segment), 1 << 16))) {
+            if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+                throw new IOException("Not a write-ahead log segment: " + segment);
+            }
+            in.readLong();
+            validBytes = SEGMENT_HEADER_BYTES;
+
+            byte[] buffer = new byte[256];
+            CRC32 crc = new CRC32();
+            while (true) {
+                int length;
+                int checksum;
+                try {
+                    length = in.readInt();
+                    checksum = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                if (length <= 0 || validBytes + RECORD_HEADER_BYTES + length > fileSize) {
+                    break;
+                }
+                if (buffer.length < length) {
+                    buffer = new byte[Math.max(length, buffer.length * 2)];
+                }
+                try {
+                    in.readFully(buffer, 0, length);
+                } catch (EOFException e) {
+                    break;
+                }
+                crc.reset();
+                crc.update(buffer, 0, length);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+
+                handler.onRecord(buffer[0], new DataInputStream(new ByteArrayInputStream(buffer, 1, length - 1)));
+                validBytes += RECORD_HEADER_BYTES + length;
+                records++;
+            }
+        }
+
+        if (validBytes < fileSize) {
+            logger.warning("Truncating torn tail of " + segment.getFileName() + " at byte " + validBytes);
+            try (FileChannel truncate = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                truncate.truncate(validBytes);
+            }
+        }
+        return records;
+    }
+
+    private void openSegment(long generation) throws IOException {
+        Path path = directory.resolve(SEGMENT_PREFIX + generation + SEGMENT_SUFFIX);
+        channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER_BYTES);
+        header.putInt(MAGIC).putShort(VERSION).putLong(generation).flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+        if (syncOnCommit) {
+            channel.force(true);
+        }
+        this.generation = generation;
+        this.segmentBytes = SEGMENT_HEADER_BYTES;
+    }
+
+    private void commitLoop() {
+        while (true) {
+            synchronized (bufferLock) {
+                while (running && pending.size() == 0) {
+                    try {
+                        bufferLock.wait();
+                    } catch (InterruptedException e) {
+                        running = false;
+                    }
+                }
+                if (!running) {
+                    return;
+                }
+            }
+            try {
+                synchronized (ioLock) {
+                    flush();
+                }
+            } catch (IOException e) {
+                synchronized (bufferLock) {
+                    failure = e;
+                    bufferLock.notifyAll();
+                }
+                logger.severe("Write-ahead log commit failed: " + e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private void flush() throws IOException {
+        ByteArrayOutputStream batch;
+        long upTo;
+        synchronized (bufferLock) {
+            batch = pending;
+            pending = flushing;
+            flushing = batch;
+            upTo = appendedSequence;
+        }
+
+        if (batch.size() > 0) {
+            batch.writeTo(Channels.newOutputStream(channel));
+            if (syncOnCommit) {
+                channel.force(false);
+            }
+            segmentBytes += batch.size();
+            batch.reset();
+        }
+
+        synchronized (bufferLock) {
+            durableSequence = Math.max(durableSequence, upTo);
+            bufferLock.notifyAll();
+        }
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, int value) {
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    public record SegmentFile(long generation, Path path) {
+    }
+}
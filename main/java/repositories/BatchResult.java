@@ -0,0 +1,28 @@
+package repositories;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public record BatchResult(int succeeded, int skipped, List<String> rejectedIdentities) {
+    public static final BatchResult EMPTY = new BatchResult(0, 0, List.of());
+
+    public BatchResult {
+        rejectedIdentities = rejectedIdentities == null
+                ? List.of()
+                : Collections.unmodifiableList(new ArrayList<>(rejectedIdentities));
+    }
+
+    public int rejected() {
+        return rejectedIdentities.size();
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResult{" +
+                "succeeded=" + succeeded +
+                ", skipped=" + skipped +
+                ", rejected=" + rejected() +
+                '}';
+    }
+}
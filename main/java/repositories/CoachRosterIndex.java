@@ -0,0 +1,145 @@
+package repositories;
+
+import model.Client;
+import model.Coach;
+import model.CoachChangeListener;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Listens to indexed clients, so setCoach moves them between rosters as it happens.
+public class CoachRosterIndex implements SecondaryIndex<Client>, CoachChangeListener {
+    private static final String UNASSIGNED = "";
+
+    private final String name;
+    private final IdentityExtractor<Client> clientIdentity;
+    private final IdentityExtractor<Coach> coachIdentity;
+    private final Map<String, Client> clients = new ConcurrentHashMap<>();
+    private final Map<String, String> assignments = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> rosters = new ConcurrentHashMap<>();
+
+    public CoachRosterIndex(String name) {
+        this(name, Client::getEmail, Coach::getEmail);
+    }
+
+    public CoachRosterIndex(String name, IdentityExtractor<Client> clientIdentity, IdentityExtractor<Coach> coachIdentity) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Index name must not be empty");
+        }
+        if (clientIdentity == null || coachIdentity == null) {
+            throw new IllegalArgumentException("Identity extractors must not be null");
+        }
+        this.name = name;
+        this.clientIdentity = clientIdentity;
+        this.coachIdentity = coachIdentity;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    // Under the client's lock, so a concurrent setCoach is seen either here or by the listener.
+    @Override
+    public void onAdd(String identity, Client client) {
+        synchronized (client) {
+            client.addCoachChangeListener(this);
+            clients.put(identity, client);
+            assignments.compute(identity, (id, previous) -> {
+                String coach = coachKey(client.getCoach());
+                move(id, previous, coach);
+                return coach;
+            });
+        }
+    }
+
+    @Override
+    public void onRemove(String identity, Client client) {
+        synchronized (client) {
+            client.removeCoachChangeListener(this);
+            clients.remove(identity, client);
+            assignments.computeIfPresent(identity, (id, previous) -> {
+                move(id, previous, UNASSIGNED);
+                return null;
+            });
+        }
+    }
+
+    @Override
+    public void coachChanged(Client client, Coach previous, Coach current) {
+        String identity = clientIdentity.extractIdentity(client);
+        if (identity == null) {
+            return;
+        }
+        String coach = coachKey(current);
+        assignments.computeIfPresent(identity, (id, assigned) -> {
+            move(id, assigned, coach);
+            return coach;
+        });
+    }
+
+    // Live read-only view; key is a Coach or its identity.
+    @Override
+    public Set<String> identitiesFor(Object key) {
+        Set<String> roster = rosterOf(key);
+        return roster != null ? Collections.unmodifiableSet(roster) : Collections.emptySet();
+    }
+
+    public int rosterSize(Object key) {
+        Set<String> roster = rosterOf(key);
+        return roster != null ? roster.size() : 0;
+    }
+
+    public String coachOf(String clientIdentity) {
+        String coach = clientIdentity == null ? null : assignments.get(clientIdentity);
+        return coach == null || coach.isEmpty() ? null : coach;
+    }
+
+    public Set<String> coaches() {
+        return Collections.unmodifiableSet(rosters.keySet());
+    }
+
+    @Override
+    public void clear() {
+        for (Client client : clients.values()) {
+            client.removeCoachChangeListener(this);
+        }
+        clients.clear();
+        assignments.clear();
+        rosters.clear();
+    }
+
+    private Set<String> rosterOf(Object key) {
+        String coach = key instanceof Coach c ? coachKey(c) : key instanceof String s ? s : null;
+        return coach == null || coach.isEmpty() ? null : rosters.get(coach);
+    }
+
+    private void move(String identity, String from, String to) {
+        if (to.equals(from)) {
+            return;
+        }
+        if (from != null && !from.isEmpty()) {
+            rosters.computeIfPresent(from, (coach, roster) -> {
+                roster.remove(identity);
+                return roster.isEmpty() ? null : roster;
+            });
+        }
+        if (!to.isEmpty()) {
+            rosters.compute(to, (coach, roster) -> {
+                Set<String> target = roster != null ? roster : ConcurrentHashMap.newKeySet();
+                target.add(identity);
+                return target;
+            });
+        }
+    }
+
+    private String coachKey(Coach coach) {
+        if (coach == null) {
+            return UNASSIGNED;
+        }
+        String identity = coachIdentity.extractIdentity(coach);
+        return identity == null || identity.trim().isEmpty() ? UNASSIGNED : identity;
+    }
+}
@@ -0,0 +1,20 @@
+package repositories;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public class ConcurrentGenericRepository<T> extends GenericRepository<T> {
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    public ConcurrentGenericRepository(IdentityExtractor<T> identityExtractor) {
+        this(identityExtractor, DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public ConcurrentGenericRepository(IdentityExtractor<T> identityExtractor, int initialCapacity) {
+        super(identityExtractor, new ConcurrentHashMap<>(initialCapacity));
+    }
+
+    protected ConcurrentGenericRepository(IdentityExtractor<T> identityExtractor, ConcurrentMap<String, T> items) {
+        super(identityExtractor, items);
+    }
+}
@@ -1,69 +1,505 @@
 package repositories;
 
+import metrics.RepositoryMetrics;
+import metrics.RepositoryStats;
+
+import javax.management.ObjectName;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 public class GenericRepository<T> {
     private static final Logger logger = Logger.getLogger(GenericRepository.class.getName());
-    private final Map<String, T> items;
+    private static final float LOAD_FACTOR = 0.75f;
+    // Per-entry map node plus table slot, and String plus backing array headers, on a 64-bit JVM.
+    private static final int ENTRY_OVERHEAD_BYTES = 40;
+    private static final int STRING_OVERHEAD_BYTES = 40;
+    private static final int MEMORY_SAMPLE_SIZE = 64;
+    private static final int LOCK_STRIPES = 64;
+    private Map<String, T> items;
     private final IdentityExtractor<T> identityExtractor;
+    private final Map<String, SecondaryIndex<T>> indexes = new ConcurrentHashMap<>();
+    private final RepositoryMetrics metrics = new RepositoryMetrics();
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    private final boolean resizable;
+    private int sizedFor;
 
     public GenericRepository(IdentityExtractor<T> identityExtractor) {
+        this(identityExtractor, new HashMap<>(), true);
+    }
+
+    public GenericRepository(IdentityExtractor<T> identityExtractor, int expectedSize) {
+        this(identityExtractor, new HashMap<>(capacityFor(expectedSize), LOAD_FACTOR), true);
+        this.sizedFor = expectedSize;
+    }
+
+    protected GenericRepository(IdentityExtractor<T> identityExtractor, Map<String, T> items) {
+        this(identityExtractor, items, false);
+    }
+
+    private GenericRepository(IdentityExtractor<T> identityExtractor, Map<String, T> items, boolean resizable) {
         this.identityExtractor = identityExtractor;
-        this.items = new HashMap<>();
+        this.items = items;
+        this.resizable = resizable;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
         logger.info("GenericRepository initialized with IdentityExtractor");
     }
 
     public void add(T item) {
+        long started = metrics.startTimer();
+        addItem(item);
+        metrics.recordAddLatency(started);
+    }
+
+    private void addItem(T item) {
         if (item == null) {
+            metrics.recordInvalidIdentities(1);
             logger.warning("Try to add null item to repository");
             return;
         }
 
         String identity = identityExtractor.extractIdentity(item);
-        if (identity == null || identity.trim().isEmpty()) {
+        if (!isValidIdentity(identity)) {
+            metrics.recordInvalidIdentities(1);
             logger.warning("Try to add item with null or empty identity");
             return;
         }
 
-        if (items.containsKey(identity)) {
-            logger.warning("Duplicate: Item with identity " + identity + "  exists. Duplicate not added.");
+        if (!insert(identity, item)) {
+            metrics.recordDuplicates(1);
+            logger.log(Level.WARNING, "Duplicate: Item with identity {0}  exists. Duplicate not added.", identity);
             return;
         }
 
-        items.put(identity, item);
-        logger.info("Added item with identity: " + identity);
+        onAdded(identity, item);
+        metrics.recordAdds(1);
+        logger.log(Level.INFO, "Added item with identity: {0}", identity);
+    }
+
+    public BatchResult addAll(Collection<? extends T> batch) {
+        if (batch == null || batch.isEmpty()) {
+            return BatchResult.EMPTY;
+        }
+
+        long started = System.nanoTime();
+        ensureCapacity(items.size() + batch.size());
+
+        int added = 0;
+        int duplicates = 0;
+        List<String> rejectedIdentities = new ArrayList<>();
+        for (T item : batch) {
+            String identity = item == null ? null : identityExtractor.extractIdentity(item);
+            if (!isValidIdentity(identity)) {
+                rejectedIdentities.add(identity);
+            } else if (!insert(identity, item)) {
+                duplicates++;
+            } else {
+                onAdded(identity, item);
+                added++;
+            }
+        }
+
+        BatchResult result = new BatchResult(added, duplicates, rejectedIdentities);
+        metrics.recordAdds(added);
+        metrics.recordDuplicates(duplicates);
+        metrics.recordInvalidIdentities(rejectedIdentities.size());
+        metrics.recordBatchLatency(started);
+        logger.log(Level.INFO, "Batch add of {0} items: {1}", new Object[]{batch.size(), result});
+        return result;
     }
 
     public boolean delete(String identity) {
-        if (identity == null || identity.trim().isEmpty()) {
+        long started = metrics.startTimer();
+        boolean deleted = deleteItem(identity);
+        metrics.recordDeleteLatency(started);
+        return deleted;
+    }
+
+    private boolean deleteItem(String identity) {
+        if (!isValidIdentity(identity)) {
+            metrics.recordInvalidIdentities(1);
             logger.warning("Try to delete item with null or empty identity");
             return false;
         }
 
-        T removed = items.remove(identity);
+        T removed = removeIndexed(identity);
         if (removed != null) {
-            logger.info("Deleted item with identity: " + identity);
+            onDeleted(identity, removed);
+            metrics.recordDeletes(1);
+            logger.log(Level.INFO, "Deleted item with identity: {0}", identity);
             return true;
         } else {
-            logger.info("No item found with identity: " + identity + ". Nothing deleted.");
+            onDeleteMissed(identity);
+            logger.log(Level.INFO, "No item found with identity: {0}. Nothing deleted.", identity);
             return false;
         }
     }
 
+    public BatchResult deleteAll(Iterable<String> identities) {
+        if (identities == null) {
+            return BatchResult.EMPTY;
+        }
+
+        long started = System.nanoTime();
+        int deleted = 0;
+        int missing = 0;
+        List<String> rejectedIdentities = new ArrayList<>();
+        for (String identity : identities) {
+            if (!isValidIdentity(identity)) {
+                rejectedIdentities.add(identity);
+                continue;
+            }
+            T removed = removeIndexed(identity);
+            if (removed != null) {
+                onDeleted(identity, removed);
+                deleted++;
+            } else {
+                onDeleteMissed(identity);
+                missing++;
+            }
+        }
+
+        BatchResult result = new BatchResult(deleted, missing, rejectedIdentities);
+        metrics.recordDeletes(deleted);
+        metrics.recordInvalidIdentities(rejectedIdentities.size());
+        metrics.recordBatchLatency(started);
+        logger.log(Level.INFO, "Batch delete: {0}", result);
+        return result;
+    }
+
     public List<T> getAll() {
         List<T> allItems = new ArrayList<>(items.values());
-        logger.info("Get all items. Total count: " + allItems.size());
+        logger.log(Level.INFO, "Get all items. Total count: {0}", allItems.size());
         return allItems;
     }
 
+    public Stream<T> stream() {
+        return items.values().stream();
+    }
+
+    public Stream<T> parallelStream() {
+        return items.values().parallelStream();
+    }
+
+    public Spliterator<T> spliterator() {
+        return items.values().spliterator();
+    }
+
+    public void forEach(Consumer<? super T> action) {
+        items.values().forEach(action);
+    }
+
+    public List<T> filter(Predicate<? super T> predicate) {
+        List<T> matches = new ArrayList<>();
+        for (T item : items.values()) {
+            if (predicate.test(item)) {
+                matches.add(item);
+            }
+        }
+        return matches;
+    }
+
+    public long count(Predicate<? super T> predicate) {
+        long count = 0;
+        for (T item : items.values()) {
+            if (predicate.test(item)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int size() {
+        return items.size();
+    }
+
     public T findByIdentity(String identity) {
-        if (identity == null || identity.trim().isEmpty()) {
+        if (!isValidIdentity(identity)) {
+            metrics.recordInvalidIdentities(1);
             logger.warning("Try to find item with null or empty identity");
             return null;
         }
 
+        long started = metrics.startTimer();
         T item = items.get(identity);
+        metrics.recordFindLatency(started);
+        if (item != null) {
+            metrics.recordHits(1);
+        } else {
+            metrics.recordMisses(1);
+        }
         return item;
     }
+
+    public Map<String, T> findAll(Iterable<String> identities) {
+        if (identities == null) {
+            return Collections.emptyMap();
+        }
+
+        int expected = identities instanceof Collection<?> collection ? collection.size() : 16;
+        Map<String, T> found = new LinkedHashMap<>(capacityFor(expected));
+        long started = System.nanoTime();
+        int rejected = 0;
+        int hits = 0;
+        int misses = 0;
+        for (String identity : identities) {
+            if (!isValidIdentity(identity)) {
+                rejected++;
+                continue;
+            }
+            T item = items.get(identity);
+            if (item != null) {
+                found.put(identity, item);
+                hits++;
+            } else {
+                misses++;
+            }
+        }
+        metrics.recordHits(hits);
+        metrics.recordMisses(misses);
+        metrics.recordBatchLatency(started);
+
+        if (rejected > 0) {
+            metrics.recordInvalidIdentities(rejected);
+            logger.log(Level.WARNING, "Batch find skipped {0} null or empty identities", rejected);
+        }
+        logger.log(Level.INFO, "Batch find: {0} found, {1} missing", new Object[]{hits, misses});
+        return found;
+    }
+
+    public RepositoryMetrics getMetrics() {
+        return metrics;
+    }
+
+    public long estimateMemoryBytes() {
+        int size = items.size();
+        long sampledBytes = 0;
+        int sampled = 0;
+        for (String identity : items.keySet()) {
+            sampledBytes += STRING_OVERHEAD_BYTES + identity.length();
+            if (++sampled == MEMORY_SAMPLE_SIZE) {
+                break;
+            }
+        }
+        return sampled == 0 ? 0 : size * (ENTRY_OVERHEAD_BYTES + sampledBytes / sampled);
+    }
+
+    public ObjectName registerMBean(String name) {
+        return new RepositoryStats(metrics, this::size, this::estimateMemoryBytes).register(name);
+    }
+
+    public GenericRepository<T> addIndex(SecondaryIndex<T> index) {
+        if (index == null) {
+            throw new IllegalArgumentException("Index must not be null");
+        }
+        if (indexes.putIfAbsent(index.getName(), index) != null) {
+            throw new IllegalArgumentException("Index already registered: " + index.getName());
+        }
+
+        for (String identity : new ArrayList<>(items.keySet())) {
+            synchronized (lockFor(identity)) {
+                T item = items.get(identity);
+                if (item != null) {
+                    index.onAdd(identity, item);
+                }
+            }
+        }
+        logger.log(Level.INFO, "Registered index ''{0}'' over {1} items", new Object[]{index.getName(), items.size()});
+        return this;
+    }
+
+    public List<T> findByIndex(String indexName, Object key) {
+        return resolve(getIndex(indexName).identitiesFor(key));
+    }
+
+    public int countByIndex(String indexName, Object key) {
+        return getIndex(indexName).identitiesFor(key).size();
+    }
+
+    public <K extends Comparable<? super K>> List<T> findInRange(String indexName, K lo, K hi) {
+        return resolve(this.<K>getRangeIndex(indexName).range(lo, hi));
+    }
+
+    public <K extends Comparable<? super K>> List<T> findHeadOf(String indexName, K hi) {
+        return resolve(this.<K>getRangeIndex(indexName).headOf(hi));
+    }
+
+    public <K extends Comparable<? super K>> List<T> findTailOf(String indexName, K lo) {
+        return resolve(this.<K>getRangeIndex(indexName).tailOf(lo));
+    }
+
+    public Iterator<T> orderedCursor(String indexName) {
+        Iterator<String> identities = getRangeIndex(indexName).cursor();
+        return new Iterator<>() {
+            private T next = advance();
+
+            private T advance() {
+                while (identities.hasNext()) {
+                    T item = items.get(identities.next());
+                    if (item != null) {
+                        return item;
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public T next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                T current = next;
+                next = advance();
+                return current;
+            }
+        };
+    }
+
+    private SecondaryIndex<T> getIndex(String indexName) {
+        SecondaryIndex<T> index = indexName == null ? null : indexes.get(indexName);
+        if (index == null) {
+            throw new IllegalArgumentException("No index registered with name: " + indexName);
+        }
+        return index;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K extends Comparable<? super K>> RangeIndex<T, K> getRangeIndex(String indexName) {
+        SecondaryIndex<T> index = getIndex(indexName);
+        if (!(index instanceof RangeIndex)) {
+            throw new IllegalArgumentException("Index is not a range index: " + indexName);
+        }
+        return (RangeIndex<T, K>) index;
+    }
+
+    private List<T> resolve(Collection<String> identities) {
+        List<T> matches = new ArrayList<>(identities.size());
+        for (String identity : identities) {
+            T item = items.get(identity);
+            if (item != null) {
+                matches.add(item);
+            }
+        }
+        return matches;
+    }
+
+    protected void onAdded(String identity, T item) {
+    }
+
+    protected void onDeleted(String identity, T item) {
+    }
+
+    protected void onDeleteMissed(String identity) {
+    }
+
+    protected void onEvicted(String identity, T item) {
+    }
+
+    // Inserts an item loaded from elsewhere: indexed like an add, but without add metrics, logging or onAdded.
+    protected boolean populate(T item) {
+        String identity = item == null ? null : identityExtractor.extractIdentity(item);
+        return isValidIdentity(identity) && insert(identity, item);
+    }
+
+    // Drops an item the way delete does for indexes, but without delete metrics, logging or onDeleted.
+    protected T evict(String identity) {
+        T removed = isValidIdentity(identity) ? removeIndexed(identity) : null;
+        if (removed != null) {
+            onEvicted(identity, removed);
+        }
+        return removed;
+    }
+
+    protected boolean evict(String identity, T expected) {
+        if (!isValidIdentity(identity) || expected == null || removeIndexed(identity, expected) == null) {
+            return false;
+        }
+        onEvicted(identity, expected);
+        return true;
+    }
+
+    // Indexes change under the same per-identity lock as the map, so they never see a half-applied write.
+    private boolean insert(String identity, T item) {
+        synchronized (lockFor(identity)) {
+            if (items.putIfAbsent(identity, item) != null) {
+                return false;
+            }
+            try {
+                for (SecondaryIndex<T> index : indexes.values()) {
+                    index.onAdd(identity, item);
+                }
+            } catch (RuntimeException e) {
+                items.remove(identity, item);
+                for (SecondaryIndex<T> index : indexes.values()) {
+                    index.onRemove(identity, item);
+                }
+                throw e;
+            }
+        }
+        return true;
+    }
+
+    private T removeIndexed(String identity) {
+        return removeIndexed(identity, null);
+    }
+
+    // With an expected item, removes the entry only while it still maps to that instance.
+    private T removeIndexed(String identity, T expected) {
+        synchronized (lockFor(identity)) {
+            T removed = expected == null || items.get(identity) == expected ? items.remove(identity) : null;
+            if (removed != null) {
+                for (SecondaryIndex<T> index : indexes.values()) {
+                    index.onRemove(identity, removed);
+                }
+            }
+            return removed;
+        }
+    }
+
+    // Only the map this class created is resized; a map passed in by a subclass may be shared.
+    private void ensureCapacity(int expectedSize) {
+        if (!resizable || expectedSize <= Math.max(sizedFor, 2 * items.size())) {
+            return;
+        }
+        withAllLocks(0, () -> {
+            Map<String, T> resized = new HashMap<>(capacityFor(expectedSize), LOAD_FACTOR);
+            resized.putAll(items);
+            items = resized;
+        });
+        sizedFor = expectedSize;
+    }
+
+    private void withAllLocks(int stripe, Runnable action) {
+        if (stripe == LOCK_STRIPES) {
+            action.run();
+            return;
+        }
+        synchronized (locks[stripe]) {
+            withAllLocks(stripe + 1, action);
+        }
+    }
+
+    private Object lockFor(String identity) {
+        int hash = identity.hashCode();
+        return locks[(hash ^ (hash >>> 16)) & (LOCK_STRIPES - 1)];
+    }
+
+    private static int capacityFor(int expectedSize) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) (expectedSize / LOAD_FACTOR) + 1);
+    }
+
+    private static boolean isValidIdentity(String identity) {
+        return identity != null && !identity.trim().isEmpty();
+    }
 }
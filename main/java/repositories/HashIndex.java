@@ -0,0 +1,18 @@
+package repositories;
+
+import java.util.Collections;
+import java.util.function.Function;
+
+public class HashIndex<T, K> extends KeyedIndex<T, K> {
+    private final Function<? super T, ? extends K> keyExtractor;
+
+    public HashIndex(String name, Function<? super T, ? extends K> keyExtractor) {
+        super(name);
+        this.keyExtractor = keyExtractor;
+    }
+
+    @Override
+    protected Iterable<? extends K> keysOf(T item) {
+        return Collections.singletonList(keyExtractor.apply(item));
+    }
+}
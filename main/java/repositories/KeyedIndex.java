@@ -0,0 +1,86 @@
+package repositories;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public abstract class KeyedIndex<T, K> implements SecondaryIndex<T> {
+    private final String name;
+    private final Map<K, Set<String>> entries = new ConcurrentHashMap<>();
+    private final Map<String, List<K>> indexedKeys = new ConcurrentHashMap<>();
+
+    protected KeyedIndex(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Index name must not be empty");
+        }
+        this.name = name;
+    }
+
+    protected abstract Iterable<? extends K> keysOf(T item);
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void onAdd(String identity, T item) {
+        List<K> keys = new ArrayList<>(1);
+        for (K key : keysOf(item)) {
+            if (key != null) keys.add(key);
+        }
+        indexedKeys.compute(identity, (id, previous) -> {
+            if (previous != null) {
+                unlink(id, previous);
+            }
+            for (K key : keys) {
+                entries.compute(key, (k, identities) -> {
+                    Set<String> target = identities != null ? identities : ConcurrentHashMap.newKeySet();
+                    target.add(id);
+                    return target;
+                });
+            }
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    // Removes by the keys recorded at add time, since the item may have changed since.
+    @Override
+    public void onRemove(String identity, T item) {
+        indexedKeys.computeIfPresent(identity, (id, keys) -> {
+            unlink(id, keys);
+            return null;
+        });
+    }
+
+    @Override
+    public Set<String> identitiesFor(Object key) {
+        if (key == null) {
+            return Collections.emptySet();
+        }
+        Set<String> identities = entries.get(key);
+        return identities != null ? Collections.unmodifiableSet(identities) : Collections.emptySet();
+    }
+
+    public Set<K> keys() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    @Override
+    public void clear() {
+        indexedKeys.clear();
+        entries.clear();
+    }
+
+    private void unlink(String identity, List<K> keys) {
+        for (K key : keys) {
+            entries.computeIfPresent(key, (k, identities) -> {
+                identities.remove(identity);
+                return identities.isEmpty() ? null : identities;
+            });
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package repositories;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.function.Function;
+
+public class MultiValueIndex<T, K> extends KeyedIndex<T, K> {
+    private final Function<? super T, ? extends Collection<? extends K>> keysExtractor;
+
+    public MultiValueIndex(String name, Function<? super T, ? extends Collection<? extends K>> keysExtractor) {
+        super(name);
+        this.keysExtractor = keysExtractor;
+    }
+
+    @Override
+    protected Iterable<? extends K> keysOf(T item) {
+        Collection<? extends K> keys = keysExtractor.apply(item);
+        return keys != null ? keys : Collections.emptyList();
+    }
+}
@@ -0,0 +1,275 @@
+package repositories;
+
+import model.Client;
+import model.Progress;
+import validation.FieldRules;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+// Primitive columns grown a chunk at a time. Not thread-safe.
+public class ProgressStore implements Iterable<ProgressView> {
+    public static final int NO_CLIENT = -1;
+    static final int CHUNK_SHIFT = 14;
+    static final int CHUNK_ROWS = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_ROWS - 1;
+
+    private final IdentityExtractor<Client> clientIdentity;
+    private final Map<String, Integer> clientIds = new HashMap<>();
+    private final List<Client> clients = new ArrayList<>();
+    private final List<ClientRows> clientRows = new ArrayList<>();
+    private long[][] epochMillis = new long[0][];
+    private double[][] weights = new double[0][];
+    private double[][] bmis = new double[0][];
+    private int[][] clientColumn = new int[0][];
+    private int size;
+
+    public ProgressStore() {
+        this(Client::getEmail);
+    }
+
+    public ProgressStore(IdentityExtractor<Client> clientIdentity) {
+        if (clientIdentity == null) {
+            throw new IllegalArgumentException("Client identity extractor must not be null");
+        }
+        this.clientIdentity = clientIdentity;
+    }
+
+    public int add(Progress progress) {
+        if (progress == null || progress.getDate() == null) {
+            return -1;
+        }
+        return append(progress.getClient(), progress.getDate().getTime(), progress.getWeight(), progress.getBmi());
+    }
+
+    // Returns -1 for an out-of-range value or a client without identity.
+    public int append(Client client, long millis, double weight, double bmi) {
+        if (!FieldRules.WEIGHT.test(weight) || !FieldRules.BMI.test(bmi)) {
+            return -1;
+        }
+        int clientId = NO_CLIENT;
+        if (client != null) {
+            clientId = register(client);
+            if (clientId == NO_CLIENT) {
+                return -1;
+            }
+        }
+        int row = size;
+        int chunk = row >>> CHUNK_SHIFT;
+        if (chunk == epochMillis.length) {
+            addChunk();
+        }
+        int offset = row & CHUNK_MASK;
+        epochMillis[chunk][offset] = millis;
+        weights[chunk][offset] = weight;
+        bmis[chunk][offset] = bmi;
+        clientColumn[chunk][offset] = clientId;
+        size++;
+        if (clientId != NO_CLIENT) {
+            clientRows.get(clientId).add(row, millis, this);
+        }
+        return row;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getClientCount() {
+        return clients.size();
+    }
+
+    public Client getClient(int clientId) {
+        return clientId == NO_CLIENT ? null : clients.get(clientId);
+    }
+
+    public int getClientId(String identity) {
+        Integer clientId = identity == null ? null : clientIds.get(identity);
+        return clientId != null ? clientId : NO_CLIENT;
+    }
+
+    public int countForClient(Client client) {
+        ClientRows rows = rowsOf(client);
+        return rows != null ? rows.size : 0;
+    }
+
+    public long epochMillisAt(int row) {
+        checkRow(row);
+        return epochMillis[row >>> CHUNK_SHIFT][row & CHUNK_MASK];
+    }
+
+    public double weightAt(int row) {
+        checkRow(row);
+        return weights[row >>> CHUNK_SHIFT][row & CHUNK_MASK];
+    }
+
+    public double bmiAt(int row) {
+        checkRow(row);
+        return bmis[row >>> CHUNK_SHIFT][row & CHUNK_MASK];
+    }
+
+    public int clientIdAt(int row) {
+        checkRow(row);
+        return clientColumn[row >>> CHUNK_SHIFT][row & CHUNK_MASK];
+    }
+
+    // Visits fromMillis <= time < toMillis in time order, reusing one view.
+    public int scan(Client client, long fromMillis, long toMillis, Consumer<? super ProgressView> action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Action must not be null");
+        }
+        ClientRows rows = rowsOf(client);
+        if (rows == null || fromMillis >= toMillis) {
+            return 0;
+        }
+        ProgressView view = new ProgressView(this);
+        int end = rows.lowerBound(toMillis, this);
+        int visited = 0;
+        for (int i = rows.lowerBound(fromMillis, this); i < end; i++) {
+            view.moveTo(rows.rows[i]);
+            action.accept(view);
+            visited++;
+        }
+        return visited;
+    }
+
+    public int countInRange(Client client, long fromMillis, long toMillis) {
+        ClientRows rows = rowsOf(client);
+        if (rows == null || fromMillis >= toMillis) {
+            return 0;
+        }
+        return rows.lowerBound(toMillis, this) - rows.lowerBound(fromMillis, this);
+    }
+
+    // next() returns the same view each time.
+    @Override
+    public Iterator<ProgressView> iterator() {
+        ProgressView view = new ProgressView(this);
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public ProgressView next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                view.moveTo(next++);
+                return view;
+            }
+        };
+    }
+
+    public void forEach(Consumer<? super ProgressView> action) {
+        ProgressView view = new ProgressView(this);
+        for (int row = 0; row < size; row++) {
+            view.moveTo(row);
+            action.accept(view);
+        }
+    }
+
+    // Excludes the Client objects themselves.
+    public long estimateMemoryBytes() {
+        long bytes = (long) epochMillis.length * CHUNK_ROWS * (Long.BYTES + Double.BYTES + Double.BYTES + Integer.BYTES);
+        for (ClientRows rows : clientRows) {
+            bytes += (long) rows.rows.length * Integer.BYTES;
+        }
+        return bytes;
+    }
+
+    private int register(Client client) {
+        String identity = clientIdentity.extractIdentity(client);
+        if (identity == null || identity.trim().isEmpty()) {
+            return NO_CLIENT;
+        }
+        Integer clientId = clientIds.get(identity);
+        if (clientId == null) {
+            clientId = clients.size();
+            clientIds.put(identity, clientId);
+            clients.add(client);
+            clientRows.add(new ClientRows());
+        }
+        return clientId;
+    }
+
+    private ClientRows rowsOf(Client client) {
+        if (client == null) {
+            return null;
+        }
+        int clientId = getClientId(clientIdentity.extractIdentity(client));
+        return clientId == NO_CLIENT ? null : clientRows.get(clientId);
+    }
+
+    private void addChunk() {
+        int chunks = epochMillis.length + 1;
+        epochMillis = Arrays.copyOf(epochMillis, chunks);
+        weights = Arrays.copyOf(weights, chunks);
+        bmis = Arrays.copyOf(bmis, chunks);
+        clientColumn = Arrays.copyOf(clientColumn, chunks);
+        epochMillis[chunks - 1] = new long[CHUNK_ROWS];
+        weights[chunks - 1] = new double[CHUNK_ROWS];
+        bmis[chunks - 1] = new double[CHUNK_ROWS];
+        clientColumn[chunks - 1] = new int[CHUNK_ROWS];
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds for size " + size);
+        }
+    }
+
+    // Sorted by time; an out-of-order append is inserted in place.
+    private static final class ClientRows {
+        private int[] rows = new int[4];
+        private int size;
+
+        private void add(int row, long millis, ProgressStore store) {
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            int position = size == 0 || store.epochMillisAt(rows[size - 1]) <= millis
+                    ? size : upperBound(millis, store);
+            System.arraycopy(rows, position, rows, position + 1, size - position);
+            rows[position] = row;
+            size++;
+        }
+
+        private int lowerBound(long millis, ProgressStore store) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (store.epochMillisAt(rows[mid]) < millis) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private int upperBound(long millis, ProgressStore store) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (store.epochMillisAt(rows[mid]) <= millis) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
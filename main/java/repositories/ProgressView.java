@@ -0,0 +1,59 @@
+package repositories;
+
+import model.Client;
+import model.Progress;
+
+import java.util.Date;
+
+// Repositioned for every row; call toProgress() for a detached copy.
+public final class ProgressView {
+    private final ProgressStore store;
+    private int row = -1;
+
+    ProgressView(ProgressStore store) {
+        this.store = store;
+    }
+
+    void moveTo(int row) {
+        this.row = row;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public long getEpochMillis() {
+        return store.epochMillisAt(row);
+    }
+
+    public double getWeight() {
+        return store.weightAt(row);
+    }
+
+    public double getBmi() {
+        return store.bmiAt(row);
+    }
+
+    public int getClientId() {
+        return store.clientIdAt(row);
+    }
+
+    public Client getClient() {
+        return store.getClient(getClientId());
+    }
+
+    public Progress toProgress() {
+        return new Progress(new Date(getEpochMillis()), getWeight(), getBmi(), getClient());
+    }
+
+    @Override
+    public String toString() {
+        return "ProgressView{" +
+                "row=" + row +
+                ", epochMillis=" + getEpochMillis() +
+                ", weight=" + getWeight() +
+                ", bmi=" + getBmi() +
+                ", clientId=" + getClientId() +
+                '}';
+    }
+}
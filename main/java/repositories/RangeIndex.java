@@ -0,0 +1,169 @@
+package repositories;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+
+public class RangeIndex<T, K extends Comparable<? super K>> implements SecondaryIndex<T> {
+    private static final int LOWER_BOUND = -1;
+    private static final int ENTRY = 0;
+    private static final int UPPER_BOUND = 1;
+
+    private final String name;
+    private final Function<? super T, ? extends K> keyExtractor;
+    private final NavigableSet<Entry<K>> entries = new ConcurrentSkipListSet<>();
+    private final Map<String, K> indexedKeys = new ConcurrentHashMap<>();
+
+    public RangeIndex(String name, Function<? super T, ? extends K> keyExtractor) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Index name must not be empty");
+        }
+        this.name = name;
+        this.keyExtractor = keyExtractor;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void onAdd(String identity, T item) {
+        K key = keyExtractor.apply(item);
+        indexedKeys.compute(identity, (id, previous) -> {
+            if (previous != null) {
+                entries.remove(new Entry<>(previous, id, ENTRY));
+            }
+            if (key != null) {
+                entries.add(new Entry<>(key, id, ENTRY));
+            }
+            return key;
+        });
+    }
+
+    // Removes by the key recorded at add time, since the item may have changed since.
+    @Override
+    public void onRemove(String identity, T item) {
+        indexedKeys.computeIfPresent(identity, (id, key) -> {
+            entries.remove(new Entry<>(key, id, ENTRY));
+            return null;
+        });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Set<String> identitiesFor(Object key) {
+        if (key == null) {
+            return Collections.emptySet();
+        }
+        K typedKey = (K) key;
+        return new LinkedHashSet<>(range(typedKey, typedKey));
+    }
+
+    public List<String> range(K lo, K hi) {
+        if (lo == null || hi == null || lo.compareTo(hi) > 0) {
+            return Collections.emptyList();
+        }
+        return identities(entries.subSet(lowerBound(lo), true, upperBound(hi), true));
+    }
+
+    public List<String> headOf(K hi) {
+        if (hi == null) {
+            return Collections.emptyList();
+        }
+        return identities(entries.headSet(lowerBound(hi), false));
+    }
+
+    public List<String> tailOf(K lo) {
+        if (lo == null) {
+            return Collections.emptyList();
+        }
+        return identities(entries.tailSet(lowerBound(lo), true));
+    }
+
+    public Iterator<String> cursor() {
+        return identityIterator(entries.iterator());
+    }
+
+    public Iterator<String> cursor(K from) {
+        if (from == null) {
+            return cursor();
+        }
+        return identityIterator(entries.tailSet(lowerBound(from), true).iterator());
+    }
+
+    public K firstKey() {
+        Entry<K> first = entries.isEmpty() ? null : entries.first();
+        return first != null ? first.key : null;
+    }
+
+    public K lastKey() {
+        Entry<K> last = entries.isEmpty() ? null : entries.last();
+        return last != null ? last.key : null;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void clear() {
+        indexedKeys.clear();
+        entries.clear();
+    }
+
+    private Entry<K> lowerBound(K key) {
+        return new Entry<>(key, null, LOWER_BOUND);
+    }
+
+    private Entry<K> upperBound(K key) {
+        return new Entry<>(key, null, UPPER_BOUND);
+    }
+
+    private List<String> identities(Collection<Entry<K>> view) {
+        List<String> identities = new ArrayList<>();
+        for (Entry<K> entry : view) {
+            identities.add(entry.identity);
+        }
+        return identities;
+    }
+
+    private Iterator<String> identityIterator(Iterator<Entry<K>> iterator) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public String next() {
+                return iterator.next().identity;
+            }
+        };
+    }
+
+    private static final class Entry<K extends Comparable<? super K>> implements Comparable<Entry<K>> {
+        private final K key;
+        private final String identity;
+        private final int bound;
+
+        private Entry(K key, String identity, int bound) {
+            this.key = key;
+            this.identity = identity;
+            this.bound = bound;
+        }
+
+        @Override
+        public int compareTo(Entry<K> other) {
+            int byKey = key.compareTo(other.key);
+            if (byKey != 0) {
+                return byKey;
+            }
+            if (bound != ENTRY || other.bound != ENTRY) {
+                return Integer.compare(bound, other.bound);
+            }
+            return identity.compareTo(other.identity);
+        }
+    }
+}
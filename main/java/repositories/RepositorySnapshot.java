@@ -0,0 +1,57 @@
+package repositories;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+public class RepositorySnapshot<T> {
+    private final Map<String, T> items;
+
+    RepositorySnapshot(Map<String, T> items) {
+        this.items = Collections.unmodifiableMap(items);
+    }
+
+    public T findByIdentity(String identity) {
+        if (identity == null || identity.trim().isEmpty()) {
+            return null;
+        }
+        return items.get(identity);
+    }
+
+    public List<T> getAll() {
+        return new ArrayList<>(items.values());
+    }
+
+    public Stream<T> stream() {
+        return items.values().stream();
+    }
+
+    public void forEach(Consumer<? super T> action) {
+        items.values().forEach(action);
+    }
+
+    public List<T> filter(Predicate<? super T> predicate) {
+        List<T> matches = new ArrayList<>();
+        for (T item : items.values()) {
+            if (predicate.test(item)) {
+                matches.add(item);
+            }
+        }
+        return matches;
+    }
+
+    public long count(Predicate<? super T> predicate) {
+        long count = 0;
+        for (T item : items.values()) {
+            if (predicate.test(item)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int size() {
+        return items.size();
+    }
+}
@@ -0,0 +1,16 @@
+package repositories;
+
+import java.util.Set;
+
+public interface SecondaryIndex<T> {
+    String getName();
+
+    // May be called again for an identity already added; treat that as a re-index.
+    void onAdd(String identity, T item);
+
+    void onRemove(String identity, T item);
+
+    Set<String> identitiesFor(Object key);
+
+    void clear();
+}
@@ -0,0 +1,18 @@
+package repositories;
+
+public class VersionedGenericRepository<T> extends GenericRepository<T> {
+    private final VersionedMap<T> versions;
+
+    public VersionedGenericRepository(IdentityExtractor<T> identityExtractor) {
+        this(identityExtractor, new VersionedMap<>());
+    }
+
+    private VersionedGenericRepository(IdentityExtractor<T> identityExtractor, VersionedMap<T> versions) {
+        super(identityExtractor, versions);
+        this.versions = versions;
+    }
+
+    public RepositorySnapshot<T> snapshot() {
+        return new RepositorySnapshot<>(versions.snapshot());
+    }
+}
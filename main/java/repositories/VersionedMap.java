@@ -0,0 +1,547 @@
+package repositories;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class VersionedMap<V> extends AbstractMap<String, V> implements ConcurrentMap<String, V> {
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int MAX_SHIFT = Integer.SIZE;
+
+    private final AtomicReference<Version<V>> current = new AtomicReference<>(Version.empty());
+
+    public Version<V> snapshot() {
+        return current.get();
+    }
+
+    @Override
+    public V get(Object key) {
+        return current.get().get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return current.get().size();
+    }
+
+    @Override
+    public V put(String key, V value) {
+        return update(key, value, false);
+    }
+
+    @Override
+    public V putIfAbsent(String key, V value) {
+        return update(key, value, true);
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        String stringKey = (String) key;
+        int hash = hash(stringKey);
+        while (true) {
+            Version<V> version = current.get();
+            Change<V> change = new Change<>();
+            Node<V> root = version.root == null ? null : version.root.remove(0, hash, stringKey, null, change);
+            if (change.previous == null) {
+                return null;
+            }
+            if (current.compareAndSet(version, new Version<>(root, version.size - 1))) {
+                return change.previous;
+            }
+        }
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        if (!(key instanceof String) || value == null) {
+            return false;
+        }
+        String stringKey = (String) key;
+        int hash = hash(stringKey);
+        while (true) {
+            Version<V> version = current.get();
+            Change<V> change = new Change<>();
+            Node<V> root = version.root == null ? null : version.root.remove(0, hash, stringKey, value, change);
+            if (change.previous == null) {
+                return false;
+            }
+            if (current.compareAndSet(version, new Version<>(root, version.size - 1))) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public boolean replace(String key, V oldValue, V newValue) {
+        Objects.requireNonNull(oldValue);
+        Objects.requireNonNull(newValue);
+        int hash = hash(key);
+        while (true) {
+            Version<V> version = current.get();
+            if (!oldValue.equals(version.get(key))) {
+                return false;
+            }
+            Change<V> change = new Change<>();
+            Node<V> root = version.root.put(0, new Leaf<>(hash, key, newValue), false, change);
+            if (current.compareAndSet(version, new Version<>(root, version.size))) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public V replace(String key, V value) {
+        Objects.requireNonNull(value);
+        int hash = hash(key);
+        while (true) {
+            Version<V> version = current.get();
+            V previous = version.get(key);
+            if (previous == null) {
+                return null;
+            }
+            Change<V> change = new Change<>();
+            Node<V> root = version.root.put(0, new Leaf<>(hash, key, value), false, change);
+            if (current.compareAndSet(version, new Version<>(root, version.size))) {
+                return change.previous;
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        current.set(Version.empty());
+    }
+
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, V>> iterator() {
+                return current.get().entryIterator();
+            }
+
+            @Override
+            public int size() {
+                return VersionedMap.this.size();
+            }
+        };
+    }
+
+    private V update(String key, V value, boolean onlyIfAbsent) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        Leaf<V> leaf = new Leaf<>(hash(key), key, value);
+        while (true) {
+            Version<V> version = current.get();
+            Change<V> change = new Change<>();
+            Node<V> root = version.root == null
+                    ? BitmapNode.single(0, leaf)
+                    : version.root.put(0, leaf, onlyIfAbsent, change);
+            if (root == version.root) {
+                return change.previous;
+            }
+            int size = change.previous == null ? version.size + 1 : version.size;
+            if (current.compareAndSet(version, new Version<>(root, size))) {
+                return change.previous;
+            }
+        }
+    }
+
+    private static int hash(String key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int fragment(int hash, int shift) {
+        return (hash >>> shift) & MASK;
+    }
+
+    public static final class Version<V> extends AbstractMap<String, V> {
+        private static final Version<?> EMPTY = new Version<>(null, 0);
+
+        private final Node<V> root;
+        private final int size;
+
+        private Version(Node<V> root, int size) {
+            this.root = root;
+            this.size = size;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <V> Version<V> empty() {
+            return (Version<V>) EMPTY;
+        }
+
+        @Override
+        public V get(Object key) {
+            if (root == null || !(key instanceof String)) {
+                return null;
+            }
+            String stringKey = (String) key;
+            return root.get(0, hash(stringKey), stringKey);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Set<Entry<String, V>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, V>> iterator() {
+                    return entryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+
+        private Iterator<Entry<String, V>> entryIterator() {
+            return new LeafIterator<>(root);
+        }
+    }
+
+    private static final class Change<V> {
+        private V previous;
+    }
+
+    private static final class Leaf<V> implements Entry<String, V> {
+        private final int hash;
+        private final String key;
+        private final V value;
+
+        private Leaf(int hash, String key, V value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            throw new UnsupportedOperationException("Versioned entries are immutable");
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry<?, ?> entry)) return false;
+            return key.equals(entry.getKey()) && value.equals(entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ value.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    private abstract static class Node<V> {
+        abstract V get(int shift, int hash, String key);
+
+        abstract Node<V> put(int shift, Leaf<V> leaf, boolean onlyIfAbsent, Change<V> change);
+
+        abstract Node<V> remove(int shift, int hash, String key, Object expected, Change<V> change);
+
+        abstract int slotCount();
+
+        abstract Object slot(int index);
+
+        Leaf<V> singleLeaf() {
+            return slotCount() == 1 && slot(0) instanceof Leaf<?> ? leafAt(0) : null;
+        }
+
+        @SuppressWarnings("unchecked")
+        Leaf<V> leafAt(int index) {
+            return (Leaf<V>) slot(index);
+        }
+    }
+
+    private static final class BitmapNode<V> extends Node<V> {
+        private final int bitmap;
+        private final Object[] slots;
+
+        private BitmapNode(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        private static <V> Node<V> single(int shift, Leaf<V> leaf) {
+            return new BitmapNode<>(1 << fragment(leaf.hash, shift), new Object[]{leaf});
+        }
+
+        private static <V> Node<V> merge(int shift, Leaf<V> first, Leaf<V> second) {
+            if (shift >= MAX_SHIFT) {
+                return new CollisionNode<>(first.hash, new Leaf<?>[]{first, second});
+            }
+            int firstFragment = fragment(first.hash, shift);
+            int secondFragment = fragment(second.hash, shift);
+            if (firstFragment == secondFragment) {
+                return new BitmapNode<>(1 << firstFragment, new Object[]{merge(shift + BITS, first, second)});
+            }
+            Object[] slots = firstFragment < secondFragment
+                    ? new Object[]{first, second}
+                    : new Object[]{second, first};
+            return new BitmapNode<>((1 << firstFragment) | (1 << secondFragment), slots);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        V get(int shift, int hash, String key) {
+            int bit = 1 << fragment(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            Object slot = slots[Integer.bitCount(bitmap & (bit - 1))];
+            if (slot instanceof Leaf<?>) {
+                Leaf<V> leaf = (Leaf<V>) slot;
+                return leaf.hash == hash && leaf.key.equals(key) ? leaf.value : null;
+            }
+            return ((Node<V>) slot).get(shift + BITS, hash, key);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Node<V> put(int shift, Leaf<V> leaf, boolean onlyIfAbsent, Change<V> change) {
+            int bit = 1 << fragment(leaf.hash, shift);
+            int index = Integer.bitCount(bitmap & (bit - 1));
+            if ((bitmap & bit) == 0) {
+                Object[] copy = new Object[slots.length + 1];
+                System.arraycopy(slots, 0, copy, 0, index);
+                copy[index] = leaf;
+                System.arraycopy(slots, index, copy, index + 1, slots.length - index);
+                return new BitmapNode<>(bitmap | bit, copy);
+            }
+
+            Object slot = slots[index];
+            Object replacement;
+            if (slot instanceof Leaf<?>) {
+                Leaf<V> existing = (Leaf<V>) slot;
+                if (existing.hash == leaf.hash && existing.key.equals(leaf.key)) {
+                    change.previous = existing.value;
+                    if (onlyIfAbsent || existing.value == leaf.value) {
+                        return this;
+                    }
+                    replacement = leaf;
+                } else {
+                    replacement = merge(shift + BITS, existing, leaf);
+                }
+            } else {
+                Node<V> child = (Node<V>) slot;
+                Node<V> updated = child.put(shift + BITS, leaf, onlyIfAbsent, change);
+                if (updated == child) {
+                    return this;
+                }
+                replacement = updated;
+            }
+            Object[] copy = slots.clone();
+            copy[index] = replacement;
+            return new BitmapNode<>(bitmap, copy);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Node<V> remove(int shift, int hash, String key, Object expected, Change<V> change) {
+            int bit = 1 << fragment(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int index = Integer.bitCount(bitmap & (bit - 1));
+            Object slot = slots[index];
+            if (slot instanceof Leaf<?>) {
+                Leaf<V> leaf = (Leaf<V>) slot;
+                if (leaf.hash != hash || !leaf.key.equals(key) || (expected != null && !expected.equals(leaf.value))) {
+                    return this;
+                }
+                change.previous = leaf.value;
+                return withoutSlot(bit, index);
+            }
+
+            Node<V> child = (Node<V>) slot;
+            Node<V> updated = child.remove(shift + BITS, hash, key, expected, change);
+            if (updated == child) {
+                return this;
+            }
+            if (updated == null) {
+                return withoutSlot(bit, index);
+            }
+            Leaf<V> single = updated.singleLeaf();
+            Object[] copy = slots.clone();
+            copy[index] = single != null ? single : updated;
+            return new BitmapNode<>(bitmap, copy);
+        }
+
+        private Node<V> withoutSlot(int bit, int index) {
+            if (slots.length == 1) {
+                return null;
+            }
+            Object[] copy = new Object[slots.length - 1];
+            System.arraycopy(slots, 0, copy, 0, index);
+            System.arraycopy(slots, index + 1, copy, index, slots.length - index - 1);
+            return new BitmapNode<>(bitmap & ~bit, copy);
+        }
+
+        @Override
+        int slotCount() {
+            return slots.length;
+        }
+
+        @Override
+        Object slot(int index) {
+            return slots[index];
+        }
+    }
+
+    private static final class CollisionNode<V> extends Node<V> {
+        private final int hash;
+        private final Leaf<?>[] leaves;
+
+        private CollisionNode(int hash, Leaf<?>[] leaves) {
+            this.hash = hash;
+            this.leaves = leaves;
+        }
+
+        private int indexOf(String key) {
+            for (int i = 0; i < leaves.length; i++) {
+                if (leaves[i].key.equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        V get(int shift, int hash, String key) {
+            int index = hash == this.hash ? indexOf(key) : -1;
+            return index >= 0 ? leafAt(index).value : null;
+        }
+
+        @Override
+        Node<V> put(int shift, Leaf<V> leaf, boolean onlyIfAbsent, Change<V> change) {
+            int index = indexOf(leaf.key);
+            if (index >= 0) {
+                change.previous = leafAt(index).value;
+                if (onlyIfAbsent) {
+                    return this;
+                }
+                Leaf<?>[] copy = leaves.clone();
+                copy[index] = leaf;
+                return new CollisionNode<>(hash, copy);
+            }
+            Leaf<?>[] copy = Arrays.copyOf(leaves, leaves.length + 1);
+            copy[leaves.length] = leaf;
+            return new CollisionNode<>(hash, copy);
+        }
+
+        @Override
+        Node<V> remove(int shift, int hash, String key, Object expected, Change<V> change) {
+            int index = hash == this.hash ? indexOf(key) : -1;
+            if (index < 0 || (expected != null && !expected.equals(leafAt(index).value))) {
+                return this;
+            }
+            change.previous = leafAt(index).value;
+            if (leaves.length == 1) {
+                return null;
+            }
+            Leaf<?>[] copy = new Leaf<?>[leaves.length - 1];
+            System.arraycopy(leaves, 0, copy, 0, index);
+            System.arraycopy(leaves, index + 1, copy, index, leaves.length - index - 1);
+            return new CollisionNode<>(this.hash, copy);
+        }
+
+        @Override
+        int slotCount() {
+            return leaves.length;
+        }
+
+        @Override
+        Object slot(int index) {
+            return leaves[index];
+        }
+    }
+
+    private static final class LeafIterator<V> implements Iterator<Entry<String, V>> {
+        private final Node<?>[] nodes = new Node<?>[MAX_SHIFT / BITS + 2];
+        private final int[] positions = new int[MAX_SHIFT / BITS + 2];
+        private int depth = -1;
+        private Leaf<V> next;
+
+        private LeafIterator(Node<V> root) {
+            if (root != null) {
+                nodes[0] = root;
+                depth = 0;
+            }
+            advance();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance() {
+            next = null;
+            while (depth >= 0) {
+                Node<?> node = nodes[depth];
+                int position = positions[depth];
+                if (position >= node.slotCount()) {
+                    nodes[depth] = null;
+                    positions[depth] = 0;
+                    depth--;
+                    continue;
+                }
+                positions[depth] = position + 1;
+                Object slot = node.slot(position);
+                if (slot instanceof Leaf<?>) {
+                    next = (Leaf<V>) slot;
+                    return;
+                }
+                depth++;
+                nodes[depth] = (Node<?>) slot;
+                positions[depth] = 0;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Entry<String, V> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Leaf<V> current = next;
+            advance();
+            return current;
+        }
+    }
+}
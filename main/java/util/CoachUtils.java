@@ -1,7 +1,9 @@
 package util;
 
+import validation.FieldRules;
+
 public class CoachUtils {
     public static boolean isValidExperienceYears(int years) {
-        return ValidationHelper.isNumberInRange(years, 0, 50);
+        return FieldRules.EXPERIENCE_YEARS.test(years);
     }
 }
@@ -1,15 +1,17 @@
 package util;
 
+import validation.FieldRules;
+
 public class ExerciseUtils {
     public static boolean isValidName(String name) {
-        return ValidationHelper.isStringLengthBetween(name, 1, 100);
+        return FieldRules.EXERCISE_NAME.test(name);
     }
     
     public static boolean isValidReps(int reps) {
-        return ValidationHelper.isNumberInRange(reps, 1, 100);
+        return FieldRules.REPS.test(reps);
     }
     
     public static boolean isValidSets(int sets) {
-        return ValidationHelper.isNumberInRange(sets, 1, 10);
+        return FieldRules.SETS.test(sets);
     }
 }
@@ -4,6 +4,6 @@ import java.util.Date;
 
 public class PlanUtils {
     public static boolean isValidStartDate(Date date) {
-        return date != null && date.after(new Date());
+        return date != null && date.getTime() > System.currentTimeMillis();
     }
 }
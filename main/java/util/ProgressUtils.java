@@ -1,12 +1,14 @@
 package util;
 
+import validation.FieldRules;
+
 public class ProgressUtils {
     public static boolean isValidWeight(double weight) {
-        return ValidationHelper.isNumberInRange(weight, 30.0, 300.0);
+        return FieldRules.WEIGHT.test(weight);
     }
 
     public static boolean isValidBmi(double bmi) {
-        return ValidationHelper.isNumberInRange(bmi, 10.0, 50.0);
+        return FieldRules.BMI.test(bmi);
     }
     
     public static boolean isValidDate(java.util.Date date) {
@@ -0,0 +1,157 @@
+package util;
+
+import validation.TextRule;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Two-way set-associative and lock-free; a racing insert may lose an entry.
+public final class StringPool {
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+    static final int MAX_POOLED_LENGTH = 64;
+
+    private final AtomicReferenceArray<String> table;
+    private final int mask;
+    private final boolean asciiCaseMapping;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public StringPool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public StringPool(int capacity) {
+        if (capacity < 2 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 2 and 2^30");
+        }
+        int slots = Integer.highestOneBit(capacity - 1) << 1;
+        this.table = new AtomicReferenceArray<>(slots);
+        this.mask = slots - 1;
+        this.asciiCaseMapping = "i".toUpperCase().equals("I") && "I".toLowerCase().equals("i");
+    }
+
+    public String intern(String value) {
+        if (value == null || value.length() > MAX_POOLED_LENGTH) {
+            return value;
+        }
+        int hash = value.hashCode();
+        int slot = spread(hash) & mask;
+        String pooled = table.get(slot);
+        if (value.equals(pooled)) {
+            hits.increment();
+            return pooled;
+        }
+        pooled = table.get(slot ^ 1);
+        if (value.equals(pooled)) {
+            hits.increment();
+            return pooled;
+        }
+        insert(slot, hash, value);
+        return value;
+    }
+
+    // For ASCII text the pool is probed with the capitalized hash, so a hit allocates nothing.
+    public String capitalized(String text) {
+        if (text == null) {
+            return null;
+        }
+        int start = TextRule.trimStart(text);
+        int end = TextRule.trimEnd(text, start);
+        if (start == end) {
+            return text;
+        }
+        int length = end - start;
+        if (length > MAX_POOLED_LENGTH || !asciiCaseMapping) {
+            return intern(UserUtils.capitalizeText(text));
+        }
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80) {
+                return intern(UserUtils.capitalizeText(text));
+            }
+            hash = 31 * hash + (i == start ? toUpper(c) : toLower(c));
+        }
+        int slot = spread(hash) & mask;
+        String pooled = table.get(slot);
+        if (isCapitalized(pooled, hash, text, start, length)) {
+            hits.increment();
+            return pooled;
+        }
+        pooled = table.get(slot ^ 1);
+        if (isCapitalized(pooled, hash, text, start, length)) {
+            hits.increment();
+            return pooled;
+        }
+        char[] chars = new char[length];
+        chars[0] = toUpper(text.charAt(start));
+        for (int i = 1; i < length; i++) {
+            chars[i] = toLower(text.charAt(start + i));
+        }
+        String value = new String(chars);
+        insert(slot, hash, value);
+        return value;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    // Walks the whole table.
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < table.length(); i++) {
+            if (table.get(i) != null) size++;
+        }
+        return size;
+    }
+
+    public int capacity() {
+        return table.length();
+    }
+
+    public void clear() {
+        for (int i = 0; i < table.length(); i++) {
+            table.set(i, null);
+        }
+    }
+
+    private void insert(int slot, int hash, String value) {
+        misses.increment();
+        if (table.get(slot) != null && (table.get(slot ^ 1) == null || (hash & 0x10000) != 0)) {
+            slot ^= 1;
+        }
+        table.lazySet(slot, value);
+    }
+
+    private static boolean isCapitalized(String pooled, int hash, String text, int start, int length) {
+        if (pooled == null || pooled.length() != length || pooled.hashCode() != hash) {
+            return false;
+        }
+        if (pooled.charAt(0) != toUpper(text.charAt(start))) {
+            return false;
+        }
+        for (int i = 1; i < length; i++) {
+            if (pooled.charAt(i) != toLower(text.charAt(start + i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char toUpper(char c) {
+        return c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+    }
+
+    private static char toLower(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -1,8 +1,26 @@
 package util;
 
+import validation.FieldRules;
+
 public class UserUtils {
+    private static volatile StringPool namePool;
+
     private UserUtils() {
     }
+
+    // Null, the default, turns pooling off.
+    public static void setNamePool(StringPool pool) {
+        namePool = pool;
+    }
+
+    public static StringPool getNamePool() {
+        return namePool;
+    }
+
+    public static String canonicalName(String name) {
+        StringPool pool = namePool;
+        return pool != null ? pool.capitalized(name) : capitalizeText(name);
+    }
     
     public static String formarName(String firstName, String lastName) {
         if(firstName == null || lastName == null) {
@@ -19,7 +37,7 @@ public class UserUtils {
     }
 
     public static boolean isValidEmail(String email){
-        return ValidationHelper.isStringMatchPattern(email, "^[\\w.-]+@[\\w-]+(\\.[\\w-]+)*\\.[a-zA-Z]{2,}$");
+        return FieldRules.EMAIL.test(email);
     }
 
     public static String generateEmailFromNames(String... names) {
@@ -46,7 +64,7 @@ public class UserUtils {
     }
     
     public static boolean isValidName(String name) {
-        return ValidationHelper.isStringLengthBetween(name, 2, 50);
+        return FieldRules.NAME.test(name);
     }
 
     public static String capitalizeText(String text) {
@@ -1,14 +1,15 @@
 package util;
 
 import model.Intensity;
+import validation.FieldRules;
 
 public class WorkoutUtils {
     public static boolean isValidTitle(String title) {
-        return ValidationHelper.isStringLengthBetween(title, 3, 50);
+        return FieldRules.WORKOUT_TITLE.test(title);
     }
 
     public static boolean isValidDuration(int duration) {
-        return ValidationHelper.isNumberInRange(duration, 5, 180);
+        return FieldRules.DURATION_MINUTES.test(duration);
     }
 
     public static Intensity parseIntensity(String value) {
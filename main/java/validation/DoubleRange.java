@@ -0,0 +1,13 @@
+package validation;
+
+public record DoubleRange(double min, double max) {
+    public DoubleRange {
+        if (!(min <= max)) {
+            throw new IllegalArgumentException("Invalid range: " + min + ".." + max);
+        }
+    }
+
+    public boolean test(double value) {
+        return value >= min && value <= max;
+    }
+}
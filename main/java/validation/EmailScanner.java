@@ -0,0 +1,93 @@
+package validation;
+
+// Recognizes FieldRules.EMAIL_REGEX in one pass.
+public final class EmailScanner {
+    private static final int WORD = 1;
+    private static final int LETTER = 2;
+    private static final byte[] CLASSES = new byte[128];
+
+    static {
+        for (char c = '0'; c <= '9'; c++) CLASSES[c] = WORD;
+        for (char c = 'a'; c <= 'z'; c++) CLASSES[c] = WORD | LETTER;
+        for (char c = 'A'; c <= 'Z'; c++) CLASSES[c] = WORD | LETTER;
+        CLASSES['_'] = WORD;
+        CLASSES['-'] = WORD;
+    }
+
+    private EmailScanner() {
+    }
+
+    public static boolean isValid(CharSequence text) {
+        return text != null && isValid(text, 0, text.length());
+    }
+
+    public static boolean isValid(CharSequence text, int start, int end) {
+        int at = scanLocalPart(text, start, end);
+        if (at < 0) {
+            return false;
+        }
+        int labels = 0;
+        int labelLength = 0;
+        boolean letters = true;
+        for (int i = at + 1; i < end; i++) {
+            char c = text.charAt(i);
+            if (c == '.') {
+                if (labelLength == 0) return false;
+                labels++;
+                labelLength = 0;
+                letters = true;
+            } else if (c < 128 && CLASSES[c] != 0) {
+                labelLength++;
+                letters &= (CLASSES[c] & LETTER) != 0;
+            } else {
+                return false;
+            }
+        }
+        return labels > 0 && labelLength >= 2 && letters;
+    }
+
+    // Any non-ASCII byte is rejected, as the pattern only admits ASCII.
+    public static boolean isValid(byte[] bytes, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        while (i < end && bytes[i] != '@') {
+            byte b = bytes[i];
+            if (b < 0 || (b != '.' && CLASSES[b] == 0)) return false;
+            i++;
+        }
+        if (i == offset || i == end) {
+            return false;
+        }
+        int labels = 0;
+        int labelLength = 0;
+        boolean letters = true;
+        for (i++; i < end; i++) {
+            byte b = bytes[i];
+            if (b == '.') {
+                if (labelLength == 0) return false;
+                labels++;
+                labelLength = 0;
+                letters = true;
+            } else if (b >= 0 && CLASSES[b] != 0) {
+                labelLength++;
+                letters &= (CLASSES[b] & LETTER) != 0;
+            } else {
+                return false;
+            }
+        }
+        return labels > 0 && labelLength >= 2 && letters;
+    }
+
+    private static int scanLocalPart(CharSequence text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c == '@') {
+                return i > start ? i : -1;
+            }
+            if (c >= 128 || (c != '.' && CLASSES[c] == 0)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+}
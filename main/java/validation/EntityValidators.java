@@ -0,0 +1,53 @@
+package validation;
+
+import model.Client;
+import model.Coach;
+import model.Exercise;
+import model.Plan;
+import model.Progress;
+import model.User;
+import model.Workout;
+import util.PlanUtils;
+
+public final class EntityValidators {
+    public static final Validator<User> USER = Validator.<User>builder()
+            .text("firstName", User::getFirstName, FieldRules.NAME)
+            .text("lastName", User::getLastName, FieldRules.NAME)
+            .text("email", User::getEmail, FieldRules.EMAIL)
+            .build();
+
+    public static final Validator<Coach> COACH = Validator.<Coach>builder()
+            .include(USER)
+            .range("experienceYears", Coach::getExperienceYears, FieldRules.EXPERIENCE_YEARS)
+            .build();
+
+    public static final Validator<Client> CLIENT = Validator.<Client>builder()
+            .include(USER)
+            .notNull("level", Client::getLevel)
+            .build();
+
+    public static final Validator<Exercise> EXERCISE = Validator.<Exercise>builder()
+            .text("name", Exercise::name, FieldRules.EXERCISE_NAME)
+            .range("reps", Exercise::reps, FieldRules.REPS)
+            .range("sets", Exercise::sets, FieldRules.SETS)
+            .build();
+
+    public static final Validator<Workout> WORKOUT = Validator.<Workout>builder()
+            .text("title", Workout::title, FieldRules.WORKOUT_TITLE)
+            .range("durationMinutes", Workout::durationMinutes, FieldRules.DURATION_MINUTES)
+            .notNull("intensity", Workout::intensity)
+            .build();
+
+    public static final Validator<Progress> PROGRESS = Validator.<Progress>builder()
+            .notNull("date", Progress::getDate)
+            .range("weight", Progress::getWeight, FieldRules.WEIGHT)
+            .range("bmi", Progress::getBmi, FieldRules.BMI)
+            .build();
+
+    public static final Validator<Plan> PLAN = Validator.<Plan>builder()
+            .check("startDate", plan -> PlanUtils.isValidStartDate(plan.getStartDate()), Plan::getStartDate)
+            .build();
+
+    private EntityValidators() {
+    }
+}
@@ -0,0 +1,18 @@
+package validation;
+
+public final class FieldRules {
+    public static final TextRule NAME = TextRule.length(2, 50);
+    public static final String EMAIL_REGEX = "^[\\w.-]+@[\\w-]+(\\.[\\w-]+)*\\.[a-zA-Z]{2,}$";
+    public static final TextRule EMAIL = TextRule.checking(EmailScanner::isValid);
+    public static final IntRange EXPERIENCE_YEARS = new IntRange(0, 50);
+    public static final TextRule EXERCISE_NAME = TextRule.length(1, 100);
+    public static final IntRange REPS = new IntRange(1, 100);
+    public static final IntRange SETS = new IntRange(1, 10);
+    public static final TextRule WORKOUT_TITLE = TextRule.length(3, 50);
+    public static final IntRange DURATION_MINUTES = new IntRange(5, 180);
+    public static final DoubleRange WEIGHT = new DoubleRange(30.0, 300.0);
+    public static final DoubleRange BMI = new DoubleRange(10.0, 50.0);
+
+    private FieldRules() {
+    }
+}
@@ -0,0 +1,14 @@
+package validation;
+
+public record IntRange(int min, int max) {
+    public IntRange {
+        if (min > max) {
+            throw new IllegalArgumentException("Invalid range: " + min + ".." + max);
+        }
+    }
+
+    public boolean test(int value) {
+        // Shifting by min maps the range onto [0, max - min]; values below min wrap to large unsigned numbers.
+        return Integer.compareUnsigned(value - min, max - min) <= 0;
+    }
+}
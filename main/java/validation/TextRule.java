@@ -0,0 +1,95 @@
+package validation;
+
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class TextRule {
+    private final int minLength;
+    private final int maxLength;
+    private final Pattern pattern;
+    private final ThreadLocal<Matcher> matchers;
+    private final Predicate<CharSequence> syntax;
+
+    private TextRule(int minLength, int maxLength, Pattern pattern, Predicate<CharSequence> syntax) {
+        if (minLength < 0 || minLength > maxLength) {
+            throw new IllegalArgumentException("Invalid length bounds: " + minLength + ".." + maxLength);
+        }
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+        this.pattern = pattern;
+        // A Matcher is reset per call instead of allocated, which keeps pattern checks garbage-free.
+        this.matchers = pattern == null ? null : ThreadLocal.withInitial(() -> pattern.matcher(""));
+        this.syntax = syntax;
+    }
+
+    public static TextRule length(int minLength, int maxLength) {
+        return new TextRule(minLength, maxLength, null, null);
+    }
+
+    public static TextRule matching(String regex) {
+        return new TextRule(0, Integer.MAX_VALUE, Pattern.compile(regex), null);
+    }
+
+    public static TextRule checking(Predicate<CharSequence> syntax) {
+        if (syntax == null) {
+            throw new IllegalArgumentException("Syntax check must not be null");
+        }
+        return new TextRule(0, Integer.MAX_VALUE, null, syntax);
+    }
+
+    public TextRule withLength(int minLength, int maxLength) {
+        return new TextRule(minLength, maxLength, pattern, syntax);
+    }
+
+    public boolean test(CharSequence text) {
+        if (text == null) {
+            return false;
+        }
+        if (minLength > 0 || maxLength < Integer.MAX_VALUE) {
+            int length = trimmedLength(text);
+            if (length < minLength || length > maxLength) {
+                return false;
+            }
+        }
+        if (pattern != null && !matchers.get().reset(text).matches()) {
+            return false;
+        }
+        return syntax == null || syntax.test(text);
+    }
+
+    public int getMinLength() {
+        return minLength;
+    }
+
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    public Pattern getPattern() {
+        return pattern;
+    }
+
+    public static int trimmedLength(CharSequence text) {
+        int start = trimStart(text);
+        return trimEnd(text, start) - start;
+    }
+
+    // Trims the same characters as String.trim, as indexes so callers can work on the text in place.
+    public static int trimStart(CharSequence text) {
+        int start = 0;
+        int end = text.length();
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    public static int trimEnd(CharSequence text, int start) {
+        int end = text.length();
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+}
@@ -0,0 +1,121 @@
+package validation;
+
+import exception.InvalidDataException;
+
+import java.util.Arrays;
+
+// Parallel arrays; errors beyond maxErrors are only counted. Not thread-safe.
+public final class ValidationErrors {
+    private static final int DEFAULT_MAX_ERRORS = 10_000;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int maxErrors;
+    private long[] rows = new long[INITIAL_CAPACITY];
+    private String[] fields = new String[INITIAL_CAPACITY];
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private int size;
+    private long discarded;
+    private long failedRows;
+    private long lastRow = -1;
+
+    public ValidationErrors() {
+        this(DEFAULT_MAX_ERRORS);
+    }
+
+    public ValidationErrors(int maxErrors) {
+        if (maxErrors < 0) {
+            throw new IllegalArgumentException("Maximum errors must not be negative");
+        }
+        this.maxErrors = maxErrors;
+    }
+
+    public void add(long row, String field, Object invalidValue) {
+        if (row != lastRow) {
+            failedRows++;
+            lastRow = row;
+        }
+        if (size == maxErrors) {
+            discarded++;
+        } else {
+            append(row, field, invalidValue);
+        }
+    }
+
+    public void addAll(ValidationErrors other) {
+        int retained = Math.min(other.size, maxErrors - size);
+        for (int i = 0; i < retained; i++) {
+            append(other.rows[i], other.fields[i], other.values[i]);
+        }
+        discarded += other.size - retained + other.discarded;
+        failedRows += other.failedRows;
+        if (other.failedRows > 0) {
+            lastRow = other.lastRow;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0 && discarded == 0;
+    }
+
+    public long getTotalCount() {
+        return size + discarded;
+    }
+
+    // Assumes each row's failures are reported together.
+    public long getFailedRowCount() {
+        return failedRows;
+    }
+
+    public long getRow(int index) {
+        checkIndex(index);
+        return rows[index];
+    }
+
+    public String getField(int index) {
+        checkIndex(index);
+        return fields[index];
+    }
+
+    public String getInvalidValue(int index) {
+        checkIndex(index);
+        return values[index] == null ? null : String.valueOf(values[index]);
+    }
+
+    public InvalidDataException toException(int index) {
+        checkIndex(index);
+        return InvalidDataException.withoutStackTrace(
+                "Invalid " + fields[index] + " at row " + rows[index], fields[index], getInvalidValue(index));
+    }
+
+    public void clear() {
+        Arrays.fill(fields, 0, size, null);
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+        discarded = 0;
+        failedRows = 0;
+        lastRow = -1;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for " + size + " errors");
+        }
+    }
+
+    private void append(long row, String field, Object invalidValue) {
+        if (size == rows.length) {
+            int capacity = (int) Math.min((long) size * 2, maxErrors);
+            rows = Arrays.copyOf(rows, capacity);
+            fields = Arrays.copyOf(fields, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        rows[size] = row;
+        fields[size] = field;
+        values[size] = invalidValue;
+        size++;
+    }
+}
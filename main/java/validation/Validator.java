@@ -0,0 +1,143 @@
+package validation;
+
+import exception.InvalidDataException;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+
+public final class Validator<T> {
+    private final String[] fields;
+    private final Predicate<T>[] checks;
+    private final Function<T, Object>[] values;
+
+    private Validator(String[] fields, Predicate<T>[] checks, Function<T, Object>[] values) {
+        this.fields = fields;
+        this.checks = checks;
+        this.values = values;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public String firstInvalidField(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException("Item must not be null");
+        }
+        for (int i = 0; i < checks.length; i++) {
+            if (!checks[i].test(item)) {
+                return fields[i];
+            }
+        }
+        return null;
+    }
+
+    public boolean isValid(T item) {
+        return firstInvalidField(item) == null;
+    }
+
+    // Reports every failing rule instead of stopping at the first.
+    public boolean validate(T item, long row, ValidationErrors errors) {
+        if (item == null) {
+            throw new IllegalArgumentException("Item must not be null");
+        }
+        boolean valid = true;
+        for (int i = 0; i < checks.length; i++) {
+            if (!checks[i].test(item)) {
+                errors.add(row, fields[i], snapshot(values[i].apply(item)));
+                valid = false;
+            }
+        }
+        return valid;
+    }
+
+    public void requireValid(T item) throws InvalidDataException {
+        if (item == null) {
+            throw new IllegalArgumentException("Item must not be null");
+        }
+        for (int i = 0; i < checks.length; i++) {
+            if (!checks[i].test(item)) {
+                Object value = values[i].apply(item);
+                throw InvalidDataException.withoutStackTrace("Invalid " + fields[i], fields[i],
+                        value == null ? null : String.valueOf(value));
+            }
+        }
+    }
+
+    private static Object snapshot(Object value) {
+        // Views such as CSV field slices are reused for the next row, so keep a copy of failing text.
+        return value instanceof CharSequence text && !(value instanceof String) ? text.toString() : value;
+    }
+
+    public List<String> getFields() {
+        return List.of(fields);
+    }
+
+    public static final class Builder<T> {
+        private final List<String> fields = new ArrayList<>();
+        private final List<Predicate<T>> checks = new ArrayList<>();
+        private final List<Function<T, Object>> values = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder<T> include(Validator<? super T> validator) {
+            for (int i = 0; i < validator.checks.length; i++) {
+                Predicate<? super T> check = validator.checks[i];
+                Function<? super T, Object> value = validator.values[i];
+                add(validator.fields[i], check::test, value::apply);
+            }
+            return this;
+        }
+
+        public Builder<T> text(String field, Function<? super T, ? extends CharSequence> getter, TextRule rule) {
+            return add(field, item -> rule.test(getter.apply(item)), getter::apply);
+        }
+
+        public Builder<T> range(String field, ToIntFunction<? super T> getter, IntRange range) {
+            return add(field, item -> range.test(getter.applyAsInt(item)), getter::applyAsInt);
+        }
+
+        public Builder<T> range(String field, ToDoubleFunction<? super T> getter, DoubleRange range) {
+            return add(field, item -> range.test(getter.applyAsDouble(item)), getter::applyAsDouble);
+        }
+
+        public Builder<T> notNull(String field, Function<? super T, ?> getter) {
+            return add(field, item -> getter.apply(item) != null, item -> null);
+        }
+
+        public Builder<T> check(String field, Predicate<? super T> check) {
+            return add(field, check::test, item -> null);
+        }
+
+        public Builder<T> check(String field, Predicate<? super T> check, Function<? super T, ?> value) {
+            return add(field, check::test, value::apply);
+        }
+
+        @SuppressWarnings("unchecked")
+        public Validator<T> build() {
+            return new Validator<>(fields.toArray(new String[0]), toArray(checks, Predicate.class),
+                    toArray(values, Function.class));
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <E> E[] toArray(List<E> list, Class<?> componentType) {
+            return list.toArray((E[]) Array.newInstance(componentType, list.size()));
+        }
+
+        private Builder<T> add(String field, Predicate<T> check, Function<T, Object> value) {
+            if (field == null || field.isBlank()) {
+                throw new IllegalArgumentException("Field name must not be blank");
+            }
+            fields.add(field);
+            checks.add(check);
+            values.add(value);
+            return this;
+        }
+    }
+}
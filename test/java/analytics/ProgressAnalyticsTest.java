@@ -0,0 +1,201 @@
+package analytics;
+
+import model.Client;
+import model.Level;
+import model.Plan;
+import model.Progress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+@DisplayName("ProgressAnalytics Tests")
+public class ProgressAnalyticsTest {
+    private static final long DAY = ProgressAnalytics.DAY_MILLIS;
+    private static final long START = 1_700_000_000_000L;
+
+    private static Client client(String name) {
+        return new Client(name, "Client", name.toLowerCase() + "@university.edu", Level.BEGINNER, null);
+    }
+
+    private record Measurement(long time, double weight, double bmi) {
+    }
+
+    private static ClientTrend expected(String identity, List<Measurement> all, long planStart) {
+        Measurement latest = null;
+        for (Measurement m : all) {
+            if (latest == null || m.time() >= latest.time()) latest = m;
+        }
+        double[] shortSum = new double[2];
+        double[] longSum = new double[2];
+        double n = 0, st = 0, sb = 0, stt = 0, stb = 0;
+        Measurement baseline = null;
+        for (Measurement m : all) {
+            if (m.time() > latest.time() - 7 * DAY) {
+                shortSum[0] += m.weight();
+                shortSum[1]++;
+            }
+            if (m.time() > latest.time() - 30 * DAY) {
+                longSum[0] += m.weight();
+                longSum[1]++;
+                double day = (double) (m.time() - all.get(0).time()) / DAY;
+                n++;
+                st += day;
+                sb += m.bmi();
+                stt += day * day;
+                stb += day * m.bmi();
+            }
+            if (m.time() >= planStart && (baseline == null || m.time() < baseline.time())) {
+                baseline = m;
+            }
+        }
+        double denominator = n * stt - st * st;
+        double slope = n < 2 || Math.abs(denominator) < 1e-9 * Math.max(1, n * stt)
+                ? Double.NaN : (n * stb - st * sb) / denominator;
+        return new ClientTrend(identity, all.size(), latest.time(), latest.weight(),
+                shortSum[0] / shortSum[1], longSum[0] / longSum[1], slope,
+                baseline != null ? latest.weight() - baseline.weight() : Double.NaN);
+    }
+
+    private static void assertTrend(ClientTrend expected, ClientTrend actual) {
+        assertEquals(expected.clientId(), actual.clientId());
+        assertEquals(expected.measurements(), actual.measurements());
+        assertEquals(expected.latestMillis(), actual.latestMillis());
+        assertEquals(expected.latestWeight(), actual.latestWeight());
+        assertEquals(expected.averageWeight7Days(), actual.averageWeight7Days(), 1e-9);
+        assertEquals(expected.averageWeight30Days(), actual.averageWeight30Days(), 1e-9);
+        assertEquals(expected.bmiSlopePerDay(), actual.bmiSlopePerDay(), 1e-7);
+        assertEquals(expected.weightChangeSincePlanStart(), actual.weightChangeSincePlanStart(), 1e-9);
+    }
+
+    @Nested
+    @DisplayName("Aggregate Tests")
+    class AggregateTests {
+        private ProgressAnalytics analytics;
+        private Client anna;
+
+        @BeforeEach
+        void setUp() {
+            analytics = new ProgressAnalytics();
+            anna = client("Anna");
+        }
+
+        @Test
+        @DisplayName("Should average the trailing windows ending at the latest measurement")
+        void testRollingAverages() {
+            for (int day = 0; day < 40; day++) {
+                assertTrue(analytics.record(anna, START + day * DAY, 100 - day, 30 - day * 0.1));
+            }
+
+            ClientTrend trend = analytics.getTrend(anna);
+            assertEquals(40, trend.measurements());
+            assertEquals(61, trend.latestWeight());
+            assertEquals(64, trend.averageWeight7Days(), 1e-9);
+            assertEquals(75.5, trend.averageWeight30Days(), 1e-9);
+            assertEquals(-0.1, trend.bmiSlopePerDay(), 1e-9);
+            assertTrue(Double.isNaN(trend.weightChangeSincePlanStart()));
+        }
+
+        @Test
+        @DisplayName("Should count a late measurement in the windows it falls into")
+        void testLateMeasurement() {
+            analytics.record(anna, START, 80, 25);
+            analytics.record(anna, START + 10 * DAY, 78, 24);
+            analytics.record(anna, START + 5 * DAY, 90, 26);
+            analytics.record(anna, START + 2 * DAY, 70, 23);
+
+            ClientTrend trend = analytics.getTrend(anna);
+            assertEquals(START + 10 * DAY, trend.latestMillis());
+            assertEquals(78, trend.latestWeight());
+            assertEquals(84, trend.averageWeight7Days(), 1e-9);
+            assertEquals(79.5, trend.averageWeight30Days(), 1e-9);
+        }
+
+        @Test
+        @DisplayName("Should measure the weight change from the first measurement after the plan start")
+        void testChangeSincePlanStart() {
+            analytics.record(anna, START, 90, 28);
+            analytics.record(anna, START + 20 * DAY, 84, 26);
+            analytics.setPlanStart(anna, new Date(START + 5 * DAY));
+            analytics.record(anna, START + 10 * DAY, 88, 27);
+            assertEquals(-4, analytics.getTrend(anna).weightChangeSincePlanStart(), 1e-9);
+
+            analytics.record(anna, START + 7 * DAY, 89, 27.5);
+            assertEquals(-5, analytics.getTrend(anna).weightChangeSincePlanStart(), 1e-9);
+
+            analytics.setPlanStart(anna, new Date(START + 30 * DAY));
+            assertTrue(Double.isNaN(analytics.getTrend(anna).weightChangeSincePlanStart()));
+        }
+
+        @Test
+        @DisplayName("Should take the plan start from a plan")
+        void testTrackPlan() {
+            Date start = new Date(System.currentTimeMillis() + DAY);
+            Plan plan = new Plan(new ArrayList<>(), start, anna);
+            analytics.track(plan);
+            analytics.record(anna, start.getTime() + DAY, 80, 25);
+            analytics.record(anna, start.getTime() + 3 * DAY, 79, 24.7);
+
+            assertEquals(-1, analytics.getTrend(anna).weightChangeSincePlanStart(), 1e-9);
+        }
+
+        @Test
+        @DisplayName("Should ignore invalid measurements and report unknown clients as null")
+        void testInvalidInput() {
+            assertFalse(analytics.record(null));
+            assertFalse(analytics.record(new Progress()));
+            assertFalse(analytics.record(null, START, 80, 25));
+            assertFalse(analytics.record(anna, START, 5, 25));
+            assertFalse(analytics.record(new Client(), START, 80, 25));
+            assertTrue(analytics.record(new Progress(new Date(START), 80, 25, anna)));
+
+            assertNull(analytics.getTrend(client("Ben")));
+            assertNull(analytics.getTrend((String) null));
+            assertTrue(Double.isNaN(analytics.getTrend(anna).bmiSlopePerDay()));
+            assertEquals(1, analytics.getClientCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Differential Tests")
+    class DifferentialTests {
+
+        @Test
+        @DisplayName("Should match a full recomputation after every out-of-order measurement")
+        void testMatchesRecomputation() {
+            Random random = new Random(11);
+            ProgressAnalytics analytics = new ProgressAnalytics();
+            Client[] clients = {client("Anna"), client("Ben"), client("Cara")};
+            List<List<Measurement>> recorded = List.of(new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+            long[] planStarts = {START + 20 * DAY, Long.MAX_VALUE, START};
+            analytics.setPlanStart(clients[0], new Date(planStarts[0]));
+            analytics.setPlanStart(clients[2], new Date(planStarts[2]));
+
+            for (int i = 0; i < 3_000; i++) {
+                int c = random.nextInt(clients.length);
+                long time = START + (long) (random.nextDouble() * Math.min(i + 1, 120) * DAY);
+                if (random.nextInt(10) == 0 && !recorded.get(c).isEmpty()) {
+                    time = recorded.get(c).get(random.nextInt(recorded.get(c).size())).time();
+                }
+                Measurement m = new Measurement(time, 50 + random.nextInt(500) / 10.0, 15 + random.nextInt(300) / 10.0);
+                assertTrue(analytics.record(clients[c], m.time(), m.weight(), m.bmi()));
+                recorded.get(c).add(m);
+
+                if (i % 50 == 0 || i > 2_950) {
+                    for (int k = 0; k < clients.length; k++) {
+                        if (!recorded.get(k).isEmpty()) {
+                            assertTrend(expected(clients[k].getEmail(), recorded.get(k), planStarts[k]),
+                                    analytics.getTrend(clients[k]));
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
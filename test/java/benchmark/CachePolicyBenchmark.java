@@ -0,0 +1,105 @@
+package benchmark;
+
+import cache.BoundedGenericRepository;
+import cache.EvictionPolicy;
+import cache.LruPolicy;
+import cache.TinyLfuPolicy;
+import model.User;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import repositories.GenericRepository;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CachePolicyBenchmark {
+    private static final int UNIVERSE = 100_000;
+    private static final int TRACE_LENGTH = 1 << 20;
+    private static final double ZIPF_EXPONENT = 0.99;
+
+    @Param({"lru", "tinylfu"})
+    public String policy;
+
+    @Param({"1000", "10000"})
+    public int maximumSize;
+
+    private User[] users;
+    private String[] identities;
+    private int[] trace;
+    private int position;
+    private BoundedGenericRepository<User> repository;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        public long hits;
+        public long misses;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            hits = 0;
+            misses = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Logger.getLogger(GenericRepository.class.getName()).setLevel(java.util.logging.Level.OFF);
+        users = new User[UNIVERSE];
+        identities = new String[UNIVERSE];
+        for (int i = 0; i < UNIVERSE; i++) {
+            users[i] = new User("Bench", "User", "user" + i + "@university.edu");
+            identities[i] = users[i].getEmail();
+        }
+        trace = zipfianTrace(new SplittableRandom(42));
+        EvictionPolicy evictionPolicy = "lru".equals(policy) ? new LruPolicy() : new TinyLfuPolicy(maximumSize);
+        repository = new BoundedGenericRepository<>(User::getEmail, maximumSize, evictionPolicy);
+    }
+
+    @Benchmark
+    public User readThrough(Counters counters) {
+        int key = trace[position];
+        position = (position + 1) & (TRACE_LENGTH - 1);
+        User user = repository.findByIdentity(identities[key]);
+        if (user != null) {
+            counters.hits++;
+            return user;
+        }
+        counters.misses++;
+        repository.add(users[key]);
+        return users[key];
+    }
+
+    private static int[] zipfianTrace(SplittableRandom random) {
+        double[] cumulative = new double[UNIVERSE];
+        double sum = 0;
+        for (int rank = 0; rank < UNIVERSE; rank++) {
+            sum += 1.0 / Math.pow(rank + 1, ZIPF_EXPONENT);
+            cumulative[rank] = sum;
+        }
+        int[] trace = new int[TRACE_LENGTH];
+        for (int i = 0; i < TRACE_LENGTH; i++) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+            trace[i] = index >= 0 ? index : Math.min(-index - 1, UNIVERSE - 1);
+        }
+        return trace;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(CachePolicyBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
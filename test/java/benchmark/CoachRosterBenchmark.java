@@ -0,0 +1,113 @@
+package benchmark;
+
+import model.Client;
+import model.Coach;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import repositories.CoachRosterIndex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx5g")
+@State(Scope.Benchmark)
+public class CoachRosterBenchmark {
+    @Param({"100000"})
+    public int coaches;
+
+    @Param({"10000000"})
+    public int clients;
+
+    private Coach[] coachArray;
+    private Client[] clientArray;
+    private Client[] unindexed;
+    private CoachRosterIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        coachArray = new Coach[coaches];
+        for (int i = 0; i < coaches; i++) {
+            coachArray[i] = new Coach("Bench", "Coach", "coach" + i + "@university.edu", i % 30);
+        }
+        index = new CoachRosterIndex("roster");
+        clientArray = new Client[clients];
+        for (int i = 0; i < clients; i++) {
+            clientArray[i] = new Client("Bench", "Client", "client" + i + "@university.edu",
+                    model.Level.BEGINNER, coachArray[i % coaches]);
+            index.onAdd(clientArray[i].getEmail(), clientArray[i]);
+        }
+        unindexed = new Client[1024];
+        for (int i = 0; i < unindexed.length; i++) {
+            unindexed[i] = new Client("Bench", "Client", "plain" + i + "@university.edu",
+                    model.Level.BEGINNER, coachArray[i % coaches]);
+        }
+    }
+
+    @Benchmark
+    public int rosterSizeScan() {
+        Coach coach = randomCoach();
+        int count = 0;
+        for (Client client : clientArray) {
+            if (client.getCoach() == coach) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int rosterSizeIndex() {
+        return index.rosterSize(randomCoach());
+    }
+
+    @Benchmark
+    public List<String> rosterScan() {
+        Coach coach = randomCoach();
+        List<String> roster = new ArrayList<>();
+        for (Client client : clientArray) {
+            if (client.getCoach() == coach) {
+                roster.add(client.getEmail());
+            }
+        }
+        return roster;
+    }
+
+    @Benchmark
+    public List<String> rosterIndex() {
+        return new ArrayList<>(index.identitiesFor(randomCoach()));
+    }
+
+    @Benchmark
+    public Client reassignIndexed() {
+        Client client = clientArray[ThreadLocalRandom.current().nextInt(clients)];
+        client.setCoach(randomCoach());
+        return client;
+    }
+
+    @Benchmark
+    public Client reassignUnindexed() {
+        Client client = unindexed[ThreadLocalRandom.current().nextInt(unindexed.length)];
+        client.setCoach(randomCoach());
+        return client;
+    }
+
+    private Coach randomCoach() {
+        return coachArray[ThreadLocalRandom.current().nextInt(coaches)];
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(CoachRosterBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,131 @@
+package benchmark;
+
+import model.Client;
+import model.ClientSnapshot;
+import model.Coach;
+import model.Exercise;
+import model.Intensity;
+import model.Plan;
+import model.PlanSnapshot;
+import model.Workout;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Probes are distinct but equal objects, as when a key is rebuilt from a request.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntityKeyBenchmark {
+    @Param({"10000"})
+    public int keys;
+
+    private Map<Client, Integer> clientMap;
+    private Map<ClientSnapshot, Integer> clientSnapshotMap;
+    private Map<Plan, Integer> planMap;
+    private Map<PlanSnapshot, Integer> planSnapshotMap;
+    private Client[] clientProbes;
+    private ClientSnapshot[] clientSnapshotProbes;
+    private ClientSnapshot[] clientSnapshotKeys;
+    private Plan[] planProbes;
+    private PlanSnapshot[] planSnapshotProbes;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        clientMap = new HashMap<>();
+        clientSnapshotMap = new HashMap<>();
+        planMap = new HashMap<>();
+        planSnapshotMap = new HashMap<>();
+        clientProbes = new Client[keys];
+        clientSnapshotProbes = new ClientSnapshot[keys];
+        clientSnapshotKeys = new ClientSnapshot[keys];
+        planProbes = new Plan[keys];
+        planSnapshotProbes = new PlanSnapshot[keys];
+        Date start = new Date(System.currentTimeMillis() + 86_400_000L);
+        List<Workout> workouts = new ArrayList<>();
+        for (int w = 0; w < 8; w++) {
+            workouts.add(new Workout("Workout " + w, 30 + w, Intensity.MEDIUM,
+                    List.of(new Exercise("Squat", 10, 3), new Exercise("Lunge", 12, 3), new Exercise("Plank", 1, 5))));
+        }
+        for (int i = 0; i < keys; i++) {
+            Client key = client(i);
+            Plan plan = new Plan(new ArrayList<>(workouts), start, key);
+            clientMap.put(key, i);
+            clientSnapshotKeys[i] = ClientSnapshot.of(key);
+            clientSnapshotMap.put(clientSnapshotKeys[i], i);
+            planMap.put(plan, i);
+            planSnapshotMap.put(PlanSnapshot.of(plan), i);
+
+            clientProbes[i] = client(i);
+            clientSnapshotProbes[i] = ClientSnapshot.of(client(i));
+            planProbes[i] = new Plan(new ArrayList<>(workouts), start, client(i));
+            planSnapshotProbes[i] = PlanSnapshot.of(planProbes[i]);
+        }
+    }
+
+    private static Client client(int i) {
+        Coach coach = new Coach("Coach", "Number", "coach" + i % 100 + "@university.edu", i % 40);
+        return new Client("Client", "Number", "client" + i + "@university.edu", model.Level.values()[i % 3], coach);
+    }
+
+    private int nextIndex() {
+        int i = next++;
+        if (next == keys) next = 0;
+        return i;
+    }
+
+    @Benchmark
+    public int clientHashCode() {
+        return clientProbes[nextIndex()].hashCode();
+    }
+
+    @Benchmark
+    public int clientSnapshotHashCode() {
+        return clientSnapshotProbes[nextIndex()].hashCode();
+    }
+
+    @Benchmark
+    public Integer clientLookup() {
+        return clientMap.get(clientProbes[nextIndex()]);
+    }
+
+    @Benchmark
+    public Integer clientSnapshotLookup() {
+        return clientSnapshotMap.get(clientSnapshotProbes[nextIndex()]);
+    }
+
+    @Benchmark
+    public Integer clientSnapshotSameInstanceLookup() {
+        return clientSnapshotMap.get(clientSnapshotKeys[nextIndex()]);
+    }
+
+    @Benchmark
+    public Integer planLookup() {
+        return planMap.get(planProbes[nextIndex()]);
+    }
+
+    @Benchmark
+    public Integer planSnapshotLookup() {
+        return planSnapshotMap.get(planSnapshotProbes[nextIndex()]);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(EntityKeyBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
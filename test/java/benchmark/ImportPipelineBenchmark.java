@@ -0,0 +1,81 @@
+package benchmark;
+
+import importer.CsvImportPipeline;
+import importer.EntityRowMappers;
+import importer.ImportOptions;
+import importer.ImportResult;
+import model.User;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import repositories.ConcurrentGenericRepository;
+import repositories.GenericRepository;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+// One row in ten is invalid, so the error path is measured too.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ImportPipelineBenchmark {
+    private static final int ROWS = 100_000;
+    private static final Logger repositoryLogger = Logger.getLogger(GenericRepository.class.getName());
+
+    @Param({"1", "2", "4"})
+    public int workers;
+
+    @Param({"true", "false"})
+    public boolean ordered;
+
+    private Path file;
+    private CsvImportPipeline<User> pipeline;
+    private GenericRepository<User> repository;
+
+    @Setup(Level.Trial)
+    public void writeFile() throws IOException {
+        repositoryLogger.setLevel(java.util.logging.Level.WARNING);
+        file = Files.createTempFile("users", ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("firstName,lastName,email\n");
+            for (int i = 0; i < ROWS; i++) {
+                String email = i % 10 == 0 ? "user" + i + "@invalid" : "user" + i + "@university.edu";
+                writer.write("First" + i % 97 + ",Last" + i % 89 + "," + email + "\n");
+            }
+        }
+        pipeline = new CsvImportPipeline<>(EntityRowMappers.USERS,
+                ImportOptions.defaults().withWorkers(workers).withOrdered(ordered));
+    }
+
+    @Setup(Level.Invocation)
+    public void freshRepository() {
+        repository = new ConcurrentGenericRepository<>(User::getEmail, ROWS);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public ImportResult importUsers() throws IOException {
+        return pipeline.run(file, repository);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ImportPipelineBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
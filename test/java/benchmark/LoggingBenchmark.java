@@ -0,0 +1,98 @@
+package benchmark;
+
+import logging.AsyncLogHandler;
+import model.User;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import repositories.GenericRepository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.FileHandler;
+import java.util.logging.Handler;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+    private static final int BATCH = 10_000;
+
+    @Param({"sync", "async", "off"})
+    public String handler;
+
+    private final Logger root = Logger.getLogger("");
+    private final Logger repositoryLogger = Logger.getLogger(GenericRepository.class.getName());
+    private Handler[] originalHandlers;
+    private Handler installed;
+    private Path directory;
+    private User[] users;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("logging-benchmark");
+        originalHandlers = root.getHandlers();
+        for (Handler original : originalHandlers) {
+            root.removeHandler(original);
+        }
+        switch (handler) {
+            case "sync" -> {
+                FileHandler fileHandler = new FileHandler(directory.resolve("application.log").toString());
+                fileHandler.setFormatter(new SimpleFormatter());
+                installed = fileHandler;
+            }
+            case "async" -> installed = new AsyncLogHandler(directory.resolve("application.log"));
+            default -> repositoryLogger.setLevel(java.util.logging.Level.OFF);
+        }
+        if (installed != null) {
+            root.addHandler(installed);
+        }
+        users = new User[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            users[i] = new User("Bench", "User", "user" + i + "@university.edu");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (installed != null) {
+            root.removeHandler(installed);
+            installed.close();
+        }
+        for (Handler original : originalHandlers) {
+            root.addHandler(original);
+        }
+        repositoryLogger.setLevel(null);
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public int addBatch() {
+        GenericRepository<User> repository = new GenericRepository<>(User::getEmail);
+        for (User user : users) {
+            repository.add(user);
+        }
+        return repository.size();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(LoggingBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,105 @@
+package benchmark;
+
+import analytics.ClientTrend;
+import analytics.ProgressAnalytics;
+import model.Client;
+import model.Progress;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProgressAnalyticsBenchmark {
+    private static final long START = 1_600_000_000_000L;
+    private static final long DAY = ProgressAnalytics.DAY_MILLIS;
+
+    @Param({"100", "2000"})
+    public int clients;
+
+    @Param({"365"})
+    public int daysPerClient;
+
+    private Client[] clientList;
+    private List<Progress> progress;
+    private ProgressAnalytics analytics;
+    private Client probe;
+    private long next;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        clientList = new Client[clients];
+        progress = new ArrayList<>(clients * daysPerClient);
+        analytics = new ProgressAnalytics();
+        for (int c = 0; c < clients; c++) {
+            clientList[c] = new Client("Bench", "Client", "client" + c + "@university.edu", model.Level.BEGINNER, null);
+            for (int day = 0; day < daysPerClient; day++) {
+                Progress measurement = new Progress(new Date(START + day * DAY), 90 - day * 0.02, 28 - day * 0.01, clientList[c]);
+                progress.add(measurement);
+                analytics.record(measurement);
+            }
+        }
+        probe = clientList[clients / 2];
+        next = 0;
+    }
+
+    @Benchmark
+    public ClientTrend readTrend() {
+        return analytics.getTrend(probe);
+    }
+
+    @Benchmark
+    public double recomputeFromList() {
+        long latest = Long.MIN_VALUE;
+        for (Progress p : progress) {
+            if (p.getClient() == probe) latest = Math.max(latest, p.getDate().getTime());
+        }
+        double sum7 = 0;
+        int n7 = 0;
+        double sum30 = 0;
+        int n30 = 0;
+        for (Progress p : progress) {
+            long time = p.getDate().getTime();
+            if (p.getClient() != probe) continue;
+            if (time > latest - 7 * DAY) {
+                sum7 += p.getWeight();
+                n7++;
+            }
+            if (time > latest - 30 * DAY) {
+                sum30 += p.getWeight();
+                n30++;
+            }
+        }
+        return sum7 / n7 + sum30 / n30;
+    }
+
+    @Benchmark
+    public boolean recordInOrder() {
+        long step = next++;
+        return analytics.record(clientList[(int) (step % clients)], START + (daysPerClient + step / clients) * DAY, 80, 25);
+    }
+
+    @Benchmark
+    public boolean recordLate() {
+        long step = next++;
+        return analytics.record(clientList[(int) (step % clients)], START + (daysPerClient - 3) * DAY + step % 1000, 80, 25);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ProgressAnalyticsBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,118 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import persistence.ProgressColumn;
+import persistence.ProgressColumnReader;
+import persistence.ProgressColumnWriter;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProgressColumnBenchmark {
+    private static final long START = 1_600_000_000_000L;
+    private static final long DAY = 86_400_000L;
+
+    @Param({"1000000"})
+    public int rows;
+
+    private Path directory;
+    private Path columns;
+    private Path records;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("progress-bench");
+        columns = directory.resolve("progress.columns");
+        records = directory.resolve("progress.rows");
+        Random random = new Random(7);
+        int perClient = 365;
+        try (ProgressColumnWriter writer = new ProgressColumnWriter(columns);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(records), 1 << 16))) {
+            double weight = 0;
+            for (int i = 0; i < rows; i++) {
+                int day = i % perClient;
+                if (day == 0) {
+                    weight = 60 + random.nextInt(600) / 10.0;
+                }
+                weight = Math.round((weight + (random.nextInt(5) - 2) / 10.0) * 10) / 10.0;
+                double bmi = Math.round(weight / 3.1 * 100) / 100.0;
+                long millis = START + day * DAY;
+                String client = "client" + i / perClient + "@university.edu";
+                writer.write(millis, weight, bmi, client);
+                out.writeLong(millis);
+                out.writeDouble(weight);
+                out.writeDouble(bmi);
+                out.writeUTF(client);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(columns);
+        Files.deleteIfExists(records);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public double columnsWeightOnly() throws IOException {
+        double[] sum = new double[1];
+        try (ProgressColumnReader reader = ProgressColumnReader.open(columns)) {
+            reader.forEachBlock(EnumSet.of(ProgressColumn.WEIGHT), block -> {
+                for (int row = 0; row < block.size(); row++) {
+                    sum[0] += block.getWeight(row);
+                }
+            });
+        }
+        return sum[0];
+    }
+
+    @Benchmark
+    public double columnsAll() throws IOException {
+        double[] sum = new double[1];
+        try (ProgressColumnReader reader = ProgressColumnReader.open(columns)) {
+            reader.forEachBlock(EnumSet.allOf(ProgressColumn.class), block -> {
+                for (int row = 0; row < block.size(); row++) {
+                    sum[0] += block.getWeight(row) + block.getBmi(row) + block.getClientIndex(row)
+                            + (block.getEpochMillis(row) & 1);
+                }
+            });
+        }
+        return sum[0];
+    }
+
+    @Benchmark
+    public double rowsWeightOnly() throws IOException {
+        double sum = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(records), 1 << 16))) {
+            for (int i = 0; i < rows; i++) {
+                in.readLong();
+                sum += in.readDouble();
+                in.readDouble();
+                in.readUTF();
+            }
+        }
+        return sum;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ProgressColumnBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,157 @@
+package benchmark;
+
+import model.Client;
+import model.Progress;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import repositories.ProgressStore;
+import repositories.ProgressView;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Run with footprint [rows] to print retained heap instead.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class ProgressStoreBenchmark {
+    private static final long START = 1_600_000_000_000L;
+    private static final long DAY = 86_400_000L;
+    private static final int DAYS_PER_CLIENT = 365;
+
+    @Param({"1000000"})
+    public int rows;
+
+    private Client[] clients;
+    private List<Progress> list;
+    private ProgressStore store;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        clients = clients(rows);
+        list = loadList(rows, clients);
+        store = loadStore(rows, clients);
+    }
+
+    @Benchmark
+    public List<Progress> loadList() {
+        return loadList(rows, clients);
+    }
+
+    @Benchmark
+    public ProgressStore loadStore() {
+        return loadStore(rows, clients);
+    }
+
+    @Benchmark
+    public double scanList() {
+        double sum = 0;
+        for (Progress progress : list) {
+            sum += progress.getWeight();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double scanStore() {
+        double sum = 0;
+        for (ProgressView view : store) {
+            sum += view.getWeight();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double clientRangeList() {
+        Client client = clients[clients.length / 2];
+        long from = START + 100 * DAY;
+        long to = START + 200 * DAY;
+        double sum = 0;
+        for (Progress progress : list) {
+            long time = progress.getDate().getTime();
+            if (progress.getClient() == client && time >= from && time < to) {
+                sum += progress.getWeight();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double clientRangeStore() {
+        double[] sum = new double[1];
+        store.scan(clients[clients.length / 2], START + 100 * DAY, START + 200 * DAY,
+                view -> sum[0] += view.getWeight());
+        return sum[0];
+    }
+
+    private static Client[] clients(int rows) {
+        Client[] clients = new Client[(rows + DAYS_PER_CLIENT - 1) / DAYS_PER_CLIENT];
+        for (int i = 0; i < clients.length; i++) {
+            clients[i] = new Client("Bench", "Client", "client" + i + "@university.edu", model.Level.BEGINNER, null);
+        }
+        return clients;
+    }
+
+    private static double weight(int i) {
+        return 60 + (i / DAYS_PER_CLIENT % 400) / 10.0 + (i % 7) / 10.0;
+    }
+
+    private static List<Progress> loadList(int rows, Client[] clients) {
+        List<Progress> list = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            double weight = weight(i);
+            list.add(new Progress(new Date(START + i % DAYS_PER_CLIENT * DAY), weight, weight / 3.2,
+                    clients[i / DAYS_PER_CLIENT]));
+        }
+        return list;
+    }
+
+    private static ProgressStore loadStore(int rows, Client[] clients) {
+        ProgressStore store = new ProgressStore();
+        for (int i = 0; i < rows; i++) {
+            double weight = weight(i);
+            store.append(clients[i / DAYS_PER_CLIENT], START + i % DAYS_PER_CLIENT * DAY, weight, weight / 3.2);
+        }
+        return store;
+    }
+
+    private static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        if (args.length > 0 && args[0].equals("footprint")) {
+            int rows = args.length > 1 ? Integer.parseInt(args[1]) : 5_000_000;
+            Client[] clients = clients(rows);
+            long before = usedHeapAfterGc();
+            List<Progress> list = loadList(rows, clients);
+            long listBytes = usedHeapAfterGc() - before;
+            System.out.println(list.size());
+            list = null;
+            before = usedHeapAfterGc();
+            ProgressStore store = loadStore(rows, clients);
+            long storeBytes = usedHeapAfterGc() - before;
+            System.out.printf("%,d rows: List<Progress> %,d bytes (%.1f/row), ProgressStore %,d bytes (%.1f/row)%n",
+                    store.size(), listBytes, (double) listBytes / rows, storeBytes, (double) storeBytes / rows);
+            return;
+        }
+        Options options = new OptionsBuilder()
+                .include(ProgressStoreBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
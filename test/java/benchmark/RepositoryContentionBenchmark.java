@@ -0,0 +1,129 @@
+package benchmark;
+
+import model.User;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import repositories.ConcurrentGenericRepository;
+import repositories.GenericRepository;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RepositoryContentionBenchmark {
+    private static final int PRELOADED = 10_000;
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32, 64};
+
+    @State(Scope.Benchmark)
+    public static class LockedRepositoryState {
+        final ReentrantLock lock = new ReentrantLock();
+        final AtomicInteger sequence = new AtomicInteger();
+        GenericRepository<User> repository;
+        User[] preloaded;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            Logger.getLogger(GenericRepository.class.getName()).setLevel(java.util.logging.Level.OFF);
+            repository = new GenericRepository<>(User::getEmail);
+            preloaded = preload(repository);
+            sequence.set(0);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ConcurrentRepositoryState {
+        final AtomicInteger sequence = new AtomicInteger();
+        GenericRepository<User> repository;
+        User[] preloaded;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            Logger.getLogger(GenericRepository.class.getName()).setLevel(java.util.logging.Level.OFF);
+            repository = new ConcurrentGenericRepository<>(User::getEmail);
+            preloaded = preload(repository);
+            sequence.set(0);
+        }
+    }
+
+    private static User[] preload(GenericRepository<User> repository) {
+        User[] users = new User[PRELOADED];
+        for (int i = 0; i < PRELOADED; i++) {
+            users[i] = new User("Bench", "User", "preloaded" + i + "@university.edu");
+            repository.add(users[i]);
+        }
+        return users;
+    }
+
+    private static User newUser(int sequence) {
+        return new User("Bench", "User", "added" + sequence + "@university.edu");
+    }
+
+    @Benchmark
+    public void lockedAdd(LockedRepositoryState state) {
+        User user = newUser(state.sequence.incrementAndGet());
+        state.lock.lock();
+        try {
+            state.repository.add(user);
+        } finally {
+            state.lock.unlock();
+        }
+    }
+
+    @Benchmark
+    public void concurrentAdd(ConcurrentRepositoryState state) {
+        state.repository.add(newUser(state.sequence.incrementAndGet()));
+    }
+
+    @Benchmark
+    public void lockedDuplicateAdd(LockedRepositoryState state) {
+        User user = state.preloaded[ThreadLocalRandom.current().nextInt(PRELOADED)];
+        state.lock.lock();
+        try {
+            state.repository.add(user);
+        } finally {
+            state.lock.unlock();
+        }
+    }
+
+    @Benchmark
+    public void concurrentDuplicateAdd(ConcurrentRepositoryState state) {
+        state.repository.add(state.preloaded[ThreadLocalRandom.current().nextInt(PRELOADED)]);
+    }
+
+    @Benchmark
+    public User lockedFind(LockedRepositoryState state) {
+        String identity = state.preloaded[ThreadLocalRandom.current().nextInt(PRELOADED)].getEmail();
+        state.lock.lock();
+        try {
+            return state.repository.findByIdentity(identity);
+        } finally {
+            state.lock.unlock();
+        }
+    }
+
+    @Benchmark
+    public User concurrentFind(ConcurrentRepositoryState state) {
+        String identity = state.preloaded[ThreadLocalRandom.current().nextInt(PRELOADED)].getEmail();
+        return state.repository.findByIdentity(identity);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREAD_COUNTS) {
+            Options options = new OptionsBuilder()
+                    .include(RepositoryContentionBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package benchmark;
+
+import model.Coach;
+import model.Exercise;
+import model.User;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import repositories.ConcurrentGenericRepository;
+import repositories.GenericRepository;
+import repositories.IdentityExtractor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.logging.Logger;
+
+// The 10M size needs roughly 8 GB of heap.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class RepositoryOperationBenchmark {
+    private static final int BATCH = 1_000;
+    private static final int LOOKUP_KEYS = 1 << 16;
+    private static final int MULTI_THREADED = 4;
+    private static final Path RESULTS_FILE = Path.of("benchmark-results", "repository-operations.json");
+
+    public enum Entity {
+        USER(i -> new User("Bench", "User", "user" + i + "@university.edu"), item -> ((User) item).getEmail()),
+        COACH(i -> new Coach("Bench", "Coach", "coach" + i + "@university.edu", i % 51), item -> ((Coach) item).getEmail()),
+        EXERCISE(i -> Exercise.createExercise("Exercise " + i, 1 + i % 100, 1 + i % 10), item -> ((Exercise) item).name());
+
+        private final IntFunction<Object> factory;
+        private final IdentityExtractor<Object> identityExtractor;
+
+        Entity(IntFunction<Object> factory, IdentityExtractor<Object> identityExtractor) {
+            this.factory = factory;
+            this.identityExtractor = identityExtractor;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class RepositoryState {
+        @Param({"USER", "COACH", "EXERCISE"})
+        public Entity entity;
+
+        @Param({"1000", "100000", "1000000", "10000000"})
+        public int size;
+
+        @Param({"generic", "concurrent"})
+        public String implementation;
+
+        final AtomicInteger freshSequence = new AtomicInteger(Integer.MAX_VALUE / 2);
+        GenericRepository<Object> repository;
+        Object[] existing;
+        String[] hitKeys;
+        String[] missKeys;
+
+        @Setup(Level.Trial)
+        public void setUp(BenchmarkParams params) {
+            Logger.getLogger(GenericRepository.class.getName()).setLevel(java.util.logging.Level.OFF);
+            if ("generic".equals(implementation) && params.getThreads() > 1) {
+                throw new IllegalStateException("GenericRepository is not safe for concurrent writers");
+            }
+            repository = "concurrent".equals(implementation)
+                    ? new ConcurrentGenericRepository<>(entity.identityExtractor, size)
+                    : new GenericRepository<>(entity.identityExtractor);
+
+            List<Object> items = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                items.add(entity.factory.apply(i));
+            }
+            repository.addAll(items);
+
+            int keys = Math.min(size, LOOKUP_KEYS);
+            existing = new Object[keys];
+            hitKeys = new String[keys];
+            missKeys = new String[keys];
+            for (int i = 0; i < keys; i++) {
+                existing[i] = items.get((int) ((long) i * size / keys));
+                hitKeys[i] = entity.identityExtractor.extractIdentity(existing[i]);
+                missKeys[i] = entity.identityExtractor.extractIdentity(entity.factory.apply(size + i));
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int position;
+
+        int next(int length) {
+            int current = position;
+            position = current + 1 == length ? 0 : current + 1;
+            return current;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class FreshBatch {
+        final Object[] items = new Object[BATCH];
+        final String[] identities = new String[BATCH];
+
+        @Setup(Level.Trial)
+        public void prepare(RepositoryState state) {
+            generate(state, items, identities);
+        }
+
+        @TearDown(Level.Invocation)
+        public void cleanUp(RepositoryState state) {
+            state.repository.deleteAll(List.of(identities));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class PopulatedBatch {
+        final Object[] items = new Object[BATCH];
+        final String[] identities = new String[BATCH];
+
+        @Setup(Level.Trial)
+        public void prepare(RepositoryState state) {
+            generate(state, items, identities);
+        }
+
+        @Setup(Level.Invocation)
+        public void populate(RepositoryState state) {
+            state.repository.addAll(List.of(items));
+        }
+    }
+
+    private static void generate(RepositoryState state, Object[] items, String[] identities) {
+        int base = state.freshSequence.getAndAdd(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            items[i] = state.entity.factory.apply(base + i);
+            identities[i] = state.entity.identityExtractor.extractIdentity(items[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void add(RepositoryState state, FreshBatch batch) {
+        for (Object item : batch.items) {
+            state.repository.add(item);
+        }
+    }
+
+    @Benchmark
+    public void addDuplicate(RepositoryState state, Cursor cursor) {
+        state.repository.add(state.existing[cursor.next(state.existing.length)]);
+    }
+
+    @Benchmark
+    public Object findHit(RepositoryState state, Cursor cursor) {
+        return state.repository.findByIdentity(state.hitKeys[cursor.next(state.hitKeys.length)]);
+    }
+
+    @Benchmark
+    public Object findMiss(RepositoryState state, Cursor cursor) {
+        return state.repository.findByIdentity(state.missKeys[cursor.next(state.missKeys.length)]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int delete(RepositoryState state, PopulatedBatch batch) {
+        int deleted = 0;
+        for (String identity : batch.identities) {
+            if (state.repository.delete(identity)) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Object> getAll(RepositoryState state) {
+        return state.repository.getAll();
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        Path results = args.length > 0 ? Path.of(args[0]) : RESULTS_FILE;
+        if (results.getParent() != null) {
+            Files.createDirectories(results.getParent());
+        }
+        String include = RepositoryOperationBenchmark.class.getSimpleName();
+
+        ChainedOptionsBuilder singleThreaded = new OptionsBuilder()
+                .include(include)
+                .threads(1)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(results.toString());
+        new Runner(singleThreaded.build()).run();
+
+        Path multiThreadedResults = results.resolveSibling(
+                results.getFileName().toString().replace(".json", "-threads" + MULTI_THREADED + ".json"));
+        ChainedOptionsBuilder multiThreaded = new OptionsBuilder()
+                .include(include)
+                .threads(MULTI_THREADED)
+                .param("implementation", "concurrent")
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(multiThreadedResults.toString());
+        new Runner(multiThreaded.build()).run();
+    }
+}
@@ -0,0 +1,92 @@
+package benchmark;
+
+import model.Coach;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import repositories.GenericRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepositoryScanBenchmark {
+    private static final int SELECTIVE_EXPERIENCE = 50;
+
+    @Param({"1000", "100000", "500000"})
+    public int size;
+
+    private GenericRepository<Coach> repository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Logger.getLogger(GenericRepository.class.getName()).setLevel(java.util.logging.Level.OFF);
+        repository = new GenericRepository<>(Coach::getEmail);
+        List<Coach> coaches = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            coaches.add(new Coach("Bench", "Coach", "coach" + i + "@university.edu", i % 51));
+        }
+        repository.addAll(coaches);
+    }
+
+    @Benchmark
+    public void getAllThenFilter(Blackhole blackhole) {
+        for (Coach coach : repository.getAll()) {
+            if (coach.getExperienceYears() == SELECTIVE_EXPERIENCE) {
+                blackhole.consume(coach);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Coach> filter() {
+        return repository.filter(coach -> coach.getExperienceYears() == SELECTIVE_EXPERIENCE);
+    }
+
+    @Benchmark
+    public long count() {
+        return repository.count(coach -> coach.getExperienceYears() == SELECTIVE_EXPERIENCE);
+    }
+
+    @Benchmark
+    public void forEach(Blackhole blackhole) {
+        repository.forEach(coach -> {
+            if (coach.getExperienceYears() == SELECTIVE_EXPERIENCE) {
+                blackhole.consume(coach);
+            }
+        });
+    }
+
+    @Benchmark
+    public long stream() {
+        return repository.stream()
+                .filter(coach -> coach.getExperienceYears() == SELECTIVE_EXPERIENCE)
+                .count();
+    }
+
+    @Benchmark
+    public long parallelStream() {
+        return repository.parallelStream()
+                .filter(coach -> coach.getExperienceYears() == SELECTIVE_EXPERIENCE)
+                .count();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(RepositoryScanBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,92 @@
+package benchmark;
+
+import model.User;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import persistence.DurableGenericRepository;
+import persistence.EntityCodecs;
+import persistence.MappedSnapshot;
+import persistence.WalOptions;
+import repositories.GenericRepository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Benchmark)
+public class SnapshotStartupBenchmark {
+    @Param({"100000", "1000000", "5000000"})
+    public int entries;
+
+    private Path directory;
+    private Path snapshot;
+    private String probe;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Logger.getLogger(GenericRepository.class.getName()).setLevel(java.util.logging.Level.OFF);
+        Logger.getLogger(DurableGenericRepository.class.getName()).setLevel(java.util.logging.Level.OFF);
+        directory = Files.createTempDirectory("snapshot-bench");
+        snapshot = directory.resolve("snapshot.dat");
+        List<User> users = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            users.add(new User("Bench", "User", "user" + i + "@university.edu"));
+        }
+        MappedSnapshot.write(snapshot, 0, users, User::getEmail, EntityCodecs.USER);
+        probe = "user" + (entries / 2) + "@university.edu";
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public User mappedOpenThenFind() throws IOException {
+        try (MappedSnapshot<User> mapped = MappedSnapshot.open(snapshot, EntityCodecs.USER)) {
+            return mapped.findByIdentity(probe);
+        }
+    }
+
+    @Benchmark
+    public User durableOpenThenFind() throws IOException {
+        try (DurableGenericRepository<User> repository = DurableGenericRepository.open(directory, User::getEmail,
+                EntityCodecs.USER, WalOptions.defaults().withCompaction(Long.MAX_VALUE, 0))) {
+            return repository.findByIdentity(probe);
+        }
+    }
+
+    @Benchmark
+    public User eagerLoadThenFind() throws IOException {
+        try (MappedSnapshot<User> mapped = MappedSnapshot.open(snapshot, EntityCodecs.USER)) {
+            GenericRepository<User> repository = new GenericRepository<>(User::getEmail);
+            mapped.loadInto(repository);
+            return repository.findByIdentity(probe);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(SnapshotStartupBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
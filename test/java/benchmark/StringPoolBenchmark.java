@@ -0,0 +1,113 @@
+package benchmark;
+
+import model.User;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import util.StringPool;
+import util.UserUtils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Run with footprint [users] to print retained heap instead.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StringPoolBenchmark {
+    private static final String[] SYLLABLES = {"an", "ber", "car", "do", "el", "fi", "gor", "ha", "is", "jo",
+            "ka", "li", "mar", "no", "ol", "pe", "qui", "ro", "sa", "ti", "ul", "va", "wen", "xo", "ya", "zel"};
+    private static final int FIRST_NAMES = 2_000;
+    private static final int LAST_NAMES = 20_000;
+
+    @Param({"false", "true"})
+    public boolean pooled;
+
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        UserUtils.setNamePool(pooled ? new StringPool() : null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        UserUtils.setNamePool(null);
+    }
+
+    @Benchmark
+    public User constructUser() {
+        int i = next++;
+        return new User(firstName(i), lastName(i), "user" + i + "@university.edu");
+    }
+
+    // Freshly allocated on every call, as if parsed from input.
+    static String firstName(int i) {
+        int n = (int) (mix(i) % FIRST_NAMES);
+        return SYLLABLES[n % SYLLABLES.length] + SYLLABLES[n / SYLLABLES.length % SYLLABLES.length]
+                + (n >= SYLLABLES.length * SYLLABLES.length ? "na" : "");
+    }
+
+    static String lastName(int i) {
+        int n = (int) (mix(i * 31L + 7) % LAST_NAMES);
+        return SYLLABLES[n % SYLLABLES.length] + SYLLABLES[n / SYLLABLES.length % SYLLABLES.length]
+                + SYLLABLES[n / (SYLLABLES.length * SYLLABLES.length) % SYLLABLES.length] + "son";
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        return (value ^ (value >>> 33)) >>> 1;
+    }
+
+    private static long retainedHeap(boolean pooled, int users) {
+        UserUtils.setNamePool(pooled ? new StringPool() : null);
+        List<User> retained = new ArrayList<>(users);
+        long before = usedHeapAfterGc();
+        for (int i = 0; i < users; i++) {
+            retained.add(new User(firstName(i), lastName(i), "user" + i + "@university.edu"));
+        }
+        long after = usedHeapAfterGc();
+        StringPool pool = UserUtils.getNamePool();
+        if (pool != null) {
+            System.out.printf("pool: %d entries, %d hits, %d misses%n", pool.size(), pool.getHits(), pool.getMisses());
+        }
+        UserUtils.setNamePool(null);
+        if (retained.size() != users) {
+            throw new IllegalStateException("Lost users");
+        }
+        return after - before;
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        if (args.length > 0 && args[0].equals("footprint")) {
+            int users = args.length > 1 ? Integer.parseInt(args[1]) : 5_000_000;
+            long plain = retainedHeap(false, users);
+            long pooled = retainedHeap(true, users);
+            System.out.printf("%,d users: %,d bytes without pool, %,d bytes with pool (%.1f%% saved, %.1f bytes/user)%n",
+                    users, plain, pooled, 100.0 * (plain - pooled) / plain, (double) (plain - pooled) / users);
+            return;
+        }
+        Options options = new OptionsBuilder()
+                .include(StringPoolBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
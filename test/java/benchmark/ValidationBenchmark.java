@@ -0,0 +1,206 @@
+package benchmark;
+
+import exception.InvalidDataException;
+import model.Intensity;
+import model.User;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import util.ClientUtils;
+import util.UserUtils;
+import util.WorkoutUtils;
+import validation.EntityValidators;
+import validation.FieldRules;
+import validation.ValidationErrors;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidationBenchmark {
+    private static final Path RESULTS_FILE = Path.of("benchmark-results", "validation.json");
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(FieldRules.EMAIL_REGEX);
+
+    public enum Inputs {
+        REALISTIC(
+                new String[]{"john.doe@university.edu", "jane.smith@university.edu", "a.smith-jones@mail.example.co.uk",
+                        "bob_johnson42@university.edu"},
+                new String[]{"John", "Elizabeth", "Mary-Jane", "O'Connor"},
+                new String[]{"beginner", "Intermediate", "adv", "ADVANCED"},
+                new String[]{"low", "Medium", "high", "med"}),
+        LONG(
+                new String[]{"a".repeat(200) + "@university.edu", "first.middle.last.name@" + "sub.".repeat(40) + "edu",
+                        "x@" + "b.".repeat(100) + "com", "   padded.user@university.edu   "},
+                new String[]{"A" + "b".repeat(49), "N" + "a".repeat(5_000), " ".repeat(1_000) + "Padded" + " ".repeat(1_000),
+                        "Wolfeschlegelsteinhausenbergerdorff"},
+                new String[]{" ".repeat(500) + "beginner" + " ".repeat(500), "intermediate".repeat(100),
+                        "   inter   ", "advanced" + " ".repeat(64)},
+                new String[]{" ".repeat(500) + "low", "medium".repeat(100), "  high  ", "med" + " ".repeat(64)}),
+        UNICODE(
+                new String[]{"j\u00F6hn.d\u00F6e@universit\u00E4t.de", "\u7528\u6237@\u4F8B\u5B50.\u5E7F\u544A", "zo\u00EB.\u00E5lander@university.edu",
+                        "\u0142ukasz.\u017C\u00F3\u0142\u0107@uczelnia.pl"},
+                new String[]{"Zo\u00EB", "\u0141ukasz", "Jos\u00E9", "\u1F08\u03C1\u03B9\u03C3\u03C4\u03BF\u03C4\u03AD\u03BB\u03B7\u03C2"},
+                new String[]{"\u0130ntermediate", "BEG\u0130NNER", "\u00E1dvanced", "beginner\u00A0"},
+                new String[]{"LOW\u200B", "Med\u0131um", "h\u0131gh", "\uFF4D\uFF45\uFF44"}),
+        MALFORMED(
+                new String[]{"john.doe@", "@university.edu", "john..doe@@university", "a@b" + ".bb".repeat(30) + ".1"},
+                new String[]{"", "   ", "J", null},
+                new String[]{"expert", "", "   ", null},
+                new String[]{"extreme", "", "lo", null});
+
+        private final String[] emails;
+        private final String[] names;
+        private final String[] levels;
+        private final String[] intensities;
+
+        Inputs(String[] emails, String[] names, String[] levels, String[] intensities) {
+            this.emails = emails;
+            this.names = names;
+            this.levels = levels;
+            this.intensities = intensities;
+        }
+    }
+
+    @Param({"REALISTIC", "LONG", "UNICODE", "MALFORMED"})
+    public Inputs inputs;
+
+    private int position;
+    private User[] users;
+    private final ValidationErrors errors = new ValidationErrors();
+    private long row;
+
+    @Setup
+    public void setUp() {
+        users = new User[inputs.emails.length];
+        for (int i = 0; i < users.length; i++) {
+            users[i] = new User(inputs.names[i], inputs.names[i], inputs.emails[i]);
+        }
+    }
+
+    private int next() {
+        position = (position + 1) & 3;
+        return position;
+    }
+
+    @Benchmark
+    public boolean isValidEmail() {
+        return UserUtils.isValidEmail(inputs.emails[next()]);
+    }
+
+    // The old code path, which recompiled the regex on every call.
+    @Benchmark
+    public boolean legacyIsValidEmail() {
+        String email = inputs.emails[next()];
+        return email != null && Pattern.matches(FieldRules.EMAIL_REGEX, email);
+    }
+
+    @Benchmark
+    public boolean compiledRegexIsValidEmail() {
+        String email = inputs.emails[next()];
+        return email != null && EMAIL_PATTERN.matcher(email).matches();
+    }
+
+    @Benchmark
+    public boolean formatAndValidateEmail() {
+        return UserUtils.isValidEmail(UserUtils.formatEmail(inputs.emails[next()]));
+    }
+
+    @Benchmark
+    public boolean isValidName() {
+        return UserUtils.isValidName(inputs.names[next()]);
+    }
+
+    @Benchmark
+    public String capitalizeText() {
+        return UserUtils.capitalizeText(inputs.names[next()]);
+    }
+
+    @Benchmark
+    public boolean isValidTitle() {
+        return WorkoutUtils.isValidTitle(inputs.names[next()]);
+    }
+
+    @Benchmark
+    public model.Level parseLevel() {
+        return ClientUtils.parseLevel(inputs.levels[next()]);
+    }
+
+    @Benchmark
+    public Intensity parseIntensity() {
+        return WorkoutUtils.parseIntensity(inputs.intensities[next()]);
+    }
+
+    @Benchmark
+    public User constructUser() {
+        int index = next();
+        return new User(inputs.names[index], inputs.names[index], inputs.emails[index]);
+    }
+
+    @Benchmark
+    public String validateUser() {
+        return EntityValidators.USER.firstInvalidField(users[next()]);
+    }
+
+    @Benchmark
+    public boolean legacyValidateUser() {
+        User user = users[next()];
+        return isLegacyName(user.getFirstName()) && isLegacyName(user.getLastName())
+                && user.getEmail() != null && Pattern.matches(FieldRules.EMAIL_REGEX, user.getEmail());
+    }
+
+    @Benchmark
+    public boolean validateUserIntoSink() {
+        if (errors.size() > 1_000) {
+            errors.clear();
+        }
+        return EntityValidators.USER.validate(users[next()], row++, errors);
+    }
+
+    @Benchmark
+    public Object requireValidUser() {
+        try {
+            EntityValidators.USER.requireValid(users[next()]);
+            return null;
+        } catch (InvalidDataException e) {
+            return e;
+        }
+    }
+
+    // Captures a stack trace, as callers did before the stackless variant.
+    @Benchmark
+    public Object legacyRequireValidUser() {
+        User user = users[next()];
+        String field = EntityValidators.USER.firstInvalidField(user);
+        return field == null ? null : new InvalidDataException("Invalid " + field, field, null);
+    }
+
+    private static boolean isLegacyName(String name) {
+        return name != null && name.trim().length() >= 2 && name.trim().length() <= 50;
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        Path results = args.length > 0 ? Path.of(args[0]) : RESULTS_FILE;
+        if (results.getParent() != null) {
+            Files.createDirectories(results.getParent());
+        }
+        Options options = new OptionsBuilder()
+                .include(ValidationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(results.toString())
+                .build();
+        new Runner(options).run();
+    }
+}
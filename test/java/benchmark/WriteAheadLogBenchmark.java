@@ -0,0 +1,135 @@
+package benchmark;
+
+import model.User;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import persistence.DurableGenericRepository;
+import persistence.EntityCodecs;
+import persistence.WalOptions;
+import repositories.GenericRepository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+public class WriteAheadLogBenchmark {
+    private static final int LOAD_BATCH_SIZE = 100_000;
+
+    private static void silenceRepositoryLogging() {
+        Logger.getLogger(GenericRepository.class.getName()).setLevel(java.util.logging.Level.OFF);
+        Logger.getLogger(DurableGenericRepository.class.getName()).setLevel(java.util.logging.Level.WARNING);
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        if (directory == null || !Files.exists(directory)) return;
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class WriteState {
+        @Param({"true", "false"})
+        public boolean syncOnCommit;
+
+        final AtomicLong sequence = new AtomicLong();
+        Path directory;
+        DurableGenericRepository<User> repository;
+
+        @Setup(Level.Iteration)
+        public void setUp() throws IOException {
+            silenceRepositoryLogging();
+            directory = Files.createTempDirectory("wal-write-bench");
+            WalOptions options = WalOptions.defaults().withSyncOnCommit(syncOnCommit).withCompaction(Long.MAX_VALUE, 0);
+            repository = DurableGenericRepository.open(directory, User::getEmail, EntityCodecs.USER, options);
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() throws IOException {
+            repository.close();
+            deleteRecursively(directory);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class RecoveryState {
+        @Param({"1000000", "10000000", "50000000"})
+        public int entries;
+
+        @Param({"log", "snapshot"})
+        public String layout;
+
+        Path directory;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            silenceRepositoryLogging();
+            directory = Files.createTempDirectory("wal-recovery-bench");
+            WalOptions options = WalOptions.defaults().withSyncOnCommit(false).withCompaction(Long.MAX_VALUE, 0);
+            try (DurableGenericRepository<User> repository =
+                         DurableGenericRepository.open(directory, User::getEmail, EntityCodecs.USER, options)) {
+                List<User> batch = new ArrayList<>(LOAD_BATCH_SIZE);
+                for (int i = 0; i < entries; i++) {
+                    batch.add(new User("Bench", "User", "user" + i + "@university.edu"));
+                    if (batch.size() == LOAD_BATCH_SIZE) {
+                        repository.addAll(batch);
+                        batch.clear();
+                    }
+                }
+                repository.addAll(batch);
+                if ("snapshot".equals(layout)) {
+                    repository.compact();
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            deleteRecursively(directory);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(iterations = 2, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    @Fork(1)
+    @Threads(8)
+    public void durableAdd(WriteState state) {
+        state.repository.add(new User("Bench", "User", "user" + state.sequence.incrementAndGet() + "@university.edu"));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    @Fork(value = 1, jvmArgsAppend = "-Xmx48g")
+    public int recover(RecoveryState state) throws IOException {
+        WalOptions options = WalOptions.defaults().withCompaction(Long.MAX_VALUE, 0);
+        try (DurableGenericRepository<User> repository =
+                     DurableGenericRepository.open(state.directory, User::getEmail, EntityCodecs.USER, options)) {
+            return repository.size();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(WriteAheadLogBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
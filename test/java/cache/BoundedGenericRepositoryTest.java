@@ -0,0 +1,161 @@
+package cache;
+
+import model.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@DisplayName("BoundedGenericRepository Tests")
+public class BoundedGenericRepositoryTest {
+
+    private static User user(int i) {
+        return new User("John", "Doe", "user" + i + "@university.edu");
+    }
+
+    @Nested
+    @DisplayName("LRU Eviction Tests")
+    class LruEvictionTests {
+
+        @Test
+        @DisplayName("Should evict least recently used item when full")
+        void testEvictLeastRecentlyUsed() {
+            BoundedGenericRepository<User> repository = new BoundedGenericRepository<>(User::getEmail, 2, new LruPolicy());
+            repository.add(user(1));
+            repository.add(user(2));
+            repository.findByIdentity("user1@university.edu");
+            repository.add(user(3));
+
+            assertEquals(2, repository.size());
+            assertNotNull(repository.findByIdentity("user1@university.edu"));
+            assertNull(repository.findByIdentity("user2@university.edu"));
+            assertEquals(1, repository.getStats().getEvictionCount());
+        }
+
+        @Test
+        @DisplayName("Should notify listener and count hits and misses")
+        void testListenerAndStats() {
+            List<String> evicted = new ArrayList<>();
+            BoundedGenericRepository<User> repository = new BoundedGenericRepository<>(
+                    User::getEmail, 1, item -> 1, new LruPolicy(), (identity, item) -> evicted.add(identity));
+            repository.add(user(1));
+            repository.add(user(2));
+            repository.findByIdentity("user2@university.edu");
+            repository.findByIdentity("user1@university.edu");
+
+            assertEquals(List.of("user1@university.edu"), evicted);
+            assertEquals(1, repository.getStats().getHitCount());
+            assertEquals(1, repository.getStats().getMissCount());
+            assertEquals(0.5, repository.getStats().getHitRate());
+            assertEquals(repository.getMetrics().getHitCount(), repository.getStats().getHitCount());
+            assertEquals(repository.getMetrics().getMissCount(), repository.getStats().getMissCount());
+        }
+
+        @Test
+        @DisplayName("Should not report explicit deletes as evictions")
+        void testDeleteIsNotEviction() {
+            List<String> evicted = new ArrayList<>();
+            BoundedGenericRepository<User> repository = new BoundedGenericRepository<>(
+                    User::getEmail, 10, item -> 1, new LruPolicy(), (identity, item) -> evicted.add(identity));
+            repository.add(user(1));
+            repository.delete("user1@university.edu");
+
+            assertTrue(evicted.isEmpty());
+            assertEquals(0, repository.getWeightedSize());
+        }
+
+        @Test
+        @DisplayName("Should not record evictions as deletes")
+        void testEvictionIsNotDelete() {
+            BoundedGenericRepository<User> repository = new BoundedGenericRepository<>(User::getEmail, 1, new LruPolicy());
+            repository.add(user(1));
+            repository.add(user(2));
+            repository.add(user(3));
+
+            assertEquals(2, repository.getStats().getEvictionCount());
+            assertEquals(0, repository.getMetrics().getDeleteCount());
+            assertEquals(0, repository.getMetrics().getDeleteLatency().getCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Weighted Eviction Tests")
+    class WeightedEvictionTests {
+
+        @Test
+        @DisplayName("Should bound total weight rather than count")
+        void testWeightBound() {
+            BoundedGenericRepository<Exercise> repository = new BoundedGenericRepository<>(
+                    Exercise::name, 20, Exercise::reps, new LruPolicy(), null);
+            repository.add(Exercise.createExercise("Push-ups", 10, 3));
+            repository.add(Exercise.createExercise("Squats", 8, 3));
+            assertEquals(18, repository.getWeightedSize());
+
+            repository.add(Exercise.createExercise("Lunges", 5, 3));
+
+            assertEquals(13, repository.getWeightedSize());
+            assertNull(repository.findByIdentity("Push-ups"));
+            assertEquals(10, repository.getStats().getEvictedWeight());
+        }
+
+        @Test
+        @DisplayName("Should reject negative weights before inserting")
+        void testNegativeWeight() {
+            BoundedGenericRepository<Exercise> repository = new BoundedGenericRepository<>(
+                    Exercise::name, 20, exercise -> exercise.reps() - 9, new LruPolicy(), null);
+            repository.add(Exercise.createExercise("Push-ups", 10, 3));
+
+            assertThrows(IllegalArgumentException.class, () -> repository.add(Exercise.createExercise("Squats", 8, 3)));
+            assertThrows(IllegalArgumentException.class, () -> repository.addAll(List.of(
+                    Exercise.createExercise("Lunges", 12, 3), Exercise.createExercise("Planks", 5, 3))));
+
+            assertEquals(1, repository.size());
+            assertNull(repository.findByIdentity("Squats"));
+            assertNull(repository.findByIdentity("Lunges"));
+            assertEquals(1, repository.getWeightedSize());
+        }
+
+        @Test
+        @DisplayName("Should reject invalid configuration")
+        void testInvalidConfiguration() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new BoundedGenericRepository<User>(User::getEmail, 0, new LruPolicy()));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new BoundedGenericRepository<User>(User::getEmail, 10, item -> 1, null, null));
+        }
+    }
+
+    @Nested
+    @DisplayName("TinyLFU Eviction Tests")
+    class TinyLfuEvictionTests {
+
+        @Test
+        @DisplayName("Should keep frequently used items under a scan")
+        void testScanResistance() {
+            BoundedGenericRepository<User> repository =
+                    new BoundedGenericRepository<>(User::getEmail, 100, new TinyLfuPolicy(100));
+            for (int i = 0; i < 50; i++) {
+                repository.add(user(i));
+            }
+            for (int round = 0; round < 5; round++) {
+                for (int i = 0; i < 50; i++) {
+                    repository.findByIdentity("user" + i + "@university.edu");
+                }
+            }
+
+            for (int i = 1000; i < 2000; i++) {
+                repository.add(user(i));
+            }
+
+            int retained = 0;
+            for (int i = 0; i < 50; i++) {
+                if (repository.findByIdentity("user" + i + "@university.edu") != null) retained++;
+            }
+            assertEquals(100, repository.size());
+            assertTrue(retained >= 45, "retained " + retained);
+        }
+    }
+}
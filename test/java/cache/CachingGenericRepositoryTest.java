@@ -0,0 +1,312 @@
+package cache;
+
+import model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("CachingGenericRepository Tests")
+public class CachingGenericRepositoryTest {
+
+    private static User user(String email) {
+        return new User("John", "Doe", email);
+    }
+
+    static class InMemoryStore implements BackingStore<User> {
+        final Map<String, User> items = new ConcurrentHashMap<>();
+        final AtomicInteger loads = new AtomicInteger();
+        final AtomicInteger batches = new AtomicInteger();
+        final AtomicInteger existenceChecks = new AtomicInteger();
+        volatile CountDownLatch loadGate;
+        volatile boolean failWrites;
+
+        @Override
+        public User load(String identity) throws IOException {
+            loads.incrementAndGet();
+            CountDownLatch gate = loadGate;
+            if (gate != null) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+            return items.get(identity);
+        }
+
+        @Override
+        public void storeAll(Map<String, User> batch) throws IOException {
+            if (failWrites) throw new IOException("Store unavailable");
+            batches.incrementAndGet();
+            items.putAll(batch);
+        }
+
+        @Override
+        public void deleteAll(Collection<String> identities) throws IOException {
+            if (failWrites) throw new IOException("Store unavailable");
+            identities.forEach(items::remove);
+        }
+
+        @Override
+        public Set<String> findExisting(Collection<String> identities) throws IOException {
+            if (failWrites) throw new IOException("Store unavailable");
+            existenceChecks.incrementAndGet();
+            Set<String> existing = new HashSet<>(identities);
+            existing.retainAll(items.keySet());
+            return existing;
+        }
+    }
+
+    @Nested
+    @DisplayName("Read-Through Tests")
+    class ReadThroughTests {
+        private InMemoryStore store;
+        private CachingGenericRepository<User> repository;
+
+        @BeforeEach
+        void setUp() {
+            store = new InMemoryStore();
+            repository = new CachingGenericRepository<>(User::getEmail, store);
+        }
+
+        @AfterEach
+        void tearDown() {
+            repository.close();
+        }
+
+        @Test
+        @DisplayName("Should load misses from the store and cache them")
+        void testLoadOnMiss() {
+            store.items.put("john.doe@university.edu", user("john.doe@university.edu"));
+
+            assertNotNull(repository.findByIdentity("john.doe@university.edu"));
+            assertNotNull(repository.findByIdentity("john.doe@university.edu"));
+
+            assertEquals(1, store.loads.get());
+            assertEquals(1, repository.getStats().getHitCount());
+            assertEquals(1, repository.getStats().getMissCount());
+            assertEquals(0, repository.getPendingWriteCount());
+        }
+
+        @Test
+        @DisplayName("Should return null for keys absent from the store")
+        void testMissingKey() {
+            assertNull(repository.findByIdentity("missing@university.edu"));
+            assertNull(repository.findByIdentity(""));
+            assertEquals(1, store.loads.get());
+        }
+
+        @Test
+        @DisplayName("Should coalesce concurrent misses for the same key")
+        void testCoalescedLoads() throws Exception {
+            store.items.put("john.doe@university.edu", user("john.doe@university.edu"));
+            store.loadGate = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<User>> results = new ArrayList<>();
+                for (int i = 0; i < 8; i++) {
+                    results.add(executor.submit(() -> repository.findByIdentity("john.doe@university.edu")));
+                }
+                Thread.sleep(100);
+                store.loadGate.countDown();
+                for (Future<User> result : results) {
+                    assertNotNull(result.get(5, TimeUnit.SECONDS));
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertEquals(1, store.loads.get());
+        }
+
+        @Test
+        @DisplayName("Should delete entries that are only in the store")
+        void testDeleteNonResident() {
+            store.items.put("john.doe@university.edu", user("john.doe@university.edu"));
+
+            assertFalse(repository.delete("john.doe@university.edu"));
+            assertEquals(0, store.loads.get());
+            assertNull(repository.findByIdentity("john.doe@university.edu"));
+            repository.flush();
+
+            assertFalse(store.items.containsKey("john.doe@university.edu"));
+        }
+
+        @Test
+        @DisplayName("Should not read the store on the write path")
+        void testWritesStayLocal() {
+            store.items.put("stored@university.edu", user("stored@university.edu"));
+            List<User> batch = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                batch.add(user("user" + i + "@university.edu"));
+            }
+
+            repository.addAll(batch);
+            repository.add(user("single@university.edu"));
+            repository.deleteAll(List.of("stored@university.edu", "user0@university.edu"));
+            assertEquals(0, store.loads.get());
+            assertEquals(0, store.existenceChecks.get());
+
+            repository.flush();
+            assertEquals(1, store.existenceChecks.get());
+            assertEquals(100, store.items.size());
+            assertFalse(store.items.containsKey("stored@university.edu"));
+            assertEquals(101, repository.getMetrics().getAddCount());
+        }
+
+        @Test
+        @DisplayName("Should count loads from the store as hits and misses, not adds")
+        void testLoadsAreNotAdds() {
+            store.items.put("john.doe@university.edu", user("john.doe@university.edu"));
+
+            repository.findByIdentity("john.doe@university.edu");
+            repository.findAll(List.of("john.doe@university.edu"));
+
+            assertEquals(0, repository.getMetrics().getAddCount());
+            assertEquals(0, repository.getPendingWriteCount());
+            assertEquals(1, repository.getMetrics().getMissCount());
+            assertEquals(1, repository.getMetrics().getHitCount());
+        }
+
+        @Test
+        @DisplayName("Should store an add that follows a delete of a stored key")
+        void testReAddAfterDelete() {
+            store.items.put("john.doe@university.edu", user("john.doe@university.edu"));
+
+            repository.delete("john.doe@university.edu");
+            repository.add(new User("Jane", "Smith", "john.doe@university.edu"));
+            repository.flush();
+
+            assertEquals("Jane", store.items.get("john.doe@university.edu").getFirstName());
+            assertEquals(0, repository.getMetrics().getDuplicateCount());
+        }
+
+        @Test
+        @DisplayName("Should reject adding a key that is only in the store")
+        void testAddDuplicateOfEvicted() {
+            User stored = user("john.doe@university.edu");
+            store.items.put("john.doe@university.edu", stored);
+            assertSame(stored, repository.findByIdentity("john.doe@university.edu"));
+            assertTrue(repository.invalidate("john.doe@university.edu"));
+
+            repository.add(new User("Jane", "Smith", "john.doe@university.edu"));
+            repository.addAll(List.of(new User("Bob", "Brown", "john.doe@university.edu")));
+            assertEquals(1, store.loads.get());
+            repository.flush();
+
+            assertSame(stored, store.items.get("john.doe@university.edu"));
+            assertEquals("John", repository.findByIdentity("john.doe@university.edu").getFirstName());
+            assertEquals(2, repository.getMetrics().getDuplicateCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Write-Behind Tests")
+    class WriteBehindTests {
+        private InMemoryStore store;
+
+        @BeforeEach
+        void setUp() {
+            store = new InMemoryStore();
+        }
+
+        @Test
+        @DisplayName("Should queue writes and flush them in one batch")
+        void testBatchedFlush() {
+            try (CachingGenericRepository<User> repository = new CachingGenericRepository<>(
+                    User::getEmail, store, WriteBehindOptions.defaults().withFlushInterval(60_000))) {
+                for (int i = 0; i < 10; i++) {
+                    repository.add(user("user" + i + "@university.edu"));
+                }
+                repository.delete("user0@university.edu");
+
+                assertTrue(store.items.isEmpty());
+                assertEquals(10, repository.getPendingWriteCount());
+
+                repository.flush();
+                assertEquals(9, store.items.size());
+                assertEquals(1, store.batches.get());
+                assertEquals(0, repository.getPendingWriteCount());
+            }
+        }
+
+        @Test
+        @DisplayName("Should flush in the background within the flush interval")
+        void testBoundedStaleness() throws InterruptedException {
+            try (CachingGenericRepository<User> repository = new CachingGenericRepository<>(
+                    User::getEmail, store, WriteBehindOptions.defaults().withFlushInterval(50))) {
+                repository.add(user("john.doe@university.edu"));
+
+                long deadline = System.currentTimeMillis() + 5_000;
+                while (!store.items.containsKey("john.doe@university.edu") && System.currentTimeMillis() < deadline) {
+                    Thread.sleep(10);
+                }
+                assertTrue(store.items.containsKey("john.doe@university.edu"));
+            }
+        }
+
+        @Test
+        @DisplayName("Should flush early when the batch size is reached")
+        void testBatchSizeTrigger() throws InterruptedException {
+            try (CachingGenericRepository<User> repository = new CachingGenericRepository<>(
+                    User::getEmail, store, new WriteBehindOptions(60_000, 5))) {
+                for (int i = 0; i < 5; i++) {
+                    repository.add(user("user" + i + "@university.edu"));
+                }
+
+                long deadline = System.currentTimeMillis() + 5_000;
+                while (store.items.size() < 5 && System.currentTimeMillis() < deadline) {
+                    Thread.sleep(10);
+                }
+                assertEquals(5, store.items.size());
+            }
+        }
+
+        @Test
+        @DisplayName("Should keep failed writes queued and serve them to readers")
+        void testRetryAfterFailure() {
+            try (CachingGenericRepository<User> repository = new CachingGenericRepository<>(
+                    User::getEmail, store, WriteBehindOptions.defaults().withFlushInterval(60_000))) {
+                repository.add(user("john.doe@university.edu"));
+                repository.delete("john.doe@university.edu");
+                store.items.put("john.doe@university.edu", user("john.doe@university.edu"));
+                store.failWrites = true;
+
+                assertThrows(RuntimeException.class, repository::flush);
+                assertEquals(1, repository.getPendingWriteCount());
+                assertNull(repository.findByIdentity("john.doe@university.edu"));
+
+                store.failWrites = false;
+                repository.flush();
+                assertFalse(store.items.containsKey("john.doe@university.edu"));
+            }
+        }
+
+        @Test
+        @DisplayName("Should flush pending writes on close")
+        void testFlushOnClose() {
+            CachingGenericRepository<User> repository = new CachingGenericRepository<>(
+                    User::getEmail, store, WriteBehindOptions.defaults().withFlushInterval(60_000));
+            repository.add(user("john.doe@university.edu"));
+            repository.close();
+
+            assertTrue(store.items.containsKey("john.doe@university.edu"));
+            assertThrows(IllegalStateException.class, () -> repository.add(user("jane@university.edu")));
+        }
+
+        @Test
+        @DisplayName("Should reject invalid options")
+        void testInvalidOptions() {
+            assertThrows(IllegalArgumentException.class, () -> new WriteBehindOptions(0, 10));
+            assertThrows(IllegalArgumentException.class, () -> new WriteBehindOptions(10, 0));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package cache;
+
+import model.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import persistence.EntityCodecs;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@DisplayName("FileBackingStore Tests")
+public class FileBackingStoreTest {
+
+    @Nested
+    @DisplayName("Storage Tests")
+    class StorageTests {
+
+        @TempDir
+        Path directory;
+
+        @Test
+        @DisplayName("Should store, load and overwrite entities")
+        void testStoreAndLoad() throws IOException {
+            FileBackingStore<User> store = new FileBackingStore<>(directory, EntityCodecs.USER);
+            store.storeAll(Map.of("john.doe@university.edu", new User("John", "Doe", "john.doe@university.edu")));
+            store.storeAll(Map.of("john.doe@university.edu", new User("Johnny", "Doe", "john.doe@university.edu")));
+
+            User loaded = store.load("john.doe@university.edu");
+            assertEquals("Johnny", loaded.getFirstName());
+            assertEquals("john.doe@university.edu", loaded.getEmail());
+        }
+
+        @Test
+        @DisplayName("Should return null for missing or deleted entities")
+        void testDelete() throws IOException {
+            FileBackingStore<User> store = new FileBackingStore<>(directory, EntityCodecs.USER);
+            store.storeAll(Map.of("john.doe@university.edu", new User("John", "Doe", "john.doe@university.edu")));
+            store.deleteAll(List.of("john.doe@university.edu", "missing@university.edu"));
+
+            assertNull(store.load("john.doe@university.edu"));
+            assertNull(store.load("missing@university.edu"));
+        }
+
+        @Test
+        @DisplayName("Should report which identities are stored")
+        void testFindExisting() throws IOException {
+            FileBackingStore<User> store = new FileBackingStore<>(directory, EntityCodecs.USER);
+            store.storeAll(Map.of("john.doe@university.edu", new User("John", "Doe", "john.doe@university.edu")));
+
+            assertEquals(Set.of("john.doe@university.edu"),
+                    store.findExisting(List.of("john.doe@university.edu", "missing@university.edu")));
+        }
+
+        @Test
+        @DisplayName("Should keep identities with path characters apart")
+        void testUnsafeIdentity() throws IOException {
+            FileBackingStore<User> store = new FileBackingStore<>(directory, EntityCodecs.USER);
+            store.storeAll(Map.of("../escape", new User("John", "Doe", "john.doe@university.edu")));
+
+            assertEquals("John", store.load("../escape").getFirstName());
+            assertNull(store.load(".."));
+        }
+    }
+}
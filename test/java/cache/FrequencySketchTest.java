@@ -0,0 +1,54 @@
+package cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FrequencySketch Tests")
+public class FrequencySketchTest {
+
+    @Nested
+    @DisplayName("Counting Tests")
+    class CountingTests {
+
+        @Test
+        @DisplayName("Should estimate frequency of incremented keys")
+        void testIncrement() {
+            FrequencySketch sketch = new FrequencySketch(512);
+            for (int i = 0; i < 5; i++) {
+                sketch.increment("hot");
+            }
+            sketch.increment("cold");
+
+            assertTrue(sketch.frequency("hot") >= 5);
+            assertTrue(sketch.frequency("cold") >= 1);
+            assertTrue(sketch.frequency("hot") > sketch.frequency("cold"));
+        }
+
+        @Test
+        @DisplayName("Should saturate counters at fifteen")
+        void testSaturation() {
+            FrequencySketch sketch = new FrequencySketch(512);
+            for (int i = 0; i < 100; i++) {
+                sketch.increment("hot");
+            }
+
+            assertEquals(15, sketch.frequency("hot"));
+        }
+
+        @Test
+        @DisplayName("Should age counters after sample period")
+        void testAging() {
+            FrequencySketch sketch = new FrequencySketch(16);
+            for (int i = 0; i < 15; i++) {
+                sketch.increment("hot");
+            }
+            for (int i = 0; i < 200; i++) {
+                sketch.increment("key" + i);
+            }
+
+            assertTrue(sketch.frequency("hot") < 15);
+        }
+    }
+}
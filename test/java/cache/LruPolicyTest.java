@@ -0,0 +1,50 @@
+package cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LruPolicy Tests")
+public class LruPolicyTest {
+
+    @Nested
+    @DisplayName("Victim Selection Tests")
+    class VictimSelectionTests {
+        private LruPolicy policy;
+
+        @BeforeEach
+        void setUp() {
+            policy = new LruPolicy();
+            policy.onInsert("a");
+            policy.onInsert("b");
+            policy.onInsert("c");
+        }
+
+        @Test
+        @DisplayName("Should select least recently inserted key")
+        void testInsertionOrder() {
+            assertEquals("a", policy.selectVictim());
+            assertEquals(3, policy.size());
+        }
+
+        @Test
+        @DisplayName("Should move accessed key to most recent")
+        void testAccessOrder() {
+            policy.onAccess("a");
+            assertEquals("b", policy.selectVictim());
+        }
+
+        @Test
+        @DisplayName("Should forget removed keys")
+        void testRemove() {
+            policy.onRemove("a");
+            policy.onRemove("b");
+            policy.onRemove("c");
+
+            assertNull(policy.selectVictim());
+            assertEquals(0, policy.size());
+        }
+    }
+}
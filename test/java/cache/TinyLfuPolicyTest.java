@@ -0,0 +1,65 @@
+package cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TinyLfuPolicy Tests")
+public class TinyLfuPolicyTest {
+
+    @Nested
+    @DisplayName("Admission Tests")
+    class AdmissionTests {
+
+        @Test
+        @DisplayName("Should reject a new key that is less frequent than the main victim")
+        void testRejectColdCandidate() {
+            TinyLfuPolicy policy = new TinyLfuPolicy(100);
+            policy.onInsert("hot");
+            for (int i = 0; i < 5; i++) {
+                policy.onAccess("hot");
+            }
+            policy.onInsert("cold");
+            policy.onInsert("new");
+
+            assertEquals("cold", policy.selectVictim());
+        }
+
+        @Test
+        @DisplayName("Should admit a frequent candidate over a cold main entry")
+        void testAdmitHotCandidate() {
+            TinyLfuPolicy policy = new TinyLfuPolicy(100);
+            policy.onInsert("resident");
+            for (int i = 0; i < 5; i++) {
+                policy.onMiss("popular");
+            }
+            policy.onInsert("popular");
+            policy.onInsert("latest");
+
+            assertEquals("resident", policy.selectVictim());
+        }
+
+        @Test
+        @DisplayName("Should track size across segments and removals")
+        void testSize() {
+            TinyLfuPolicy policy = new TinyLfuPolicy(100);
+            policy.onInsert("a");
+            policy.onInsert("b");
+            policy.selectVictim();
+            policy.onAccess("a");
+
+            assertEquals(2, policy.size());
+            policy.onRemove("a");
+            policy.onRemove("b");
+            assertEquals(0, policy.size());
+            assertNull(policy.selectVictim());
+        }
+
+        @Test
+        @DisplayName("Should reject non-positive expected size")
+        void testInvalidSize() {
+            assertThrows(IllegalArgumentException.class, () -> new TinyLfuPolicy(0));
+        }
+    }
+}
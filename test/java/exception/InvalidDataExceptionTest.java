@@ -64,6 +64,21 @@ public class InvalidDataExceptionTest {
             assertNull(exception.getFieldName());
             assertNull(exception.getInvalidValue());
         }
+
+        @Test
+        @DisplayName("Should create exception without a stack trace")
+        void testWithoutStackTrace() {
+            InvalidDataException exception = InvalidDataException.withoutStackTrace("Invalid email", "email", "bad@");
+
+            assertEquals("Invalid email", exception.getMessage());
+            assertEquals("email", exception.getFieldName());
+            assertEquals("bad@", exception.getInvalidValue());
+            assertNull(exception.getCause());
+            assertEquals(0, exception.getStackTrace().length);
+
+            exception.addSuppressed(new RuntimeException("ignored"));
+            assertEquals(0, exception.getSuppressed().length);
+        }
     }
 
     @Nested
@@ -0,0 +1,196 @@
+package importer;
+
+import model.Exercise;
+import model.User;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import repositories.ConcurrentGenericRepository;
+import repositories.GenericRepository;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("CsvImportPipeline Tests")
+public class CsvImportPipelineTest {
+    private static final Logger repositoryLogger = Logger.getLogger(GenericRepository.class.getName());
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void silenceRepositoryLogging() {
+        repositoryLogger.setLevel(Level.WARNING);
+    }
+
+    private static String usersCsv(int rows) {
+        StringBuilder csv = new StringBuilder("firstName,lastName,email\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append("First").append(',').append("Last").append(',').append("user").append(i).append("@email.com\n");
+        }
+        return csv.toString();
+    }
+
+    private static ImportResult importUsers(String csv, GenericRepository<User> repository, ImportOptions options)
+            throws IOException {
+        return new CsvImportPipeline<>(EntityRowMappers.USERS, options)
+                .run(new BufferedReader(new StringReader(csv)), repository);
+    }
+
+    @Nested
+    @DisplayName("Import Tests")
+    class ImportTests {
+
+        @Test
+        @DisplayName("Should import every row of the bundled data files")
+        void testBundledData() throws IOException {
+            assumeTrue(Files.isDirectory(Path.of("data")), "bundled data/ directory not in working directory");
+            GenericRepository<User> users = new GenericRepository<>(User::getEmail);
+            GenericRepository<Exercise> exercises = new GenericRepository<>(Exercise::name);
+            GenericRepository<model.Level> levels = new GenericRepository<>(model.Level::name);
+
+            ImportResult userResult = new CsvImportPipeline<>(EntityRowMappers.USERS).run(Path.of("data", "users.csv"), users);
+            ImportResult exerciseResult = new CsvImportPipeline<>(EntityRowMappers.EXERCISES)
+                    .run(Path.of("data", "exercises.csv"), exercises);
+            ImportResult levelResult = new CsvImportPipeline<>(EntityRowMappers.LEVELS).run(Path.of("data", "levels.csv"), levels);
+
+            assertEquals(5, userResult.imported());
+            assertEquals(10, exerciseResult.imported());
+            assertEquals(3, levelResult.imported());
+            assertTrue(userResult.errors().isEmpty());
+            assertNotNull(users.findByIdentity("john.doe@email.com"));
+        }
+
+        @Test
+        @DisplayName("Should import many chunks with several workers in file order")
+        void testOrderedParallelImport() throws IOException {
+            List<String> insertionOrder = new ArrayList<>();
+            GenericRepository<User> repository = new GenericRepository<>(User::getEmail) {
+                @Override
+                protected void onAdded(String identity, User item) {
+                    insertionOrder.add(identity);
+                }
+            };
+            ImportOptions options = ImportOptions.defaults().withWorkers(4).withBatchSize(97).withQueueCapacity(2);
+
+            ImportResult result = importUsers(usersCsv(10_000), repository, options);
+
+            assertEquals(10_000, result.rowsRead());
+            assertEquals(10_000, result.imported());
+            for (int i = 0; i < insertionOrder.size(); i++) {
+                assertEquals("user" + i + "@email.com", insertionOrder.get(i));
+            }
+            assertTrue(result.rowsPerSecond() > 0);
+        }
+
+        @Test
+        @DisplayName("Should import every row when insertion is unordered")
+        void testUnorderedImport() throws IOException {
+            GenericRepository<User> repository = new ConcurrentGenericRepository<>(User::getEmail);
+            ImportOptions options = ImportOptions.defaults().withWorkers(3).withBatchSize(50).withOrdered(false);
+
+            ImportResult result = importUsers(usersCsv(5_000), repository, options);
+
+            assertEquals(5_000, result.imported());
+            assertEquals(5_000, repository.getAll().size());
+        }
+
+        @Test
+        @DisplayName("Should count rejected rows, duplicates and skip blank lines")
+        void testRejectedAndDuplicateRows() throws IOException {
+            String csv = "firstName,lastName,email\n"
+                    + "John,Doe,john.doe@email.com\n"
+                    + "\n"
+                    + "J,Doe,bad-email\n"
+                    + "Jane,Smith,john.doe@email.com\n"
+                    + "Too,Many,columns@email.com,x\n";
+            GenericRepository<User> repository = new GenericRepository<>(User::getEmail);
+
+            ImportResult result = importUsers(csv, repository, ImportOptions.defaults().withBatchSize(2));
+
+            assertEquals(4, result.rowsRead());
+            assertEquals(1, result.imported());
+            assertEquals(2, result.rejected());
+            assertEquals(1, result.duplicates());
+            assertEquals(3, result.errors().size());
+            assertEquals(2, result.errors().getFailedRowCount());
+            assertEquals(4, result.errors().getRow(0));
+            assertEquals("firstName", result.errors().getField(0));
+            assertEquals("email", result.errors().getField(1));
+            assertEquals(6, result.errors().getRow(2));
+            assertEquals("columns", result.errors().getField(2));
+        }
+
+        @Test
+        @DisplayName("Should import from a file without a header")
+        void testNoHeader() throws IOException {
+            Path file = tempDir.resolve("users.csv");
+            Files.writeString(file, "John,Doe,john.doe@email.com\nJane,Smith,jane.smith@email.com");
+            GenericRepository<User> repository = new GenericRepository<>(User::getEmail);
+
+            ImportResult result = new CsvImportPipeline<>(EntityRowMappers.USERS, ImportOptions.defaults().withSkipHeader(false))
+                    .run(file, repository);
+
+            assertEquals(2, result.imported());
+        }
+    }
+
+    @Nested
+    @DisplayName("Failure Tests")
+    class FailureTests {
+
+        @Test
+        @DisplayName("Should propagate a failure from a parse worker")
+        void testWorkerFailure() {
+            RowMapper<User> failing = (fields, row, errors) -> {
+                if (row == 500) {
+                    throw new IllegalStateException("boom");
+                }
+                return EntityRowMappers.USERS.map(fields, row, errors);
+            };
+            CsvImportPipeline<User> pipeline = new CsvImportPipeline<>(failing,
+                    ImportOptions.defaults().withWorkers(2).withBatchSize(10).withQueueCapacity(1));
+
+            IllegalStateException exception = assertThrows(IllegalStateException.class,
+                    () -> pipeline.run(new BufferedReader(new StringReader(usersCsv(5_000))),
+                            new GenericRepository<>(User::getEmail)));
+            assertEquals("boom", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should propagate a read failure as IOException")
+        void testReadFailure() {
+            BufferedReader broken = new BufferedReader(new StringReader("")) {
+                @Override
+                public String readLine() throws IOException {
+                    throw new IOException("disk gone");
+                }
+            };
+            CsvImportPipeline<User> pipeline = new CsvImportPipeline<>(EntityRowMappers.USERS);
+
+            IOException exception = assertThrows(IOException.class,
+                    () -> pipeline.run(broken, new GenericRepository<>(User::getEmail)));
+            assertEquals("disk gone", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should reject invalid options")
+        void testInvalidOptions() {
+            assertThrows(IllegalArgumentException.class, () -> ImportOptions.defaults().withWorkers(0));
+            assertThrows(IllegalArgumentException.class, () -> ImportOptions.defaults().withBatchSize(0));
+            assertThrows(IllegalArgumentException.class, () -> new CsvImportPipeline<>(null));
+        }
+    }
+}
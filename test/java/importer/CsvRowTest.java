@@ -0,0 +1,119 @@
+package importer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CsvRow Tests")
+public class CsvRowTest {
+
+    private static String[] fields(CsvRow row) {
+        String[] fields = new String[row.size()];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = row.getString(i);
+        }
+        return fields;
+    }
+
+    private static CsvRow parseBytes(String text) {
+        ByteBuffer buffer = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+        CsvRow row = new CsvRow();
+        row.parseRecord(buffer, 0, buffer.limit(), true, true);
+        return row;
+    }
+
+    @Nested
+    @DisplayName("Line Tests")
+    class LineTests {
+
+        @Test
+        @DisplayName("Should split unquoted fields and keep empty ones")
+        void testUnquoted() {
+            assertArrayEquals(new String[]{"John", "Doe", "john.doe@email.com"}, fields(CsvRow.parse("John,Doe,john.doe@email.com")));
+            assertArrayEquals(new String[]{"", "a", ""}, fields(CsvRow.parse(",a,")));
+            assertArrayEquals(new String[]{""}, fields(CsvRow.parse("")));
+            assertTrue(CsvRow.parse("   ").isBlank());
+        }
+
+        @Test
+        @DisplayName("Should honour quotes, embedded delimiters and doubled quotes")
+        void testQuoted() {
+            assertArrayEquals(new String[]{"Doe, John", "x"}, fields(CsvRow.parse("\"Doe, John\",x")));
+            assertArrayEquals(new String[]{"say \"hi\"", ""}, fields(CsvRow.parse("\"say \"\"hi\"\"\",")));
+            assertArrayEquals(new String[]{"O'Connor", "Mary"}, fields(CsvRow.parse("\"O'Connor\",Mary")));
+        }
+
+        @Test
+        @DisplayName("Should reuse its field views for the next line")
+        void testReuse() {
+            CsvRow row = CsvRow.parse("a,b,c");
+            FieldSlice first = row.get(0);
+
+            row.parseLine("x,y");
+
+            assertSame(first, row.get(0));
+            assertEquals("x", first.toString());
+            assertEquals(2, row.size());
+            assertThrows(IndexOutOfBoundsException.class, () -> row.get(2));
+        }
+    }
+
+    @Nested
+    @DisplayName("Byte Tests")
+    class ByteTests {
+
+        @Test
+        @DisplayName("Should slice ASCII fields and stop after the line terminator")
+        void testRecord() {
+            ByteBuffer buffer = ByteBuffer.wrap("a,bc,\r\nnext".getBytes(StandardCharsets.US_ASCII));
+            CsvRow row = new CsvRow();
+
+            int next = row.parseRecord(buffer, 0, buffer.limit(), true, true);
+
+            assertEquals(7, next);
+            assertArrayEquals(new String[]{"a", "bc", ""}, fields(row));
+            assertEquals(1, row.lineBreaks());
+            assertEquals('c', row.get(1).charAt(1));
+        }
+
+        @Test
+        @DisplayName("Should keep line breaks inside quoted fields and count them")
+        void testQuotedLineBreak() {
+            CsvRow row = parseBytes("\"line one\nline two\",\"a\"\"b\"\n");
+
+            assertArrayEquals(new String[]{"line one\nline two", "a\"b"}, fields(row));
+            assertEquals(2, row.lineBreaks());
+        }
+
+        @Test
+        @DisplayName("Should decode non-ASCII UTF-8 fields")
+        void testUtf8() {
+            CsvRow row = parseBytes("Jos\u00E9,\u0141ukasz,\"\u7528\u6237\",\uD83D\uDE00");
+
+            assertArrayEquals(new String[]{"Jos\u00E9", "\u0141ukasz", "\u7528\u6237", "\uD83D\uDE00"}, fields(row));
+            assertEquals(4, row.get(0).length());
+        }
+
+        @Test
+        @DisplayName("Should report records that may continue past the limit")
+        void testIncomplete() {
+            ByteBuffer buffer = ByteBuffer.wrap("a,b\"c".getBytes(StandardCharsets.US_ASCII));
+            CsvRow row = new CsvRow();
+
+            assertEquals(-1, row.parseRecord(buffer, 0, 3, false, true));
+            assertEquals(3, row.parseRecord(buffer, 0, 3, true, true));
+
+            ByteBuffer quoted = ByteBuffer.wrap("\"a\nb".getBytes(StandardCharsets.US_ASCII));
+            assertEquals(-1, row.parseRecord(quoted, 0, quoted.limit(), false, false));
+
+            ByteBuffer carriageReturn = ByteBuffer.wrap("a\r".getBytes(StandardCharsets.US_ASCII));
+            assertEquals(-1, row.parseRecord(carriageReturn, 0, carriageReturn.limit(), false, false));
+            assertEquals(2, row.parseRecord(carriageReturn, 0, carriageReturn.limit(), true, false));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package importer;
+
+import model.Coach;
+import model.Exercise;
+import model.Level;
+import model.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import util.ClientUtils;
+import util.WorkoutUtils;
+import validation.ValidationErrors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EntityRowMappers Tests")
+public class EntityRowMappersTest {
+
+    @Test
+    @DisplayName("Should map valid rows to entities")
+    void testValidRows() {
+        ValidationErrors errors = new ValidationErrors();
+
+        User user = EntityRowMappers.USERS.map(CsvRow.parse("john,doe, John.Doe@Email.com "), 2, errors);
+        Coach coach = EntityRowMappers.COACHES.map(CsvRow.parse("Lisa,Chen,lisa.chen@email.com, 8 "), 3, errors);
+        Exercise exercise = EntityRowMappers.EXERCISES.map(CsvRow.parse("Squats,20,4"), 4, errors);
+        Level level = EntityRowMappers.LEVELS.map(CsvRow.parse("BEGINNER"), 5, errors);
+
+        assertTrue(errors.isEmpty());
+        assertEquals("john.doe@email.com", user.getEmail());
+        assertEquals(8, coach.getExperienceYears());
+        assertEquals(new Exercise("Squats", 20, 4), exercise);
+        assertEquals(Level.BEGINNER, level);
+    }
+
+    @Test
+    @DisplayName("Should report every invalid column of a row")
+    void testInvalidRow() {
+        ValidationErrors errors = new ValidationErrors();
+
+        assertNull(EntityRowMappers.COACHES.map(CsvRow.parse("L,Chen,lisa@,eight"), 9, errors));
+
+        assertEquals(3, errors.size());
+        assertEquals(1, errors.getFailedRowCount());
+        assertEquals("firstName", errors.getField(0));
+        assertEquals("email", errors.getField(1));
+        assertEquals("experienceYears", errors.getField(2));
+        assertEquals("eight", errors.getInvalidValue(2));
+        assertEquals(9, errors.getRow(2));
+    }
+
+    @Test
+    @DisplayName("Should reject rows with the wrong number of columns")
+    void testColumnCount() {
+        ValidationErrors errors = new ValidationErrors();
+
+        assertNull(EntityRowMappers.EXERCISES.map(CsvRow.parse("Squats,20"), 4, errors));
+
+        assertEquals("columns", errors.getField(0));
+        assertEquals("2", errors.getInvalidValue(0));
+    }
+
+    @Test
+    @DisplayName("Should keep the failing text after the row is reused")
+    void testFailingValueSurvivesReuse() {
+        ValidationErrors errors = new ValidationErrors();
+        CsvRow row = CsvRow.parse("John,Doe,not-an-email");
+
+        EntityRowMappers.USERS.map(row, 2, errors);
+        row.parseLine("Jane,Doe,jane.doe@email.com");
+
+        assertEquals("not-an-email", errors.getInvalidValue(0));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "42, 42",
+        "' 7 ', 7",
+        "-3, -3",
+        "+5, 5",
+        "'', -2147483648",
+        "-, -2147483648",
+        "4x, -2147483648",
+        "1234567890, -2147483648"
+    })
+    @DisplayName("Should parse ints without throwing")
+    void testParseInt(String text, int expected) {
+        assertEquals(expected, EntityRowMappers.parseInt(text));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"BEGINNER", " beg ", "Inter", "advanced", "ADV", "begin", "beginners", "", "  ", "lowx"})
+    @DisplayName("Should match levels and intensities like the string parsers")
+    void testMatchName(String text) {
+        ValidationErrors errors = new ValidationErrors();
+
+        assertEquals(ClientUtils.parseLevel(text), EntityRowMappers.LEVELS.map(CsvRow.parse(text), 1, errors));
+        assertEquals(WorkoutUtils.parseIntensity(text), EntityRowMappers.INTENSITIES.map(CsvRow.parse(text), 1, errors));
+        assertEquals(WorkoutUtils.parseIntensity("MED"),
+                EntityRowMappers.INTENSITIES.map(CsvRow.parse(" MED "), 2, errors));
+    }
+}
@@ -0,0 +1,118 @@
+package importer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MappedCsvReader Tests")
+public class MappedCsvReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path write(String content) throws IOException {
+        Path file = tempDir.resolve("data.csv");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private static List<String> readAll(MappedCsvReader reader) throws IOException {
+        List<String> records = new ArrayList<>();
+        while (reader.next()) {
+            CsvRow row = reader.row();
+            StringBuilder record = new StringBuilder().append(reader.getLineNumber()).append(':');
+            for (int i = 0; i < row.size(); i++) {
+                record.append(i == 0 ? "" : "|").append(row.getString(i));
+            }
+            records.add(record.toString());
+        }
+        return records;
+    }
+
+    @Test
+    @DisplayName("Should read header and records with line numbers")
+    void testRecords() throws IOException {
+        Path file = write("firstName,lastName,email\nJohn,Doe,john.doe@email.com\r\nJane,Smith,jane.smith@email.com");
+
+        try (MappedCsvReader reader = new MappedCsvReader(file)) {
+            assertEquals(List.of("1:firstName|lastName|email", "2:John|Doe|john.doe@email.com",
+                    "3:Jane|Smith|jane.smith@email.com"), readAll(reader));
+            assertFalse(reader.next());
+        }
+    }
+
+    @Test
+    @DisplayName("Should read the bundled data files")
+    void testEmptyAndBundledShape() throws IOException {
+        try (MappedCsvReader reader = new MappedCsvReader(write(""))) {
+            assertFalse(reader.next());
+        }
+        try (MappedCsvReader reader = new MappedCsvReader(write("level\nBEGINNER\nINTERMEDIATE\nADVANCED"))) {
+            assertEquals(4, readAll(reader).size());
+        }
+    }
+
+    @Test
+    @DisplayName("Should give the same records for every window size")
+    void testSmallWindows() throws IOException {
+        StringBuilder csv = new StringBuilder("name,note\n");
+        for (int i = 0; i < 200; i++) {
+            csv.append("row").append(i).append(',');
+            csv.append(i % 7 == 0 ? "\"multi\nline, quoted \"\"" + i + "\"\"\"" : "plain" + i);
+            csv.append(i % 3 == 0 ? "\r\n" : "\n");
+        }
+        Path file = write(csv.toString());
+
+        List<String> expected;
+        try (MappedCsvReader reader = new MappedCsvReader(file)) {
+            expected = readAll(reader);
+        }
+        assertEquals(201, expected.size());
+        assertEquals("2:row0|multi\nline, quoted \"0\"", expected.get(1));
+        assertEquals("4:row1|plain1", expected.get(2));
+
+        for (int window : new int[]{1, 2, 3, 7, 16, 61, 1024}) {
+            try (MappedCsvReader reader = new MappedCsvReader(file, window)) {
+                assertEquals(expected, readAll(reader), "window " + window);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should split the file into ranges of complete records")
+    void testRanges() throws IOException {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            csv.append("a").append(i).append(",\"b\n").append(i).append("\"\n");
+        }
+        Path file = write(csv.toString());
+
+        try (MappedCsvReader reader = new MappedCsvReader(file, 64)) {
+            CsvRow row = new CsvRow();
+            int records = 0;
+            long expectedLine = 1;
+            MappedCsvReader.Range range;
+            while ((range = reader.nextRange(8)) != null) {
+                assertEquals(expectedLine, range.firstLine());
+                int position = range.start();
+                while (position < range.end()) {
+                    position = row.parseRecord(range.buffer(), position, range.end(), true, true);
+                    assertEquals("a" + records, row.getString(0));
+                    assertEquals("b\n" + records, row.getString(1));
+                    records++;
+                    expectedLine += row.lineBreaks();
+                }
+            }
+            assertEquals(100, records);
+        }
+    }
+}
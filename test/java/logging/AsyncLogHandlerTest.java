@@ -0,0 +1,166 @@
+package logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+@DisplayName("AsyncLogHandler Tests")
+public class AsyncLogHandlerTest {
+
+    private static LogRecord record(Level level, String message, Object... parameters) {
+        LogRecord record = new LogRecord(level, message);
+        record.setLoggerName("test.logger");
+        record.setParameters(parameters);
+        return record;
+    }
+
+    @Nested
+    @DisplayName("Writing Tests")
+    class WritingTests {
+
+        @TempDir
+        Path directory;
+
+        @Test
+        @DisplayName("Should format parameterized records on flush")
+        void testWriteRecords() throws IOException {
+            Path file = directory.resolve("logs").resolve("application.log");
+            AsyncLogHandler handler = new AsyncLogHandler(file);
+            handler.publish(record(Level.INFO, "Added item with identity: {0}", "john.doe@university.edu"));
+            handler.publish(record(Level.WARNING, "Plain message"));
+            handler.flush();
+
+            List<String> lines = Files.readAllLines(file);
+            assertEquals(2, lines.size());
+            assertTrue(lines.get(0).endsWith("INFO test.logger - Added item with identity: john.doe@university.edu"));
+            assertTrue(lines.get(1).endsWith("WARNING test.logger - Plain message"));
+            handler.close();
+        }
+
+        @Test
+        @DisplayName("Should drain queued records on close")
+        void testCloseDrains() throws IOException {
+            Path file = directory.resolve("application.log");
+            AsyncLogHandler handler = new AsyncLogHandler(file);
+            for (int i = 0; i < 1000; i++) {
+                handler.publish(record(Level.INFO, "Record {0}", i));
+            }
+            handler.close();
+
+            assertEquals(1000, Files.readAllLines(file).size());
+            handler.publish(record(Level.INFO, "After close"));
+            assertEquals(1000, Files.readAllLines(file).size());
+        }
+
+        @Test
+        @DisplayName("Should skip records below the handler level")
+        void testHandlerLevel() throws IOException {
+            Path file = directory.resolve("application.log");
+            AsyncLogHandler handler = new AsyncLogHandler(file);
+            handler.setLevel(Level.WARNING);
+            handler.publish(record(Level.INFO, "Ignored"));
+            handler.publish(record(Level.SEVERE, "Kept"));
+            handler.close();
+
+            List<String> lines = Files.readAllLines(file);
+            assertEquals(1, lines.size());
+            assertTrue(lines.get(0).contains("Kept"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Overflow Tests")
+    class OverflowTests {
+
+        @TempDir
+        Path directory;
+
+        @Test
+        @DisplayName("Should drop records when the buffer is full and report the count")
+        void testDropPolicy() throws Exception {
+            Path file = directory.resolve("application.log");
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch stalled = new CountDownLatch(1);
+            AsyncLogHandler handler = new AsyncLogHandler(file,
+                    new AsyncLogOptions(2, 1, OverflowPolicy.DROP));
+            handler.setFormatter(new CompactFormatter() {
+                @Override
+                public String format(LogRecord record) {
+                    stalled.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return super.format(record);
+                }
+            });
+
+            handler.publish(record(Level.INFO, "first"));
+            stalled.await();
+            for (int i = 0; i < 10; i++) {
+                handler.publish(record(Level.INFO, "burst {0}", i));
+            }
+            assertEquals(8, handler.getDroppedCount());
+
+            release.countDown();
+            handler.flush();
+            handler.publish(record(Level.INFO, "after"));
+            handler.close();
+
+            String log = Files.readString(file);
+            assertTrue(log.contains("dropped 8 records"));
+            assertTrue(log.contains("after"));
+        }
+
+        @Test
+        @DisplayName("Should block producers instead of dropping when configured")
+        void testBlockPolicy() throws IOException {
+            Path file = directory.resolve("application.log");
+            AsyncLogHandler handler = new AsyncLogHandler(file,
+                    AsyncLogOptions.defaults().withBufferCapacity(4).withOverflowPolicy(OverflowPolicy.BLOCK));
+            for (int i = 0; i < 500; i++) {
+                handler.publish(record(Level.INFO, "Record {0}", i));
+            }
+            handler.close();
+
+            assertEquals(0, handler.getDroppedCount());
+            assertEquals(500, Files.readAllLines(file).size());
+        }
+
+        @Test
+        @DisplayName("Should reject invalid options")
+        void testInvalidOptions() {
+            assertThrows(IllegalArgumentException.class, () -> new AsyncLogOptions(0, 1, OverflowPolicy.DROP));
+            assertThrows(IllegalArgumentException.class, () -> new AsyncLogOptions(1, 0, OverflowPolicy.DROP));
+            assertThrows(IllegalArgumentException.class, () -> new AsyncLogOptions(1, 1, null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Level Gating Tests")
+    class LevelGatingTests {
+
+        @Test
+        @DisplayName("Should keep configured logger levels after garbage collection")
+        void testLevelsSurviveGc() {
+            LogLevels.set("logging.test.gated", Level.WARNING);
+            System.gc();
+
+            Logger logger = Logger.getLogger("logging.test.gated");
+            assertEquals(Level.WARNING, logger.getLevel());
+            assertFalse(logger.isLoggable(Level.INFO));
+        }
+    }
+}
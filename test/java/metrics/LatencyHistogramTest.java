@@ -0,0 +1,111 @@
+package metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("LatencyHistogram Tests")
+public class LatencyHistogramTest {
+
+    @Nested
+    @DisplayName("Bucketing Tests")
+    class BucketingTests {
+
+        @Test
+        @DisplayName("Should place every value inside its bucket bounds")
+        void testBucketBounds() {
+            long[] values = {0, 1, 15, 16, 17, 31, 32, 33, 1_000, 123_456, 1L << 40, Long.MAX_VALUE};
+            for (long value : values) {
+                int index = LatencyHistogram.indexOf(value);
+                assertTrue(LatencyHistogram.upperBoundOf(index) >= value, "upper bound of " + value);
+                if (index > 0) {
+                    assertTrue(LatencyHistogram.upperBoundOf(index - 1) < value, "previous bucket of " + value);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should keep relative bucket error under seven percent")
+        void testRelativeError() {
+            for (long value = 16; value < 10_000_000; value = value * 3 / 2) {
+                long upper = LatencyHistogram.upperBoundOf(LatencyHistogram.indexOf(value));
+                assertTrue((upper - value) / (double) value < 0.07, "value " + value + " reported as " + upper);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Percentile Tests")
+    class PercentileTests {
+
+        @Test
+        @DisplayName("Should report percentiles of a uniform distribution")
+        void testUniformPercentiles() {
+            LatencyHistogram histogram = new LatencyHistogram();
+            for (long i = 1; i <= 10_000; i++) {
+                histogram.record(i * 1_000);
+            }
+
+            LatencySnapshot snapshot = histogram.snapshot();
+            assertEquals(10_000, snapshot.getCount());
+            assertEquals(10_000_000, snapshot.getMaxNanos());
+            assertEquals(5_000_000, snapshot.getP50Nanos(), 5_000_000 * 0.07);
+            assertEquals(9_900_000, snapshot.getP99Nanos(), 9_900_000 * 0.07);
+            assertEquals(5_000_500, snapshot.getMeanNanos(), 1);
+        }
+
+        @Test
+        @DisplayName("Should report zeros when empty and after reset")
+        void testEmptyAndReset() {
+            LatencyHistogram histogram = new LatencyHistogram();
+            assertEquals(0, histogram.snapshot().getP99Nanos());
+
+            histogram.record(500);
+            histogram.record(-5);
+            histogram.reset();
+
+            LatencySnapshot snapshot = histogram.snapshot();
+            assertEquals(0, snapshot.getCount());
+            assertEquals(0, snapshot.getMaxNanos());
+        }
+
+        @Test
+        @DisplayName("Should allocate buckets only for threads that record")
+        void testLazyStripes() {
+            LatencyHistogram histogram = new LatencyHistogram();
+            assertEquals(0, histogram.getAllocatedStripeCount());
+            assertEquals(0, histogram.snapshot().getCount());
+
+            histogram.record(500);
+            histogram.record(700);
+
+            assertEquals(1, histogram.getAllocatedStripeCount());
+            assertEquals(2, histogram.snapshot().getCount());
+        }
+
+        @Test
+        @DisplayName("Should count every record under concurrency")
+        void testConcurrentRecords() throws InterruptedException {
+            LatencyHistogram histogram = new LatencyHistogram();
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            for (int t = 0; t < 8; t++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        histogram.record(i);
+                    }
+                });
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+            assertEquals(80_000, histogram.getCount());
+            assertEquals(80_000, histogram.snapshot().getCount());
+            assertEquals(9_999, histogram.snapshot().getMaxNanos());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package metrics;
+
+import model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import repositories.GenericRepository;
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+
+@DisplayName("RepositoryStats Tests")
+public class RepositoryStatsTest {
+
+    @Nested
+    @DisplayName("JMX Export Tests")
+    class JmxExportTests {
+        private static final String NAME = "users-under-test";
+
+        @AfterEach
+        void tearDown() {
+            RepositoryStats.unregister(NAME);
+        }
+
+        @Test
+        @DisplayName("Should expose counters, size and latency as MBean attributes")
+        void testAttributes() throws Exception {
+            GenericRepository<User> repository = new GenericRepository<>(User::getEmail);
+            repository.getMetrics().setSamplingInterval(1);
+            ObjectName objectName = repository.registerMBean(NAME);
+
+            repository.add(new User("John", "Doe", "john.doe@university.edu"));
+            repository.add(new User("John", "Doe", "john.doe@university.edu"));
+            repository.findByIdentity("john.doe@university.edu");
+
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            assertEquals(1L, server.getAttribute(objectName, "AddCount"));
+            assertEquals(1L, server.getAttribute(objectName, "DuplicateCount"));
+            assertEquals(1L, server.getAttribute(objectName, "HitCount"));
+            assertEquals(1, server.getAttribute(objectName, "Size"));
+            assertTrue((Long) server.getAttribute(objectName, "EstimatedMemoryBytes") > 0);
+            assertEquals(1, server.getAttribute(objectName, "LatencySamplingInterval"));
+
+            CompositeData addLatency = (CompositeData) server.getAttribute(objectName, "AddLatency");
+            assertEquals(2L, addLatency.get("count"));
+            assertTrue((Long) addLatency.get("maxNanos") > 0);
+
+            server.invoke(objectName, "reset", null, null);
+            assertEquals(0L, server.getAttribute(objectName, "AddCount"));
+        }
+
+        @Test
+        @DisplayName("Should reject registering the same name twice")
+        void testDuplicateRegistration() {
+            GenericRepository<User> repository = new GenericRepository<>(User::getEmail);
+            repository.registerMBean(NAME);
+
+            assertThrows(IllegalStateException.class, () -> repository.registerMBean(NAME));
+        }
+    }
+}
@@ -8,6 +8,9 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EnumSource;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("Client Tests")
@@ -301,4 +304,50 @@ public class ClientTest {
             assertNotEquals(client1, client2);
         }
     }
+
+    @Nested
+    @DisplayName("Coach Change Listener Tests")
+    class CoachChangeListenerTests {
+        private final Coach jane = new Coach("jane", "smith", "jane.smith@university.edu", 5);
+        private final Coach alice = new Coach("alice", "bob", "alice.bob@university.edu", 3);
+
+        @Test
+        @DisplayName("Should notify listener with previous and current coach")
+        void testNotifiesChange() {
+            Client client = new Client("john", "doe", "john.doe@university.edu", Level.BEGINNER, jane);
+            List<String> events = new ArrayList<>();
+            client.addCoachChangeListener((c, previous, current) ->
+                    events.add(previous.getEmail() + "->" + (current != null ? current.getEmail() : null)));
+
+            client.setCoach(alice);
+            client.setCoach(alice);
+            client.setCoach(null);
+
+            assertEquals(List.of("jane.smith@university.edu->alice.bob@university.edu",
+                    "alice.bob@university.edu->null"), events);
+        }
+
+        @Test
+        @DisplayName("Should notify every listener once and stop after removal")
+        void testAddAndRemoveListeners() {
+            Client client = new Client("john", "doe", "john.doe@university.edu", Level.BEGINNER, null);
+            int[] calls = new int[3];
+            CoachChangeListener first = (c, previous, current) -> calls[0]++;
+            CoachChangeListener second = (c, previous, current) -> calls[1]++;
+            CoachChangeListener third = (c, previous, current) -> calls[2]++;
+            client.addCoachChangeListener(first);
+            client.addCoachChangeListener(second);
+            client.addCoachChangeListener(third);
+            client.addCoachChangeListener(second);
+
+            client.setCoach(jane);
+            client.removeCoachChangeListener(second);
+            client.setCoach(alice);
+            client.removeCoachChangeListener(first);
+            client.removeCoachChangeListener(third);
+            client.setCoach(jane);
+
+            assertArrayEquals(new int[]{2, 1, 2}, calls);
+        }
+    }
 }
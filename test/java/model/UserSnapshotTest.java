@@ -0,0 +1,175 @@
+package model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@DisplayName("UserSnapshot Tests")
+public class UserSnapshotTest {
+
+    private static Coach coach() {
+        return new Coach("Alice", "Williams", "alice@university.edu", 12);
+    }
+
+    private static Client client() {
+        return new Client("John", "Doe", "john.doe@university.edu", Level.INTERMEDIATE, coach());
+    }
+
+    @Nested
+    @DisplayName("Snapshot Tests")
+    class SnapshotTests {
+
+        @Test
+        @DisplayName("Should keep the most specific type and copy every field")
+        void testOfKeepsType() {
+            UserSnapshot user = UserSnapshot.of(new User("Jane", "Smith", "jane@university.edu"));
+            UserSnapshot coach = UserSnapshot.of(coach());
+            UserSnapshot client = UserSnapshot.of(client());
+
+            assertEquals(UserSnapshot.class, user.getClass());
+            assertInstanceOf(CoachSnapshot.class, coach);
+            ClientSnapshot clientSnapshot = assertInstanceOf(ClientSnapshot.class, client);
+            assertEquals("John", clientSnapshot.getFirstName());
+            assertEquals(Level.INTERMEDIATE, clientSnapshot.getLevel());
+            assertEquals(12, clientSnapshot.getCoach().getExperienceYears());
+            assertNull(UserSnapshot.of(null));
+            assertNull(ClientSnapshot.of(null));
+        }
+
+        @Test
+        @DisplayName("Should use the same hash code as the mutable entity")
+        void testHashMatchesMutable() {
+            Client client = client();
+            Coach coach = coach();
+            User user = new User("Jane", "Smith", "jane@university.edu");
+
+            assertEquals(user.hashCode(), UserSnapshot.of(user).hashCode());
+            assertEquals(coach.hashCode(), CoachSnapshot.of(coach).hashCode());
+            assertEquals(client.hashCode(), ClientSnapshot.of(client).hashCode());
+        }
+
+        @Test
+        @DisplayName("Should not change when the source entity is modified")
+        void testImmutable() {
+            Client client = client();
+            ClientSnapshot snapshot = ClientSnapshot.of(client);
+            int hash = snapshot.hashCode();
+
+            client.setFirstName("Jack");
+            client.getCoach().setExperienceYears(20);
+
+            assertEquals("John", snapshot.getFirstName());
+            assertEquals(12, snapshot.getCoach().getExperienceYears());
+            assertEquals(hash, snapshot.hashCode());
+            assertNotEquals(snapshot, ClientSnapshot.of(client));
+        }
+
+        @Test
+        @DisplayName("Should convert back into equal mutable entities")
+        void testRoundTrip() {
+            Client client = client();
+            Coach coach = coach();
+
+            assertEquals(client, ClientSnapshot.of(client).toClient());
+            assertEquals(coach, CoachSnapshot.of(coach).toCoach());
+            assertEquals(client, UserSnapshot.of(client).toUser());
+        }
+    }
+
+    @Nested
+    @DisplayName("Equality Tests")
+    class EqualityTests {
+
+        @Test
+        @DisplayName("Should be equal to snapshots of equal entities and usable as map keys")
+        void testEqualsAndKeys() {
+            ClientSnapshot first = ClientSnapshot.of(client());
+            ClientSnapshot second = ClientSnapshot.of(client());
+
+            assertNotSame(first, second);
+            assertEquals(first, second);
+            Map<ClientSnapshot, String> map = new HashMap<>();
+            map.put(first, "value");
+            assertEquals("value", map.get(second));
+        }
+
+        @Test
+        @DisplayName("Should distinguish types, fields and nulls")
+        void testNotEqual() {
+            Coach coach = coach();
+            UserSnapshot asUser = new UserSnapshot(coach.getFirstName(), coach.getLastName(), coach.getEmail());
+            CoachSnapshot asCoach = CoachSnapshot.of(coach);
+            Client noCoach = new Client("John", "Doe", "john.doe@university.edu", Level.INTERMEDIATE, null);
+
+            assertNotEquals(asUser, asCoach);
+            assertNotEquals(asCoach, asUser);
+            assertNotEquals(asCoach, new CoachSnapshot("Alice", "Williams", "alice@university.edu", 13));
+            assertNotEquals(ClientSnapshot.of(client()), ClientSnapshot.of(noCoach));
+            assertNotEquals(asCoach, null);
+            assertEquals(new UserSnapshot(null, null, null), new UserSnapshot(null, null, null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Plan Snapshot Tests")
+    class PlanSnapshotTests {
+
+        @Test
+        @DisplayName("Should snapshot a plan and compare it by value")
+        void testPlanSnapshot() {
+            Date start = new Date(System.currentTimeMillis() + 86_400_000L);
+            List<Workout> workouts = new ArrayList<>(List.of(
+                    new Workout("Morning Run", 30, Intensity.MEDIUM, List.of(new Exercise("Sprint", 10, 3)))));
+            Plan plan = new Plan(workouts, start, client());
+
+            PlanSnapshot first = PlanSnapshot.of(plan);
+            PlanSnapshot second = PlanSnapshot.of(plan);
+            assertEquals(first, second);
+            assertEquals(plan.hashCode(), first.hashCode());
+            assertEquals(start, first.getStartDate());
+            assertNotSame(start, first.getStartDate());
+            assertEquals(ClientSnapshot.of(plan.getClient()), first.getClient());
+
+            plan.addWorkout(new Workout("Evening Lift", 45, Intensity.HIGH, List.of()));
+            assertEquals(1, first.getWorkouts().size());
+            assertNotEquals(first, PlanSnapshot.of(plan));
+            assertThrows(UnsupportedOperationException.class, () -> first.getWorkouts().clear());
+        }
+
+        @Test
+        @DisplayName("Should keep null workouts that the plan holds")
+        void testNullWorkout() {
+            Plan plan = new Plan();
+            plan.addWorkout(null);
+            plan.addWorkout(new Workout("Morning Run", 30, Intensity.MEDIUM, List.of()));
+
+            PlanSnapshot snapshot = PlanSnapshot.of(plan);
+
+            assertEquals(2, snapshot.getWorkouts().size());
+            assertNull(snapshot.getWorkouts().get(0));
+            assertEquals(plan.hashCode(), snapshot.hashCode());
+            assertEquals(snapshot, PlanSnapshot.of(plan));
+        }
+
+        @Test
+        @DisplayName("Should accept plans without a start date, client or workouts")
+        void testEmptyPlan() {
+            Plan plan = new Plan();
+            plan.setWorkouts(null);
+            PlanSnapshot snapshot = PlanSnapshot.of(plan);
+
+            assertNull(snapshot.getStartDate());
+            assertNull(snapshot.getClient());
+            assertTrue(snapshot.getWorkouts().isEmpty());
+            assertEquals(snapshot, PlanSnapshot.of(new Plan()));
+            assertNull(PlanSnapshot.of(null));
+        }
+    }
+}
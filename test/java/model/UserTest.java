@@ -1,11 +1,14 @@
 package model;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import util.StringPool;
+import util.UserUtils;
 import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("User Tests")
@@ -301,4 +304,40 @@ public class UserTest {
             assertNotEquals(user, notUser);
         }
     }
+
+    @Nested
+    @DisplayName("Name Pool Tests")
+    class NamePoolTests {
+
+        @AfterEach
+        void disablePool() {
+            UserUtils.setNamePool(null);
+        }
+
+        @Test
+        @DisplayName("Should share name instances across users when a pool is set")
+        void testSharedNames() {
+            UserUtils.setNamePool(new StringPool());
+            User first = User.createUser("john", "DOE");
+            User second = new User(" John ", "doe", "other@university.edu");
+            Client client = Client.createClient("JOHN", "Doe", Level.BEGINNER, null);
+
+            assertEquals("John", first.getFirstName());
+            assertSame(first.getFirstName(), second.getFirstName());
+            assertSame(first.getLastName(), second.getLastName());
+            assertSame(first.getFirstName(), client.getFirstName());
+            assertEquals("john.doe@university.edu", first.getEmail());
+        }
+
+        @Test
+        @DisplayName("Should keep separate instances without a pool")
+        void testNoPoolByDefault() {
+            User first = new User("john", "doe", "john.doe@university.edu");
+            User second = new User("john", "doe", "john.doe@university.edu");
+
+            assertNull(UserUtils.getNamePool());
+            assertEquals(first, second);
+            assertNotSame(first.getFirstName(), second.getFirstName());
+        }
+    }
 }
@@ -0,0 +1,124 @@
+package persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ColumnEncoding Tests")
+public class ColumnEncodingTest {
+
+    private static ByteBuffer copy(ColumnEncoding.Sink sink) {
+        ByteBuffer source = sink.toByteBuffer();
+        ByteBuffer copy = ByteBuffer.allocate(source.remaining());
+        copy.put(source).flip();
+        return copy;
+    }
+
+    @Test
+    @DisplayName("Should round-trip timestamps with irregular and negative deltas")
+    void testTimestamps() {
+        long[] values = {0, 86_400_000L, 172_800_000L, 259_200_000L, 100, Long.MAX_VALUE, Long.MIN_VALUE, -5, -5};
+        ColumnEncoding.Sink sink = new ColumnEncoding.Sink();
+        ColumnEncoding.encodeTimestamps(values, values.length, sink);
+
+        long[] decoded = new long[values.length];
+        ByteBuffer in = copy(sink);
+        ColumnEncoding.decodeTimestamps(in, decoded, values.length);
+        assertArrayEquals(values, decoded);
+        assertFalse(in.hasRemaining());
+    }
+
+    @Test
+    @DisplayName("Should store a regular series in about one byte per timestamp")
+    void testRegularTimestampsAreSmall() {
+        long[] values = new long[10_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1_700_000_000_000L + i * 86_400_000L;
+        }
+        ColumnEncoding.Sink sink = new ColumnEncoding.Sink();
+        ColumnEncoding.encodeTimestamps(values, values.length, sink);
+        assertTrue(sink.size() < values.length + 16, "encoded " + sink.size() + " bytes");
+    }
+
+    @Test
+    @DisplayName("Should round-trip doubles bit for bit, including special values")
+    void testDoubles() {
+        Random random = new Random(42);
+        double[] values = new double[5_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = switch (i % 10) {
+                case 0 -> Double.NaN;
+                case 1 -> -0.0;
+                case 2 -> Double.POSITIVE_INFINITY;
+                case 3 -> Double.MIN_VALUE;
+                case 4 -> random.nextDouble() * 1e300;
+                case 5 -> values[i - 1];
+                default -> 60 + Math.round(random.nextGaussian() * 100) / 10.0;
+            };
+        }
+        ColumnEncoding.Sink sink = new ColumnEncoding.Sink();
+        ColumnEncoding.encodeDoubles(values, values.length, sink);
+
+        double[] decoded = new double[values.length];
+        ColumnEncoding.decodeDoubles(copy(sink), decoded, values.length);
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(Double.doubleToRawLongBits(values[i]), Double.doubleToRawLongBits(decoded[i]), "index " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Should store decimal measurements as scaled integers")
+    void testDecimalMeasurements() {
+        double[] values = new double[10_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (8000 - i / 7 * 3 + i % 5) / 100.0;
+        }
+        ColumnEncoding.Sink sink = new ColumnEncoding.Sink();
+        ColumnEncoding.encodeDoubles(values, values.length, sink);
+        assertTrue(sink.size() < values.length * 2, "encoded " + sink.size() + " bytes");
+
+        double[] decoded = new double[values.length];
+        ColumnEncoding.decodeDoubles(copy(sink), decoded, values.length);
+        assertArrayEquals(values, decoded);
+    }
+
+    @Test
+    @DisplayName("Should fall back to XOR packing for values with long fractions")
+    void testXorFallbackCompresses() {
+        double[] values = new double[10_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 80.0 - (i / 7) * 0.1;
+        }
+        ColumnEncoding.Sink sink = new ColumnEncoding.Sink();
+        ColumnEncoding.encodeDoubles(values, values.length, sink);
+        assertTrue(sink.size() < values.length * Double.BYTES, "encoded " + sink.size() + " bytes");
+
+        double[] decoded = new double[values.length];
+        ColumnEncoding.decodeDoubles(copy(sink), decoded, values.length);
+        assertArrayEquals(values, decoded);
+    }
+
+    @Test
+    @DisplayName("Should round-trip run-length encoded ids")
+    void testRuns() {
+        int[] values = {-1, -1, 0, 0, 0, 1, 2, 2, 0, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        ColumnEncoding.Sink sink = new ColumnEncoding.Sink();
+        ColumnEncoding.encodeRuns(values, values.length, sink);
+
+        int[] decoded = new int[values.length];
+        ColumnEncoding.decodeRuns(copy(sink), decoded, values.length);
+        assertArrayEquals(values, decoded);
+    }
+
+    @Test
+    @DisplayName("Should reject runs that overflow the block")
+    void testCorruptRuns() {
+        ColumnEncoding.Sink sink = new ColumnEncoding.Sink();
+        ColumnEncoding.encodeRuns(new int[]{3, 3, 3}, 3, sink);
+        assertThrows(IllegalStateException.class, () -> ColumnEncoding.decodeRuns(copy(sink), new int[2], 2));
+    }
+}
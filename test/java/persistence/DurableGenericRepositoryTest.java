@@ -0,0 +1,197 @@
+package persistence;
+
+import model.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+@DisplayName("DurableGenericRepository Tests")
+public class DurableGenericRepositoryTest {
+    private static final WalOptions NO_BACKGROUND_COMPACTION = WalOptions.defaults().withCompaction(1024 * 1024, 0);
+
+    private static DurableGenericRepository<User> openUsers(Path directory) throws IOException {
+        return DurableGenericRepository.open(directory, User::getEmail, EntityCodecs.USER, NO_BACKGROUND_COMPACTION);
+    }
+
+    @Nested
+    @DisplayName("Recovery Tests")
+    class RecoveryTests {
+
+        @TempDir
+        Path directory;
+
+        @Test
+        @DisplayName("Should recover adds and deletes after restart")
+        void testRecoverFromLog() throws IOException {
+            try (DurableGenericRepository<User> repository = openUsers(directory)) {
+                repository.add(new User("John", "Doe", "john.doe@university.edu"));
+                repository.add(new User("Jane", "Smith", "jane.smith@university.edu"));
+                repository.delete("john.doe@university.edu");
+                repository.add(new User("Johnny", "Doe", "john.doe@university.edu"));
+            }
+
+            try (DurableGenericRepository<User> repository = openUsers(directory)) {
+                assertEquals(2, repository.size());
+                assertEquals("Johnny", repository.findByIdentity("john.doe@university.edu").getFirstName());
+                assertNotNull(repository.findByIdentity("jane.smith@university.edu"));
+            }
+        }
+
+        @Test
+        @DisplayName("Should not log rejected duplicates")
+        void testDuplicateNotLogged() throws IOException {
+            try (DurableGenericRepository<User> repository = openUsers(directory)) {
+                repository.add(new User("John", "Doe", "john.doe@university.edu"));
+                repository.add(new User("Johnny", "Doe", "john.doe@university.edu"));
+                repository.delete("missing@university.edu");
+            }
+
+            try (DurableGenericRepository<User> repository = openUsers(directory)) {
+                assertEquals(1, repository.size());
+                assertEquals("John", repository.findByIdentity("john.doe@university.edu").getFirstName());
+            }
+        }
+
+        @Test
+        @DisplayName("Should recover batch operations")
+        void testRecoverBatches() throws IOException {
+            try (DurableGenericRepository<Exercise> repository =
+                         DurableGenericRepository.open(directory, Exercise::name, EntityCodecs.EXERCISE, NO_BACKGROUND_COMPACTION)) {
+                List<Exercise> exercises = new ArrayList<>();
+                for (int i = 0; i < 50; i++) {
+                    exercises.add(Exercise.createExercise("Exercise " + i, 10, 3));
+                }
+                repository.addAll(exercises);
+                repository.deleteAll(List.of("Exercise 0", "Exercise 1"));
+            }
+
+            try (DurableGenericRepository<Exercise> repository =
+                         DurableGenericRepository.open(directory, Exercise::name, EntityCodecs.EXERCISE, NO_BACKGROUND_COMPACTION)) {
+                assertEquals(48, repository.size());
+                assertNull(repository.findByIdentity("Exercise 0"));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Compaction Tests")
+    class CompactionTests {
+
+        @TempDir
+        Path directory;
+
+        @Test
+        @DisplayName("Should recover from snapshot plus log tail after compaction")
+        void testCompactThenRecover() throws IOException {
+            try (DurableGenericRepository<User> repository = openUsers(directory)) {
+                for (int i = 0; i < 100; i++) {
+                    repository.add(new User("John", "Doe", "user" + i + "@university.edu"));
+                }
+                for (int i = 0; i < 50; i++) {
+                    repository.delete("user" + i + "@university.edu");
+                }
+                repository.compact();
+                repository.add(new User("Jane", "Smith", "jane.smith@university.edu"));
+                repository.delete("user99@university.edu");
+            }
+
+            assertTrue(Files.exists(directory.resolve("snapshot.dat")));
+            assertEquals(1, WriteAheadLog.listSegments(directory).size());
+
+            try (DurableGenericRepository<User> repository = openUsers(directory)) {
+                assertEquals(50, repository.size());
+                assertNotNull(repository.findByIdentity("jane.smith@university.edu"));
+                assertNull(repository.findByIdentity("user99@university.edu"));
+                assertNull(repository.findByIdentity("user10@university.edu"));
+            }
+        }
+
+        @Test
+        @DisplayName("Should decode snapshot entries only when they are read")
+        void testLazySnapshotReads() throws IOException {
+            try (DurableGenericRepository<User> repository = openUsers(directory)) {
+                for (int i = 0; i < 100; i++) {
+                    repository.add(new User("John", "Doe", "user" + i + "@university.edu"));
+                }
+                repository.compact();
+            }
+
+            int[] decoded = new int[1];
+            EntityCodec<User> counting = new EntityCodec<>() {
+                @Override
+                public void encode(User item, DataOutput out) throws IOException {
+                    EntityCodecs.USER.encode(item, out);
+                }
+
+                @Override
+                public User decode(DataInput in) throws IOException {
+                    decoded[0]++;
+                    return EntityCodecs.USER.decode(in);
+                }
+            };
+            try (DurableGenericRepository<User> repository =
+                         DurableGenericRepository.open(directory, User::getEmail, counting, NO_BACKGROUND_COMPACTION)) {
+                assertEquals(100, repository.size());
+                assertEquals(0, decoded[0]);
+
+                assertNotNull(repository.findByIdentity("user7@university.edu"));
+                assertNotNull(repository.findByIdentity("user7@university.edu"));
+                assertEquals(1, decoded[0]);
+
+                repository.add(new User("John", "Doe", "user7@university.edu"));
+                assertTrue(repository.delete("user8@university.edu"));
+                repository.add(new User("Jane", "Smith", "user8@university.edu"));
+                assertEquals(100, repository.size());
+                assertEquals(100, repository.getAll().size());
+                assertEquals("Jane", repository.findByIdentity("user8@university.edu").getFirstName());
+            }
+
+            try (DurableGenericRepository<User> repository = openUsers(directory)) {
+                assertEquals(100, repository.size());
+                assertEquals("Jane", repository.findByIdentity("user8@university.edu").getFirstName());
+            }
+        }
+
+        @Test
+        @DisplayName("Should compact in background once threshold is exceeded")
+        void testBackgroundCompaction() throws Exception {
+            WalOptions eager = WalOptions.defaults().withSyncOnCommit(false).withCompaction(256, 20);
+            try (DurableGenericRepository<User> repository =
+                         DurableGenericRepository.open(directory, User::getEmail, EntityCodecs.USER, eager)) {
+                for (int i = 0; i < 20; i++) {
+                    repository.add(new User("John", "Doe", "user" + i + "@university.edu"));
+                }
+                long deadline = System.currentTimeMillis() + 5000;
+                while (!Files.exists(directory.resolve("snapshot.dat")) && System.currentTimeMillis() < deadline) {
+                    Thread.sleep(20);
+                }
+            }
+
+            assertTrue(Files.exists(directory.resolve("snapshot.dat")));
+            try (DurableGenericRepository<User> repository = openUsers(directory)) {
+                assertEquals(20, repository.size());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Options Tests")
+    class OptionsTests {
+
+        @Test
+        @DisplayName("Should reject non-positive compaction threshold")
+        void testInvalidThreshold() {
+            assertThrows(IllegalArgumentException.class, () -> new WalOptions(true, 0, 1000));
+        }
+    }
+}
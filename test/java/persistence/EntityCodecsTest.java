@@ -0,0 +1,67 @@
+package persistence;
+
+import model.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.*;
+
+@DisplayName("EntityCodecs Tests")
+public class EntityCodecsTest {
+
+    private static <T> T roundTrip(EntityCodec<T> codec, T item) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            codec.encode(item, out);
+        }
+        return codec.decode(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    @Nested
+    @DisplayName("Round Trip Tests")
+    class RoundTripTests {
+
+        @Test
+        @DisplayName("Should round trip user")
+        void testUser() throws IOException {
+            User user = new User("John", "Doe", "john.doe@university.edu");
+            assertEquals(user, roundTrip(EntityCodecs.USER, user));
+        }
+
+        @Test
+        @DisplayName("Should round trip user with missing email")
+        void testUserWithNullEmail() throws IOException {
+            User user = new User("John", "Doe", "invalid");
+            User decoded = roundTrip(EntityCodecs.USER, user);
+            assertNull(decoded.getEmail());
+            assertEquals(user, decoded);
+        }
+
+        @Test
+        @DisplayName("Should round trip coach")
+        void testCoach() throws IOException {
+            Coach coach = new Coach("Alice", "Williams", "alice.williams@university.edu", 7);
+            assertEquals(coach, roundTrip(EntityCodecs.COACH, coach));
+        }
+
+        @Test
+        @DisplayName("Should round trip client with and without coach")
+        void testClient() throws IOException {
+            Coach coach = new Coach("Alice", "Williams", "alice.williams@university.edu", 7);
+            Client coached = new Client("John", "Doe", "john.doe@university.edu", Level.ADVANCED, coach);
+            Client alone = new Client("Jane", "Smith", "jane.smith@university.edu", null, null);
+
+            assertEquals(coached, roundTrip(EntityCodecs.CLIENT, coached));
+            assertEquals(alone, roundTrip(EntityCodecs.CLIENT, alone));
+        }
+
+        @Test
+        @DisplayName("Should round trip exercise")
+        void testExercise() throws IOException {
+            Exercise exercise = Exercise.createExercise("Push-ups", 10, 3);
+            assertEquals(exercise, roundTrip(EntityCodecs.EXERCISE, exercise));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package persistence;
+
+import model.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import repositories.GenericRepository;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@DisplayName("MappedSnapshot Tests")
+public class MappedSnapshotTest {
+
+    private static List<Coach> coaches(int count) {
+        List<Coach> coaches = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            coaches.add(new Coach("Coach", "Number", "coach" + i + "@university.edu", i % 50));
+        }
+        return coaches;
+    }
+
+    @Nested
+    @DisplayName("Write And Open Tests")
+    class WriteAndOpenTests {
+
+        @TempDir
+        Path directory;
+
+        @Test
+        @DisplayName("Should find every written item by identity")
+        void testFindByIdentity() throws IOException {
+            Path file = directory.resolve("coaches.snapshot");
+            List<Coach> coaches = coaches(1000);
+            assertEquals(1000, MappedSnapshot.write(file, 7, coaches, Coach::getEmail, EntityCodecs.COACH));
+
+            try (MappedSnapshot<Coach> snapshot = MappedSnapshot.open(file, EntityCodecs.COACH)) {
+                assertEquals(1000, snapshot.size());
+                assertEquals(7, snapshot.getWalGeneration());
+                for (Coach coach : coaches) {
+                    assertEquals(coach, snapshot.findByIdentity(coach.getEmail()));
+                }
+                assertNull(snapshot.findByIdentity("missing@university.edu"));
+                assertNull(snapshot.findByIdentity(""));
+                assertFalse(snapshot.contains(null));
+                assertTrue(snapshot.contains("coach5@university.edu"));
+            }
+        }
+
+        @Test
+        @DisplayName("Should decode each entry once and reuse it")
+        void testLazyDecodeCaches() throws IOException {
+            Path file = directory.resolve("coaches.snapshot");
+            MappedSnapshot.write(file, 0, coaches(10), Coach::getEmail, EntityCodecs.COACH);
+
+            try (MappedSnapshot<Coach> snapshot = MappedSnapshot.open(file, EntityCodecs.COACH)) {
+                assertSame(snapshot.findByIdentity("coach3@university.edu"), snapshot.findByIdentity("coach3@university.edu"));
+            }
+        }
+
+        @Test
+        @DisplayName("Should iterate entries and load into repository")
+        void testForEachAndLoadInto() throws IOException {
+            Path file = directory.resolve("coaches.snapshot");
+            MappedSnapshot.write(file, 0, coaches(25), Coach::getEmail, EntityCodecs.COACH);
+
+            try (MappedSnapshot<Coach> snapshot = MappedSnapshot.open(file, EntityCodecs.COACH)) {
+                Map<String, Coach> visited = new HashMap<>();
+                snapshot.forEach(visited::put);
+                assertEquals(25, visited.size());
+                assertEquals("coach0@university.edu", visited.get("coach0@university.edu").getEmail());
+
+                GenericRepository<Coach> repository = new GenericRepository<>(Coach::getEmail);
+                snapshot.loadInto(repository);
+                assertEquals(25, repository.size());
+            }
+        }
+
+        @Test
+        @DisplayName("Should handle empty snapshot")
+        void testEmptySnapshot() throws IOException {
+            Path file = directory.resolve("empty.snapshot");
+            MappedSnapshot.write(file, 0, List.<Coach>of(), Coach::getEmail, EntityCodecs.COACH);
+
+            try (MappedSnapshot<Coach> snapshot = MappedSnapshot.open(file, EntityCodecs.COACH)) {
+                assertEquals(0, snapshot.size());
+                assertNull(snapshot.findByIdentity("coach0@university.edu"));
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject files that are not snapshots")
+        void testRejectForeignFile() throws IOException {
+            Path file = directory.resolve("foreign.snapshot");
+            Files.write(file, new byte[128]);
+
+            assertThrows(IOException.class, () -> MappedSnapshot.open(file, EntityCodecs.COACH));
+        }
+
+        @Test
+        @DisplayName("Should reject truncated snapshots")
+        void testRejectTruncated() throws IOException {
+            Path file = directory.resolve("coaches.snapshot");
+            MappedSnapshot.write(file, 0, coaches(10), Coach::getEmail, EntityCodecs.COACH);
+            byte[] bytes = Files.readAllBytes(file);
+            Files.write(file, java.util.Arrays.copyOf(bytes, bytes.length - 1));
+
+            assertThrows(IOException.class, () -> MappedSnapshot.open(file, EntityCodecs.COACH));
+        }
+    }
+}
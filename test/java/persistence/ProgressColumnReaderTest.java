@@ -0,0 +1,209 @@
+package persistence;
+
+import model.Client;
+import model.Level;
+import model.Progress;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@DisplayName("ProgressColumnReader Tests")
+public class ProgressColumnReaderTest {
+
+    private static final long START = 1_700_000_000_000L;
+    private static final long DAY = 86_400_000L;
+
+    private static List<Client> clients(int count) {
+        List<Client> clients = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            clients.add(new Client("Client", "Number", "client" + i + "@university.edu", Level.BEGINNER, null));
+        }
+        return clients;
+    }
+
+    private static List<Progress> progress(List<Client> clients, int perClient) {
+        List<Progress> progress = new ArrayList<>();
+        for (int c = 0; c < clients.size(); c++) {
+            for (int day = 0; day < perClient; day++) {
+                double weight = (900 - c % 20 * 10 - day) / 10.0;
+                double bmi = Math.round(weight / 3.2 * 100) / 100.0;
+                progress.add(new Progress(new Date(START + day * DAY), weight, bmi, clients.get(c)));
+            }
+        }
+        return progress;
+    }
+
+    @Nested
+    @DisplayName("Round Trip Tests")
+    class RoundTripTests {
+
+        @TempDir
+        Path directory;
+
+        @Test
+        @DisplayName("Should read back every measurement with its client")
+        void testReadAll() throws IOException {
+            Path file = directory.resolve("progress.columns");
+            List<Client> clients = clients(30);
+            List<Progress> progress = progress(clients, 100);
+            assertEquals(3000, ProgressColumnWriter.write(file, progress));
+            assertFalse(Files.exists(directory.resolve("progress.columns.tmp")));
+
+            Map<String, Client> byEmail = new HashMap<>();
+            clients.forEach(client -> byEmail.put(client.getEmail(), client));
+            try (ProgressColumnReader reader = ProgressColumnReader.open(file)) {
+                assertEquals(3000, reader.size());
+                assertEquals(30, reader.getClientIds().size());
+                assertEquals(progress, reader.readAll(byEmail::get));
+            }
+        }
+
+        @Test
+        @DisplayName("Should split rows into blocks and keep rows without a client")
+        void testBlocksAndMissingClients() throws IOException {
+            Path file = directory.resolve("progress.columns");
+            try (ProgressColumnWriter writer = new ProgressColumnWriter(file, Client::getEmail, 7)) {
+                for (int i = 0; i < 50; i++) {
+                    writer.write(START + i * DAY, 70 + i, 20 + i / 10.0, i % 3 == 0 ? null : "client" + i % 4);
+                }
+            }
+
+            try (ProgressColumnReader reader = ProgressColumnReader.open(file)) {
+                assertEquals(8, reader.getBlockCount());
+                List<String> seen = new ArrayList<>();
+                long[] firstMillis = new long[1];
+                reader.forEachBlock(EnumSet.allOf(ProgressColumn.class), block -> {
+                    for (int row = 0; row < block.size(); row++) {
+                        int i = seen.size();
+                        if (i == 0) firstMillis[0] = block.getEpochMillis(row);
+                        assertEquals(START + i * DAY, block.getEpochMillis(row));
+                        assertEquals(70 + i, block.getWeight(row));
+                        assertEquals(20 + i / 10.0, block.getBmi(row));
+                        seen.add(block.getClientId(row));
+                    }
+                });
+                assertEquals(50, seen.size());
+                assertEquals(START, firstMillis[0]);
+                assertNull(seen.get(0));
+                assertEquals("client1", seen.get(1));
+                assertEquals(-1, reader.getClientIds().indexOf(null));
+            }
+        }
+
+        @Test
+        @DisplayName("Should read an empty file")
+        void testEmpty() throws IOException {
+            Path file = directory.resolve("progress.columns");
+            assertEquals(0, ProgressColumnWriter.write(file, List.of()));
+
+            try (ProgressColumnReader reader = ProgressColumnReader.open(file)) {
+                assertEquals(0, reader.size());
+                assertEquals(0, reader.getBlockCount());
+                assertTrue(reader.readAll(id -> null).isEmpty());
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject progress without a date")
+        void testRejectsMissingDate() throws IOException {
+            Path file = directory.resolve("progress.columns");
+            try (ProgressColumnWriter writer = new ProgressColumnWriter(file)) {
+                assertThrows(IllegalArgumentException.class, () -> writer.write(new Progress()));
+                assertThrows(IllegalArgumentException.class, () -> writer.write(null));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Projection Tests")
+    class ProjectionTests {
+
+        @TempDir
+        Path directory;
+
+        @Test
+        @DisplayName("Should read only the chunks of projected columns")
+        void testProjectionReadsFewerBytes() throws IOException {
+            Path file = directory.resolve("progress.columns");
+            List<Progress> progress = progress(clients(50), 300);
+            ProgressColumnWriter.write(file, progress);
+            long fileSize = Files.size(file);
+            assertTrue(fileSize < progress.size() * 28L / 2, "file is " + fileSize + " bytes");
+
+            try (ProgressColumnReader reader = ProgressColumnReader.open(file)) {
+                long opened = reader.getBytesRead();
+                double[] sum = new double[1];
+                reader.forEachBlock(EnumSet.of(ProgressColumn.WEIGHT), block -> {
+                    for (int row = 0; row < block.size(); row++) {
+                        sum[0] += block.getWeight(row);
+                    }
+                });
+                long projected = reader.getBytesRead() - opened;
+
+                double expected = progress.stream().mapToDouble(Progress::getWeight).sum();
+                assertEquals(expected, sum[0], 1e-6);
+                assertTrue(projected < fileSize / 2, "read " + projected + " of " + fileSize + " bytes");
+            }
+        }
+
+        @Test
+        @DisplayName("Should refuse access to columns that were not projected")
+        void testUnprojectedColumn() throws IOException {
+            Path file = directory.resolve("progress.columns");
+            ProgressColumnWriter.write(file, progress(clients(2), 5));
+
+            try (ProgressColumnReader reader = ProgressColumnReader.open(file)) {
+                reader.forEachBlock(EnumSet.of(ProgressColumn.BMI), block -> {
+                    assertTrue(block.hasColumn(ProgressColumn.BMI));
+                    assertThrows(IllegalStateException.class, () -> block.getWeight(0));
+                    assertThrows(IndexOutOfBoundsException.class, () -> block.getBmi(block.size()));
+                });
+                assertThrows(IllegalArgumentException.class,
+                        () -> reader.forEachBlock(EnumSet.noneOf(ProgressColumn.class), block -> {}));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Corruption Tests")
+    class CorruptionTests {
+
+        @TempDir
+        Path directory;
+
+        @Test
+        @DisplayName("Should reject files that are not progress column files")
+        void testWrongMagic() throws IOException {
+            Path file = directory.resolve("other.bin");
+            Files.write(file, new byte[64]);
+            assertThrows(IOException.class, () -> ProgressColumnReader.open(file));
+
+            Path truncated = directory.resolve("truncated.bin");
+            Files.write(truncated, new byte[3]);
+            assertThrows(IOException.class, () -> ProgressColumnReader.open(truncated));
+        }
+
+        @Test
+        @DisplayName("Should reject a file whose footer was cut off")
+        void testTruncatedFooter() throws IOException {
+            Path file = directory.resolve("progress.columns");
+            ProgressColumnWriter.write(file, progress(clients(3), 10));
+            byte[] bytes = Files.readAllBytes(file);
+            Path cut = directory.resolve("cut.columns");
+            Files.write(cut, java.util.Arrays.copyOf(bytes, bytes.length - 20));
+            assertThrows(IOException.class, () -> ProgressColumnReader.open(cut));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("WriteAheadLog Tests")
+public class WriteAheadLogTest {
+
+    private static List<String> readAll(Path segment) throws IOException {
+        List<String> payloads = new ArrayList<>();
+        WriteAheadLog.replay(segment, (type, payload) -> payloads.add(type + ":" + payload.readUTF()));
+        return payloads;
+    }
+
+    private static byte[] utf(String value) {
+        byte[] raw = value.getBytes(StandardCharsets.UTF_8);
+        byte[] encoded = new byte[raw.length + 2];
+        encoded[0] = (byte) (raw.length >>> 8);
+        encoded[1] = (byte) raw.length;
+        System.arraycopy(raw, 0, encoded, 2, raw.length);
+        return encoded;
+    }
+
+    @Nested
+    @DisplayName("Append And Replay Tests")
+    class AppendAndReplayTests {
+
+        @TempDir
+        Path directory;
+
+        @Test
+        @DisplayName("Should replay appended records in order")
+        void testAppendAndReplay() throws IOException {
+            try (WriteAheadLog wal = new WriteAheadLog(directory, 0, true)) {
+                wal.append(WriteAheadLog.ADD, utf("a"));
+                wal.append(WriteAheadLog.DELETE, utf("b"));
+                long sequence = wal.append(WriteAheadLog.ADD, utf("c"));
+                wal.awaitDurable(sequence);
+                assertEquals(3, sequence);
+            }
+
+            List<WriteAheadLog.SegmentFile> segments = WriteAheadLog.listSegments(directory);
+            assertEquals(1, segments.size());
+            assertEquals(List.of("1:a", "2:b", "1:c"), readAll(segments.get(0).path()));
+        }
+
+        @Test
+        @DisplayName("Should commit appends from concurrent writers")
+        void testGroupCommit() throws Exception {
+            int threads = 8;
+            int perThread = 200;
+            try (WriteAheadLog wal = new WriteAheadLog(directory, 0, false)) {
+                ExecutorService executor = Executors.newFixedThreadPool(threads);
+                for (int t = 0; t < threads; t++) {
+                    int thread = t;
+                    executor.execute(() -> {
+                        for (int i = 0; i < perThread; i++) {
+                            wal.awaitDurable(wal.append(WriteAheadLog.ADD, utf(thread + "-" + i)));
+                        }
+                    });
+                }
+                executor.shutdown();
+                assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+            }
+
+            assertEquals(threads * perThread, readAll(WriteAheadLog.listSegments(directory).get(0).path()).size());
+        }
+
+        @Test
+        @DisplayName("Should stop at and truncate a torn tail")
+        void testTornTail() throws IOException {
+            try (WriteAheadLog wal = new WriteAheadLog(directory, 0, true)) {
+                wal.append(WriteAheadLog.ADD, utf("a"));
+                wal.awaitDurable(wal.append(WriteAheadLog.ADD, utf("b")));
+            }
+            Path segment = WriteAheadLog.listSegments(directory).get(0).path();
+            long intact = Files.size(segment);
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                channel.truncate(intact - 2);
+            }
+
+            assertEquals(List.of("1:a"), readAll(segment));
+            assertTrue(Files.size(segment) < intact - 2);
+        }
+
+        @Test
+        @DisplayName("Should rotate to new segment and delete older ones")
+        void testRotate() throws IOException {
+            try (WriteAheadLog wal = new WriteAheadLog(directory, 4, true)) {
+                wal.append(WriteAheadLog.ADD, utf("a"));
+                assertEquals(5, wal.rotate());
+                wal.awaitDurable(wal.append(WriteAheadLog.ADD, utf("b")));
+
+                assertEquals(2, WriteAheadLog.listSegments(directory).size());
+                wal.deleteSegmentsBefore(5);
+            }
+
+            List<WriteAheadLog.SegmentFile> segments = WriteAheadLog.listSegments(directory);
+            assertEquals(1, segments.size());
+            assertEquals(5, segments.get(0).generation());
+            assertEquals(List.of("1:b"), readAll(segments.get(0).path()));
+        }
+
+        @Test
+        @DisplayName("Should reject appends after close")
+        void testAppendAfterClose() throws IOException {
+            WriteAheadLog wal = new WriteAheadLog(directory, 0, false);
+            wal.close();
+
+            assertThrows(IllegalStateException.class, () -> wal.append(WriteAheadLog.ADD, utf("a")));
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package repositories;
+
+import model.Client;
+import model.Coach;
+import model.Level;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CoachRosterIndex Tests")
+public class CoachRosterIndexTest {
+    private Coach jane;
+    private Coach alice;
+    private Client john;
+    private Client bob;
+    private CoachRosterIndex index;
+
+    @BeforeEach
+    void setUp() {
+        jane = new Coach("Jane", "Smith", "jane.smith@university.edu", 5);
+        alice = new Coach("Alice", "Brown", "alice.brown@university.edu", 3);
+        john = new Client("John", "Doe", "john.doe@university.edu", Level.BEGINNER, jane);
+        bob = new Client("Bob", "Johnson", "bob.johnson@university.edu", Level.ADVANCED, jane);
+        index = new CoachRosterIndex("roster");
+    }
+
+    @Nested
+    @DisplayName("Maintenance Tests")
+    class MaintenanceTests {
+
+        @Test
+        @DisplayName("Should group added clients by coach")
+        void testOnAdd() {
+            index.onAdd(john.getEmail(), john);
+            index.onAdd(bob.getEmail(), bob);
+
+            assertEquals(Set.of("john.doe@university.edu", "bob.johnson@university.edu"), index.identitiesFor(jane));
+            assertEquals(2, index.rosterSize("jane.smith@university.edu"));
+            assertEquals(0, index.rosterSize(alice));
+            assertEquals("jane.smith@university.edu", index.coachOf("john.doe@university.edu"));
+        }
+
+        @Test
+        @DisplayName("Should drop coach when the last client is removed")
+        void testOnRemove() {
+            index.onAdd(john.getEmail(), john);
+            index.onRemove(john.getEmail(), john);
+
+            assertTrue(index.identitiesFor(jane).isEmpty());
+            assertTrue(index.coaches().isEmpty());
+            assertNull(index.coachOf("john.doe@university.edu"));
+        }
+
+        @Test
+        @DisplayName("Should not index clients without a coach")
+        void testUnassigned() {
+            Client loner = new Client("Ann", "Lee", "ann.lee@university.edu", Level.BEGINNER, null);
+            index.onAdd(loner.getEmail(), loner);
+
+            assertTrue(index.coaches().isEmpty());
+            assertNull(index.coachOf("ann.lee@university.edu"));
+            assertTrue(index.identitiesFor(null).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should reject invalid construction")
+        void testInvalidConstruction() {
+            assertThrows(IllegalArgumentException.class, () -> new CoachRosterIndex(" "));
+            assertThrows(IllegalArgumentException.class, () -> new CoachRosterIndex("roster", null, Coach::getEmail));
+        }
+    }
+
+    @Nested
+    @DisplayName("Reassignment Tests")
+    class ReassignmentTests {
+
+        @Test
+        @DisplayName("Should move client when its coach changes")
+        void testSetCoach() {
+            index.onAdd(john.getEmail(), john);
+            index.onAdd(bob.getEmail(), bob);
+
+            john.setCoach(alice);
+
+            assertEquals(Set.of("bob.johnson@university.edu"), index.identitiesFor(jane));
+            assertEquals(Set.of("john.doe@university.edu"), index.identitiesFor(alice));
+        }
+
+        @Test
+        @DisplayName("Should track clients losing and regaining a coach")
+        void testUnassignAndReassign() {
+            index.onAdd(john.getEmail(), john);
+
+            john.setCoach(null);
+            assertTrue(index.coaches().isEmpty());
+
+            john.setCoach(alice);
+            assertEquals(1, index.rosterSize(alice));
+        }
+
+        @Test
+        @DisplayName("Should remove client from the roster it was indexed under")
+        void testRemoveAfterReassignment() {
+            index.onAdd(john.getEmail(), john);
+            john.setCoach(alice);
+            index.onRemove(john.getEmail(), john);
+
+            assertTrue(index.coaches().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should stop following removed clients")
+        void testNoTrackingAfterRemoval() {
+            index.onAdd(john.getEmail(), john);
+            index.onRemove(john.getEmail(), john);
+
+            john.setCoach(alice);
+
+            assertEquals(0, index.rosterSize(alice));
+            assertNull(index.coachOf("john.doe@university.edu"));
+        }
+
+        @Test
+        @DisplayName("Should stop listening to every client when cleared")
+        void testClearDetaches() {
+            AtomicInteger callbacks = new AtomicInteger();
+            CoachRosterIndex counting = new CoachRosterIndex("counting") {
+                @Override
+                public void coachChanged(Client client, Coach previous, Coach current) {
+                    callbacks.incrementAndGet();
+                    super.coachChanged(client, previous, current);
+                }
+            };
+            counting.onAdd(john.getEmail(), john);
+            counting.onAdd(bob.getEmail(), bob);
+            john.setCoach(alice);
+            assertEquals(1, callbacks.get());
+
+            counting.clear();
+            john.setCoach(jane);
+            bob.setCoach(alice);
+
+            assertEquals(1, callbacks.get());
+            assertTrue(counting.coaches().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should keep several indexes over one client in step")
+        void testTwoIndexes() {
+            CoachRosterIndex other = new CoachRosterIndex("other");
+            index.onAdd(john.getEmail(), john);
+            other.onAdd(john.getEmail(), john);
+
+            john.setCoach(alice);
+
+            assertEquals(1, index.rosterSize(alice));
+            assertEquals(1, other.rosterSize(alice));
+        }
+    }
+
+    @Nested
+    @DisplayName("Repository Integration Tests")
+    class RepositoryIntegrationTests {
+        private GenericRepository<Client> clients;
+
+        @BeforeEach
+        void setUp() {
+            clients = new GenericRepository<>(Client::getEmail);
+            clients.add(john);
+            clients.add(bob);
+            clients.addIndex(index);
+        }
+
+        @Test
+        @DisplayName("Should index existing items and answer roster queries")
+        void testFindByIndex() {
+            assertEquals(Set.of(john, bob), new HashSet<>(clients.findByIndex("roster", jane)));
+            assertEquals(2, clients.countByIndex("roster", "jane.smith@university.edu"));
+        }
+
+        @Test
+        @DisplayName("Should follow reassignment and deletion")
+        void testReassignAndDelete() {
+            bob.setCoach(alice);
+            assertEquals(List.of(bob), clients.findByIndex("roster", alice));
+
+            clients.delete(bob.getEmail());
+            assertEquals(0, clients.countByIndex("roster", alice));
+            assertEquals(List.of(john), clients.findByIndex("roster", jane));
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency Tests")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("Should match every client's final coach after concurrent reassignments")
+        void testConcurrentReassignment() throws InterruptedException {
+            Coach[] coaches = new Coach[8];
+            for (int i = 0; i < coaches.length; i++) {
+                coaches[i] = new Coach("Coach", "Number", "coach" + i + "@university.edu", i);
+            }
+            Client[] roster = new Client[200];
+            for (int i = 0; i < roster.length; i++) {
+                roster[i] = new Client("Client", "Number", "client" + i + "@university.edu", Level.BEGINNER, coaches[0]);
+                index.onAdd(roster[i].getEmail(), roster[i]);
+            }
+
+            int threads = 4;
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                Thread worker = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 20_000; i++) {
+                        Client client = roster[random.nextInt(roster.length)];
+                        int choice = random.nextInt(coaches.length + 1);
+                        client.setCoach(choice == coaches.length ? null : coaches[choice]);
+                    }
+                });
+                workers.add(worker);
+                worker.start();
+            }
+            start.countDown();
+            for (Thread worker : workers) {
+                worker.join();
+            }
+
+            Map<String, Set<String>> expected = new HashMap<>();
+            for (Client client : roster) {
+                if (client.getCoach() != null) {
+                    expected.computeIfAbsent(client.getCoach().getEmail(), k -> new HashSet<>()).add(client.getEmail());
+                }
+            }
+            assertEquals(expected.keySet(), index.coaches());
+            for (Coach coach : coaches) {
+                assertEquals(expected.getOrDefault(coach.getEmail(), Set.of()), index.identitiesFor(coach));
+            }
+        }
+    }
+}
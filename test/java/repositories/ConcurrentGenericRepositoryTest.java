@@ -0,0 +1,164 @@
+package repositories;
+
+import model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("ConcurrentGenericRepository Tests")
+public class ConcurrentGenericRepositoryTest {
+
+    @Nested
+    @DisplayName("Basic Operation Tests")
+    class BasicOperationTests {
+        private GenericRepository<User> userRepository;
+
+        @BeforeEach
+        void setUp() {
+            userRepository = new ConcurrentGenericRepository<>(User::getEmail);
+        }
+
+        @Test
+        @DisplayName("Should add and find user")
+        void testAddAndFind() {
+            User user = new User("John", "Doe", "john.doe@university.edu");
+            userRepository.add(user);
+
+            assertEquals(user, userRepository.findByIdentity("john.doe@university.edu"));
+            assertEquals(1, userRepository.getAll().size());
+        }
+
+        @Test
+        @DisplayName("Should keep first user on duplicate email")
+        void testAddDuplicate() {
+            User user1 = new User("John", "Doe", "john.doe@university.edu");
+            User user2 = new User("Jane", "Smith", "john.doe@university.edu");
+
+            userRepository.add(user1);
+            userRepository.add(user2);
+
+            List<User> allUsers = userRepository.getAll();
+            assertEquals(1, allUsers.size());
+            assertSame(user1, allUsers.get(0));
+        }
+
+        @Test
+        @DisplayName("Should delete user")
+        void testDelete() {
+            userRepository.add(new User("John", "Doe", "john.doe@university.edu"));
+
+            assertTrue(userRepository.delete("john.doe@university.edu"));
+            assertFalse(userRepository.delete("john.doe@university.edu"));
+            assertNull(userRepository.findByIdentity("john.doe@university.edu"));
+        }
+
+        @Test
+        @DisplayName("Should handle null and empty identities")
+        void testNullAndEmptyIdentities() {
+            userRepository.add(null);
+
+            assertNull(userRepository.findByIdentity(null));
+            assertNull(userRepository.findByIdentity(""));
+            assertFalse(userRepository.delete(null));
+            assertTrue(userRepository.getAll().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency Tests")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("Should accept exactly one of many concurrent duplicate adds")
+        void testConcurrentDuplicateAdds() throws InterruptedException {
+            GenericRepository<Exercise> repository = new ConcurrentGenericRepository<>(Exercise::name);
+            int threads = 16;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicInteger reps = new AtomicInteger(1);
+
+            for (int i = 0; i < threads; i++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                        repository.add(Exercise.createExercise("Push-ups", reps.getAndIncrement(), 3));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+            assertEquals(1, repository.getAll().size());
+            assertNotNull(repository.findByIdentity("Push-ups"));
+        }
+
+        @Test
+        @DisplayName("Should keep all distinct items added from many threads")
+        void testConcurrentDistinctAdds() throws InterruptedException {
+            GenericRepository<User> repository = new ConcurrentGenericRepository<>(User::getEmail, 1024);
+            int threads = 8;
+            int perThread = 250;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                executor.execute(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        repository.add(new User("John", "Doe", "user" + thread + "x" + i + "@university.edu"));
+                    }
+                });
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+            assertEquals(threads * perThread, repository.getAll().size());
+            assertNotNull(repository.findByIdentity("user3x100@university.edu"));
+        }
+
+        @Test
+        @DisplayName("Should keep indexes matching the items under concurrent adds, deletes and registration")
+        void testConcurrentIndexMaintenance() throws InterruptedException {
+            GenericRepository<Client> repository = new ConcurrentGenericRepository<>(Client::getEmail);
+            Level[] levels = Level.values();
+            int threads = 4;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch started = new CountDownLatch(threads);
+
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                executor.execute(() -> {
+                    started.countDown();
+                    for (int i = 0; i < 2000; i++) {
+                        String email = "client" + (i % 300) + "@university.edu";
+                        if ((i + thread) % 3 == 0) {
+                            repository.delete(email);
+                        } else {
+                            repository.add(new Client("John", "Doe", email, levels[(i + thread) % levels.length], null));
+                        }
+                    }
+                });
+            }
+            started.await();
+            repository.addIndex(new HashIndex<>("level", Client::getLevel));
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+            for (Level level : levels) {
+                long expected = repository.count(client -> client.getLevel() == level);
+                assertEquals(expected, repository.countByIndex("level", level), level.name());
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package repositories;
 
+import metrics.RepositoryMetrics;
 import model.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -7,7 +8,13 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @DisplayName("GenericRepository Tests")
 public class GenericRepositoryTest {
@@ -231,6 +238,388 @@ public class GenericRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("Batch Operation Tests")
+    class BatchOperationTests {
+        private GenericRepository<User> userRepository;
+
+        @BeforeEach
+        void setUp() {
+            userRepository = new GenericRepository<>(User::getEmail);
+        }
+
+        @Test
+        @DisplayName("Should add batch and count duplicates and rejected items")
+        void testAddAll() {
+            User user1 = new User("John", "Doe", "john.doe@university.edu");
+            User user2 = new User("Jane", "Smith", "jane.smith@university.edu");
+            User duplicate = new User("Johnny", "Doe", "john.doe@university.edu");
+            User noEmail = new User("Bob", "Johnson", "invalid-email");
+
+            BatchResult result = userRepository.addAll(Arrays.asList(user1, user2, duplicate, noEmail, null));
+
+            assertEquals(2, result.succeeded());
+            assertEquals(1, result.skipped());
+            assertEquals(2, result.rejected());
+            assertEquals(Arrays.asList(null, null), result.rejectedIdentities());
+            assertEquals(2, userRepository.getAll().size());
+            assertSame(user1, userRepository.findByIdentity("john.doe@university.edu"));
+        }
+
+        @Test
+        @DisplayName("Should keep existing items when batch adds into non-empty repository")
+        void testAddAllIntoExistingRepository() {
+            userRepository.add(new User("John", "Doe", "john.doe@university.edu"));
+            List<User> batch = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                batch.add(new User("John", "Doe", "user" + i + "@university.edu"));
+            }
+
+            BatchResult result = userRepository.addAll(batch);
+
+            assertEquals(1000, result.succeeded());
+            assertEquals(1001, userRepository.getAll().size());
+            assertNotNull(userRepository.findByIdentity("john.doe@university.edu"));
+            assertNotNull(userRepository.findByIdentity("user999@university.edu"));
+        }
+
+        @Test
+        @DisplayName("Should keep items and indexes when a presized repository grows past its hint")
+        void testAddAllPastExpectedSize() {
+            GenericRepository<User> presized = new GenericRepository<>(User::getEmail, 10);
+            presized.addIndex(new HashIndex<>("firstName", User::getFirstName));
+            presized.add(new User("Jane", "Smith", "jane.smith@university.edu"));
+            List<User> batch = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                batch.add(new User("John", "Doe", "user" + i + "@university.edu"));
+            }
+
+            assertEquals(500, presized.addAll(batch).succeeded());
+            assertEquals(501, presized.size());
+            assertEquals(500, presized.countByIndex("firstName", "John"));
+            assertNotNull(presized.findByIdentity("jane.smith@university.edu"));
+            assertTrue(presized.delete("user499@university.edu"));
+            assertEquals(499, presized.countByIndex("firstName", "John"));
+        }
+
+        @Test
+        @DisplayName("Should return empty result for null or empty batch")
+        void testAddAllEmpty() {
+            assertEquals(BatchResult.EMPTY, userRepository.addAll(null));
+            assertEquals(BatchResult.EMPTY, userRepository.addAll(List.of()));
+        }
+
+        @Test
+        @DisplayName("Should delete batch and count missing and rejected identities")
+        void testDeleteAll() {
+            userRepository.add(new User("John", "Doe", "john.doe@university.edu"));
+            userRepository.add(new User("Jane", "Smith", "jane.smith@university.edu"));
+
+            BatchResult result = userRepository.deleteAll(
+                    Arrays.asList("john.doe@university.edu", "missing@university.edu", " ", null));
+
+            assertEquals(1, result.succeeded());
+            assertEquals(1, result.skipped());
+            assertEquals(Arrays.asList(" ", null), result.rejectedIdentities());
+            assertEquals(1, userRepository.getAll().size());
+        }
+
+        @Test
+        @DisplayName("Should find all existing items by identities")
+        void testFindAll() {
+            User user1 = new User("John", "Doe", "john.doe@university.edu");
+            User user2 = new User("Jane", "Smith", "jane.smith@university.edu");
+            userRepository.addAll(List.of(user1, user2));
+
+            Map<String, User> found = userRepository.findAll(
+                    Arrays.asList("jane.smith@university.edu", "missing@university.edu", "", "john.doe@university.edu"));
+
+            assertEquals(2, found.size());
+            assertEquals(List.of("jane.smith@university.edu", "john.doe@university.edu"), new ArrayList<>(found.keySet()));
+            assertSame(user2, found.get("jane.smith@university.edu"));
+        }
+
+        @Test
+        @DisplayName("Should return empty map for null identities")
+        void testFindAllNull() {
+            assertTrue(userRepository.findAll(null).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Query Tests")
+    class QueryTests {
+        private GenericRepository<Coach> coachRepository;
+        private Coach junior;
+        private Coach senior;
+        private Coach veteran;
+
+        @BeforeEach
+        void setUp() {
+            coachRepository = new GenericRepository<>(Coach::getEmail);
+            junior = new Coach("Alice", "Williams", "alice.williams@university.edu", 2);
+            senior = new Coach("Charlie", "Brown", "charlie.brown@university.edu", 10);
+            veteran = new Coach("Dana", "White", "dana.white@university.edu", 25);
+            coachRepository.addAll(List.of(junior, senior, veteran));
+        }
+
+        @Test
+        @DisplayName("Should stream all items")
+        void testStream() {
+            List<Coach> experienced = coachRepository.stream()
+                    .filter(coach -> coach.getExperienceYears() >= 10)
+                    .collect(Collectors.toList());
+
+            assertEquals(2, experienced.size());
+            assertTrue(experienced.containsAll(List.of(senior, veteran)));
+        }
+
+        @Test
+        @DisplayName("Should stream all items in parallel")
+        void testParallelStream() {
+            GenericRepository<User> userRepository = new ConcurrentGenericRepository<>(User::getEmail);
+            List<User> users = new ArrayList<>();
+            for (int i = 0; i < 5000; i++) {
+                users.add(new User("John", "Doe", "user" + i + "@university.edu"));
+            }
+            userRepository.addAll(users);
+
+            assertEquals(5000, userRepository.parallelStream().count());
+            assertEquals(5000, userRepository.spliterator().estimateSize());
+        }
+
+        @Test
+        @DisplayName("Should visit every item with forEach")
+        void testForEach() {
+            List<Coach> visited = new ArrayList<>();
+            coachRepository.forEach(visited::add);
+
+            assertEquals(3, visited.size());
+        }
+
+        @Test
+        @DisplayName("Should filter and count by predicate")
+        void testFilterAndCount() {
+            List<Coach> matches = coachRepository.filter(coach -> coach.getExperienceYears() < 10);
+
+            assertEquals(List.of(junior), matches);
+            assertEquals(2, coachRepository.count(coach -> coach.getExperienceYears() >= 10));
+            assertEquals(0, coachRepository.count(coach -> coach.getExperienceYears() > 40));
+            assertEquals(3, coachRepository.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Secondary Index Tests")
+    class SecondaryIndexTests {
+        private GenericRepository<Client> clientRepository;
+        private Coach alice;
+        private Coach charlie;
+
+        @BeforeEach
+        void setUp() {
+            clientRepository = new GenericRepository<>(Client::getEmail);
+            alice = new Coach("Alice", "Williams", "alice.williams@university.edu", 5);
+            charlie = new Coach("Charlie", "Brown", "charlie.brown@university.edu", 10);
+            clientRepository.add(new Client("John", "Doe", "john.doe@university.edu", Level.BEGINNER, alice));
+        }
+
+        @Test
+        @DisplayName("Should back-fill index with existing items")
+        void testAddIndexBackfill() {
+            clientRepository.addIndex(new HashIndex<>("level", Client::getLevel));
+
+            List<Client> beginners = clientRepository.findByIndex("level", Level.BEGINNER);
+            assertEquals(1, beginners.size());
+            assertEquals("john.doe@university.edu", beginners.get(0).getEmail());
+        }
+
+        @Test
+        @DisplayName("Should keep indexes in sync on add and delete")
+        void testIndexMaintenance() {
+            clientRepository
+                    .addIndex(new HashIndex<>("level", Client::getLevel))
+                    .addIndex(new HashIndex<>("coach", client -> client.getCoach().getEmail()));
+
+            clientRepository.add(new Client("Jane", "Smith", "jane.smith@university.edu", Level.ADVANCED, alice));
+            clientRepository.addAll(List.of(
+                    new Client("Bob", "Johnson", "bob.johnson@university.edu", Level.ADVANCED, charlie)));
+
+            assertEquals(2, clientRepository.countByIndex("level", Level.ADVANCED));
+            assertEquals(2, clientRepository.countByIndex("coach", "alice.williams@university.edu"));
+
+            clientRepository.delete("jane.smith@university.edu");
+            clientRepository.deleteAll(List.of("bob.johnson@university.edu"));
+
+            assertEquals(0, clientRepository.countByIndex("level", Level.ADVANCED));
+            assertEquals(1, clientRepository.countByIndex("coach", "alice.williams@university.edu"));
+            assertTrue(clientRepository.findByIndex("coach", "charlie.brown@university.edu").isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should drop the indexed key when a changed item is deleted")
+        void testDeleteAfterMutation() {
+            clientRepository
+                    .addIndex(new HashIndex<>("level", Client::getLevel))
+                    .addIndex(new RangeIndex<>("coachExperience", client -> client.getCoach().getExperienceYears()));
+            Client john = clientRepository.findByIdentity("john.doe@university.edu");
+            john.setLevel(Level.ADVANCED);
+            alice.setExperienceYears(8);
+
+            clientRepository.delete("john.doe@university.edu");
+
+            assertEquals(0, clientRepository.countByIndex("level", Level.BEGINNER));
+            assertEquals(0, clientRepository.countByIndex("level", Level.ADVANCED));
+            assertTrue(clientRepository.findInRange("coachExperience", 0, 100).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should not index rejected duplicates")
+        void testDuplicateNotIndexed() {
+            clientRepository.addIndex(new HashIndex<>("level", Client::getLevel));
+            clientRepository.add(new Client("Johnny", "Doe", "john.doe@university.edu", Level.ADVANCED, charlie));
+
+            assertEquals(0, clientRepository.countByIndex("level", Level.ADVANCED));
+        }
+
+        @Test
+        @DisplayName("Should reject duplicate and unknown index names")
+        void testIndexNameErrors() {
+            clientRepository.addIndex(new HashIndex<>("level", Client::getLevel));
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> clientRepository.addIndex(new HashIndex<>("level", Client::getLevel)));
+            assertThrows(IllegalArgumentException.class, () -> clientRepository.addIndex(null));
+            assertThrows(IllegalArgumentException.class, () -> clientRepository.findByIndex("missing", Level.BEGINNER));
+        }
+    }
+
+    @Nested
+    @DisplayName("Range Index Tests")
+    class RangeIndexTests {
+
+        @Test
+        @DisplayName("Should find workouts by duration range")
+        void testFindInRange() {
+            GenericRepository<Workout> workoutRepository = new GenericRepository<>(Workout::title);
+            workoutRepository.addIndex(new RangeIndex<>("duration", Workout::durationMinutes));
+            workoutRepository.addAll(List.of(
+                    Workout.createWorkout("Warm Up", 15, Intensity.LOW, null),
+                    Workout.createWorkout("Cardio", 45, Intensity.MEDIUM, null),
+                    Workout.createWorkout("Strength", 60, Intensity.HIGH, null),
+                    Workout.createWorkout("Endurance", 90, Intensity.HIGH, null)));
+
+            List<Workout> medium = workoutRepository.findInRange("duration", 30, 60);
+            assertEquals(List.of("Cardio", "Strength"), medium.stream().map(Workout::title).collect(Collectors.toList()));
+            assertEquals(1, workoutRepository.findHeadOf("duration", 45).size());
+            assertEquals(2, workoutRepository.findTailOf("duration", 60).size());
+
+            workoutRepository.delete("Strength");
+            assertEquals(1, workoutRepository.findInRange("duration", 30, 60).size());
+        }
+
+        @Test
+        @DisplayName("Should find progress entries between dates in date order")
+        void testFindProgressByDate() {
+            Client client = new Client("John", "Doe", "john.doe@university.edu", Level.BEGINNER, null);
+            GenericRepository<Progress> progressRepository =
+                    new GenericRepository<>(progress -> String.valueOf(progress.getDate().getTime()));
+            progressRepository.addIndex(new RangeIndex<>("date", Progress::getDate));
+            for (int day = 5; day >= 1; day--) {
+                progressRepository.add(Progress.createProgress(new Date(day * 86_400_000L), 80 - day, 24.0, client));
+            }
+
+            List<Progress> between = progressRepository.findInRange("date", new Date(2 * 86_400_000L), new Date(4 * 86_400_000L));
+            assertEquals(3, between.size());
+            assertEquals(new Date(2 * 86_400_000L), between.get(0).getDate());
+            assertEquals(new Date(4 * 86_400_000L), between.get(2).getDate());
+
+            Iterator<Progress> cursor = progressRepository.orderedCursor("date");
+            assertEquals(new Date(86_400_000L), cursor.next().getDate());
+        }
+
+        @Test
+        @DisplayName("Should reject range queries on non-range index")
+        void testRangeOnHashIndex() {
+            GenericRepository<Coach> coachRepository = new GenericRepository<>(Coach::getEmail);
+            coachRepository.addIndex(new HashIndex<>("experience", Coach::getExperienceYears));
+
+            assertThrows(IllegalArgumentException.class, () -> coachRepository.findInRange("experience", 1, 5));
+            assertThrows(IllegalArgumentException.class, () -> coachRepository.orderedCursor("experience"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Metrics Tests")
+    class MetricsTests {
+        private GenericRepository<User> repository;
+
+        @BeforeEach
+        void setUp() {
+            repository = new GenericRepository<>(User::getEmail);
+            repository.getMetrics().setSamplingInterval(1);
+        }
+
+        @Test
+        @DisplayName("Should count adds, duplicates and invalid identities")
+        void testAddCounters() {
+            repository.add(new User("John", "Doe", "john.doe@university.edu"));
+            repository.add(new User("Johnny", "Doe", "john.doe@university.edu"));
+            repository.add(null);
+            repository.addAll(Arrays.asList(new User("Jane", "Smith", "jane.smith@university.edu"), null));
+
+            RepositoryMetrics metrics = repository.getMetrics();
+            assertEquals(2, metrics.getAddCount());
+            assertEquals(1, metrics.getDuplicateCount());
+            assertEquals(2, metrics.getInvalidIdentityCount());
+            assertEquals(3, metrics.getAddLatency().getCount());
+            assertEquals(1, metrics.getBatchLatency().getCount());
+        }
+
+        @Test
+        @DisplayName("Should count deletes, hits and misses")
+        void testLookupCounters() {
+            repository.add(new User("John", "Doe", "john.doe@university.edu"));
+            repository.findByIdentity("john.doe@university.edu");
+            repository.findByIdentity("missing@university.edu");
+            repository.findAll(List.of("john.doe@university.edu", "missing@university.edu", "missing@university.edu"));
+            repository.delete("john.doe@university.edu");
+            repository.delete("john.doe@university.edu");
+
+            RepositoryMetrics metrics = repository.getMetrics();
+            assertEquals(2, metrics.getHitCount());
+            assertEquals(3, metrics.getMissCount());
+            assertEquals(1, metrics.getDeleteCount());
+            assertEquals(2, metrics.getFindLatency().getCount());
+            assertEquals(2, metrics.getDeleteLatency().getCount());
+        }
+
+        @Test
+        @DisplayName("Should estimate memory proportional to size")
+        void testEstimatedMemory() {
+            assertEquals(0, repository.estimateMemoryBytes());
+            for (int i = 0; i < 100; i++) {
+                repository.add(new User("John", "Doe", "user" + i + "@university.edu"));
+            }
+
+            long estimate = repository.estimateMemoryBytes();
+            assertTrue(estimate >= 100 * (40 + 40 + 18), "estimate " + estimate);
+        }
+
+        @Test
+        @DisplayName("Should sample single item latency when configured")
+        void testSampling() {
+            repository.getMetrics().setSamplingInterval(Integer.MAX_VALUE);
+            for (int i = 0; i < 10; i++) {
+                repository.findByIdentity("missing@university.edu");
+            }
+
+            assertEquals(10, repository.getMetrics().getMissCount());
+            assertTrue(repository.getMetrics().getFindLatency().getCount() <= 1);
+            assertThrows(IllegalArgumentException.class, () -> repository.getMetrics().setSamplingInterval(0));
+        }
+    }
+
     @Nested
     @DisplayName("Edge Cases Tests")
     class EdgeCasesTests {
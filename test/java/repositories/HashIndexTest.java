@@ -0,0 +1,119 @@
+package repositories;
+
+import model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Set;
+
+@DisplayName("HashIndex Tests")
+public class HashIndexTest {
+
+    @Nested
+    @DisplayName("Maintenance Tests")
+    class MaintenanceTests {
+        private HashIndex<Client, Level> index;
+        private Client beginner;
+        private Client advanced;
+
+        @BeforeEach
+        void setUp() {
+            index = new HashIndex<>("level", Client::getLevel);
+            beginner = new Client("John", "Doe", "john.doe@university.edu", Level.BEGINNER, null);
+            advanced = new Client("Jane", "Smith", "jane.smith@university.edu", Level.ADVANCED, null);
+        }
+
+        @Test
+        @DisplayName("Should map key to identities of added items")
+        void testOnAdd() {
+            index.onAdd(beginner.getEmail(), beginner);
+            index.onAdd(advanced.getEmail(), advanced);
+
+            assertEquals(Set.of("john.doe@university.edu"), index.identitiesFor(Level.BEGINNER));
+            assertEquals(Set.of("jane.smith@university.edu"), index.identitiesFor(Level.ADVANCED));
+            assertTrue(index.identitiesFor(Level.INTERMEDIATE).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should drop key when its last identity is removed")
+        void testOnRemove() {
+            index.onAdd(beginner.getEmail(), beginner);
+            index.onRemove(beginner.getEmail(), beginner);
+
+            assertTrue(index.identitiesFor(Level.BEGINNER).isEmpty());
+            assertTrue(index.keys().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should ignore items with null key")
+        void testNullKey() {
+            Client noLevel = new Client("Bob", "Johnson", "bob.johnson@university.edu", null, null);
+            index.onAdd(noLevel.getEmail(), noLevel);
+
+            assertTrue(index.keys().isEmpty());
+            assertTrue(index.identitiesFor(null).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should clear all entries")
+        void testClear() {
+            index.onAdd(beginner.getEmail(), beginner);
+            index.clear();
+
+            assertTrue(index.identitiesFor(Level.BEGINNER).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should return read-only identity sets")
+        void testReadOnlyResult() {
+            index.onAdd(beginner.getEmail(), beginner);
+
+            assertThrows(UnsupportedOperationException.class,
+                    () -> index.identitiesFor(Level.BEGINNER).add("other@university.edu"));
+        }
+
+        @Test
+        @DisplayName("Should remove by the key indexed even after the item changed")
+        void testRemoveAfterMutation() {
+            index.onAdd(beginner.getEmail(), beginner);
+            beginner.setLevel(Level.ADVANCED);
+            index.onRemove(beginner.getEmail(), beginner);
+
+            assertTrue(index.identitiesFor(Level.BEGINNER).isEmpty());
+            assertTrue(index.identitiesFor(Level.ADVANCED).isEmpty());
+            assertTrue(index.keys().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should re-index an identity added twice")
+        void testReAdd() {
+            index.onAdd(beginner.getEmail(), beginner);
+            beginner.setLevel(Level.ADVANCED);
+            index.onAdd(beginner.getEmail(), beginner);
+
+            assertTrue(index.identitiesFor(Level.BEGINNER).isEmpty());
+            assertEquals(Set.of("john.doe@university.edu"), index.identitiesFor(Level.ADVANCED));
+        }
+    }
+
+    @Nested
+    @DisplayName("Constructor Tests")
+    class ConstructorTests {
+
+        @Test
+        @DisplayName("Should reject empty index name")
+        void testEmptyName() {
+            assertThrows(IllegalArgumentException.class, () -> new HashIndex<Client, Level>(" ", Client::getLevel));
+            assertThrows(IllegalArgumentException.class, () -> new HashIndex<Client, Level>(null, Client::getLevel));
+        }
+
+        @Test
+        @DisplayName("Should expose index name")
+        void testGetName() {
+            assertEquals("level", new HashIndex<Client, Level>("level", Client::getLevel).getName());
+        }
+    }
+}
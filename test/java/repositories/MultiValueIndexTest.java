@@ -0,0 +1,66 @@
+package repositories;
+
+import model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@DisplayName("MultiValueIndex Tests")
+public class MultiValueIndexTest {
+
+    @Nested
+    @DisplayName("Maintenance Tests")
+    class MaintenanceTests {
+        private MultiValueIndex<Workout, String> index;
+        private Workout upperBody;
+        private Workout fullBody;
+
+        @BeforeEach
+        void setUp() {
+            index = new MultiValueIndex<>("exercise", workout -> workout.exercises().stream()
+                    .map(Exercise::name)
+                    .collect(Collectors.toList()));
+            Exercise pushUps = Exercise.createExercise("Push-ups", 10, 3);
+            Exercise squats = Exercise.createExercise("Squats", 12, 4);
+            upperBody = Workout.createWorkout("Upper Body", 30, Intensity.MEDIUM, List.of(pushUps));
+            fullBody = Workout.createWorkout("Full Body", 60, Intensity.HIGH, List.of(pushUps, squats));
+        }
+
+        @Test
+        @DisplayName("Should index item under every key")
+        void testOnAdd() {
+            index.onAdd(upperBody.title(), upperBody);
+            index.onAdd(fullBody.title(), fullBody);
+
+            assertEquals(Set.of("Upper Body", "Full Body"), index.identitiesFor("Push-ups"));
+            assertEquals(Set.of("Full Body"), index.identitiesFor("Squats"));
+        }
+
+        @Test
+        @DisplayName("Should remove item from every key")
+        void testOnRemove() {
+            index.onAdd(upperBody.title(), upperBody);
+            index.onAdd(fullBody.title(), fullBody);
+            index.onRemove(fullBody.title(), fullBody);
+
+            assertEquals(Set.of("Upper Body"), index.identitiesFor("Push-ups"));
+            assertTrue(index.identitiesFor("Squats").isEmpty());
+            assertEquals(Set.of("Push-ups"), index.keys());
+        }
+
+        @Test
+        @DisplayName("Should handle null key collection")
+        void testNullKeys() {
+            MultiValueIndex<Workout, String> nullIndex = new MultiValueIndex<>("none", workout -> null);
+            nullIndex.onAdd(upperBody.title(), upperBody);
+
+            assertTrue(nullIndex.keys().isEmpty());
+        }
+    }
+}
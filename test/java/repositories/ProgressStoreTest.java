@@ -0,0 +1,171 @@
+package repositories;
+
+import model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+@DisplayName("ProgressStore Tests")
+public class ProgressStoreTest {
+    private static final long DAY = 86_400_000L;
+
+    private static Client client(String name) {
+        return new Client(name, "Client", name.toLowerCase() + "@university.edu", Level.BEGINNER, null);
+    }
+
+    @Nested
+    @DisplayName("Append Tests")
+    class AppendTests {
+        private ProgressStore store;
+
+        @BeforeEach
+        void setUp() {
+            store = new ProgressStore();
+        }
+
+        @Test
+        @DisplayName("Should store every column and rebuild equal Progress objects")
+        void testAddAndRead() {
+            Client anna = client("Anna");
+            Progress progress = new Progress(new Date(5 * DAY), 72.5, 23.1, anna);
+
+            assertEquals(0, store.add(progress));
+            assertEquals(1, store.append(null, 6 * DAY, 80, 25));
+
+            assertEquals(2, store.size());
+            assertEquals(5 * DAY, store.epochMillisAt(0));
+            assertEquals(72.5, store.weightAt(0));
+            assertEquals(23.1, store.bmiAt(0));
+            assertEquals(0, store.clientIdAt(0));
+            assertEquals(ProgressStore.NO_CLIENT, store.clientIdAt(1));
+            assertSame(anna, store.getClient(0));
+            assertEquals(0, store.getClientId("anna@university.edu"));
+
+            Iterator<ProgressView> iterator = store.iterator();
+            assertEquals(progress, iterator.next().toProgress());
+            assertNull(iterator.next().getClient());
+            assertFalse(iterator.hasNext());
+            assertThrows(NoSuchElementException.class, iterator::next);
+        }
+
+        @Test
+        @DisplayName("Should reject measurements without a date or with out-of-range values")
+        void testRejectsInvalid() {
+            assertEquals(-1, store.add(null));
+            assertEquals(-1, store.add(new Progress()));
+            assertEquals(-1, store.append(client("Anna"), DAY, 10, 25));
+            assertEquals(-1, store.append(client("Anna"), DAY, 80, 99));
+            assertEquals(-1, store.append(new Client(), DAY, 80, 25));
+            assertEquals(0, store.size());
+            assertEquals(0, store.getClientCount());
+            assertThrows(IndexOutOfBoundsException.class, () -> store.weightAt(0));
+        }
+
+        @Test
+        @DisplayName("Should grow across chunks without losing rows")
+        void testGrowsInChunks() {
+            Client anna = client("Anna");
+            int rows = ProgressStore.CHUNK_ROWS * 2 + 17;
+            for (int i = 0; i < rows; i++) {
+                assertEquals(i, store.append(anna, i * DAY, 30 + i % 270, 10 + i % 40));
+            }
+
+            assertEquals(rows, store.size());
+            assertEquals(rows, store.countForClient(anna));
+            int[] seen = {0};
+            store.forEach(view -> {
+                assertEquals(seen[0], view.getRow());
+                assertEquals(seen[0] * DAY, view.getEpochMillis());
+                assertEquals(30 + seen[0] % 270, view.getWeight());
+                seen[0]++;
+            });
+            assertEquals(rows, seen[0]);
+            long columns = 3L * ProgressStore.CHUNK_ROWS * 28;
+            long clientRows = Integer.highestOneBit(rows) * 2L * Integer.BYTES;
+            assertEquals(columns + clientRows, store.estimateMemoryBytes());
+        }
+
+        @Test
+        @DisplayName("Should reuse one view while iterating")
+        void testFlyweightView() {
+            store.append(client("Anna"), DAY, 70, 22);
+            store.append(client("Ben"), DAY, 71, 23);
+
+            Iterator<ProgressView> iterator = store.iterator();
+            ProgressView first = iterator.next();
+            assertSame(first, iterator.next());
+            assertEquals(1, first.getRow());
+        }
+    }
+
+    @Nested
+    @DisplayName("Range Scan Tests")
+    class RangeScanTests {
+        private ProgressStore store;
+        private Client anna;
+        private Client ben;
+
+        @BeforeEach
+        void setUp() {
+            store = new ProgressStore();
+            anna = client("Anna");
+            ben = client("Ben");
+            for (int day = 0; day < 30; day++) {
+                store.append(anna, day * DAY, 70 + day / 10.0, 22);
+                store.append(ben, day * DAY, 90 - day / 10.0, 28);
+            }
+        }
+
+        @Test
+        @DisplayName("Should visit only the client's rows within the half-open range")
+        void testScanRange() {
+            List<Long> days = new ArrayList<>();
+            int visited = store.scan(anna, 10 * DAY, 15 * DAY, view -> {
+                assertSame(anna, view.getClient());
+                days.add(view.getEpochMillis() / DAY);
+            });
+
+            assertEquals(5, visited);
+            assertEquals(List.of(10L, 11L, 12L, 13L, 14L), days);
+            assertEquals(5, store.countInRange(ben, 10 * DAY, 15 * DAY));
+            assertEquals(30, store.countInRange(ben, Long.MIN_VALUE, Long.MAX_VALUE));
+            assertEquals(0, store.countInRange(ben, 15 * DAY, 10 * DAY));
+        }
+
+        @Test
+        @DisplayName("Should keep a client's rows in time order after out-of-order appends")
+        void testOutOfOrderAppend() {
+            int late = store.append(anna, 12 * DAY + 1, 99, 30);
+            store.append(anna, -DAY, 60, 20);
+
+            List<Integer> rows = new ArrayList<>();
+            long[] previous = {Long.MIN_VALUE};
+            store.scan(anna, Long.MIN_VALUE, Long.MAX_VALUE, view -> {
+                assertTrue(view.getEpochMillis() >= previous[0]);
+                previous[0] = view.getEpochMillis();
+                rows.add(view.getRow());
+            });
+            assertEquals(32, rows.size());
+            assertEquals(late, rows.get(14));
+            assertEquals(2, store.countInRange(anna, 12 * DAY, 13 * DAY));
+        }
+
+        @Test
+        @DisplayName("Should find nothing for unknown or null clients")
+        void testUnknownClient() {
+            assertEquals(0, store.scan(client("Cara"), 0, Long.MAX_VALUE, view -> fail()));
+            assertEquals(0, store.scan(null, 0, Long.MAX_VALUE, view -> fail()));
+            assertEquals(0, store.countForClient(null));
+            assertEquals(ProgressStore.NO_CLIENT, store.getClientId(null));
+            assertThrows(IllegalArgumentException.class, () -> store.scan(anna, 0, 1, null));
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package repositories;
+
+import model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+@DisplayName("RangeIndex Tests")
+public class RangeIndexTest {
+
+    @Nested
+    @DisplayName("Range Query Tests")
+    class RangeQueryTests {
+        private RangeIndex<Coach, Integer> index;
+
+        @BeforeEach
+        void setUp() {
+            index = new RangeIndex<>("experience", Coach::getExperienceYears);
+            add(new Coach("Alice", "Williams", "alice@university.edu", 2));
+            add(new Coach("Bob", "Johnson", "bob@university.edu", 10));
+            add(new Coach("Carol", "Davis", "carol@university.edu", 10));
+            add(new Coach("Dave", "Miller", "dave@university.edu", 15));
+            add(new Coach("Erin", "Moore", "erin@university.edu", 30));
+        }
+
+        private void add(Coach coach) {
+            index.onAdd(coach.getEmail(), coach);
+        }
+
+        @Test
+        @DisplayName("Should return identities within inclusive range in key order")
+        void testRange() {
+            assertEquals(List.of("bob@university.edu", "carol@university.edu", "dave@university.edu"), index.range(10, 15));
+            assertEquals(List.of("alice@university.edu"), index.range(0, 9));
+            assertTrue(index.range(16, 29).isEmpty());
+            assertTrue(index.range(15, 10).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should return identities strictly below upper key")
+        void testHeadOf() {
+            assertEquals(List.of("alice@university.edu"), index.headOf(10));
+            assertTrue(index.headOf(2).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should return identities at or above lower key")
+        void testTailOf() {
+            assertEquals(List.of("dave@university.edu", "erin@university.edu"), index.tailOf(15));
+            assertEquals(5, index.tailOf(0).size());
+        }
+
+        @Test
+        @DisplayName("Should iterate all identities in key order")
+        void testCursor() {
+            List<String> ordered = new ArrayList<>();
+            index.cursor().forEachRemaining(ordered::add);
+            assertEquals(List.of("alice@university.edu", "bob@university.edu", "carol@university.edu",
+                    "dave@university.edu", "erin@university.edu"), ordered);
+
+            Iterator<String> fromFifteen = index.cursor(15);
+            assertEquals("dave@university.edu", fromFifteen.next());
+            assertEquals("erin@university.edu", fromFifteen.next());
+            assertFalse(fromFifteen.hasNext());
+        }
+
+        @Test
+        @DisplayName("Should answer equality lookups")
+        void testIdentitiesFor() {
+            assertEquals(Set.of("bob@university.edu", "carol@university.edu"), index.identitiesFor(10));
+            assertTrue(index.identitiesFor(11).isEmpty());
+            assertTrue(index.identitiesFor(null).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should remove entries and report bounds")
+        void testRemoveAndBounds() {
+            assertEquals(2, index.firstKey());
+            assertEquals(30, index.lastKey());
+
+            index.onRemove("erin@university.edu", new Coach("Erin", "Moore", "erin@university.edu", 30));
+
+            assertEquals(15, index.lastKey());
+            assertEquals(4, index.size());
+            index.clear();
+            assertNull(index.firstKey());
+        }
+
+        @Test
+        @DisplayName("Should handle null bounds")
+        void testNullBounds() {
+            assertTrue(index.range(null, 10).isEmpty());
+            assertTrue(index.headOf(null).isEmpty());
+            assertTrue(index.tailOf(null).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should remove by the key indexed even after the item changed")
+        void testRemoveAfterMutation() {
+            Coach frank = new Coach("Frank", "Wilson", "frank@university.edu", 5);
+            add(frank);
+            frank.setExperienceYears(20);
+            index.onRemove(frank.getEmail(), frank);
+
+            assertTrue(index.range(0, 40).stream().noneMatch("frank@university.edu"::equals));
+            assertEquals(5, index.size());
+        }
+    }
+}
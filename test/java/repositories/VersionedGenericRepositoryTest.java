@@ -0,0 +1,93 @@
+package repositories;
+
+import model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@DisplayName("VersionedGenericRepository Tests")
+public class VersionedGenericRepositoryTest {
+
+    @Nested
+    @DisplayName("Snapshot Tests")
+    class SnapshotTests {
+        private VersionedGenericRepository<User> userRepository;
+
+        @BeforeEach
+        void setUp() {
+            userRepository = new VersionedGenericRepository<>(User::getEmail);
+            userRepository.add(new User("John", "Doe", "john.doe@university.edu"));
+            userRepository.add(new User("Jane", "Smith", "jane.smith@university.edu"));
+        }
+
+        @Test
+        @DisplayName("Should behave like a regular repository")
+        void testRepositoryOperations() {
+            userRepository.add(new User("Johnny", "Doe", "john.doe@university.edu"));
+
+            assertEquals(2, userRepository.size());
+            assertEquals("John", userRepository.findByIdentity("john.doe@university.edu").getFirstName());
+            assertTrue(userRepository.delete("john.doe@university.edu"));
+            assertEquals(1, userRepository.getAll().size());
+        }
+
+        @Test
+        @DisplayName("Should keep point-in-time view after writes")
+        void testSnapshotIsolation() {
+            RepositorySnapshot<User> snapshot = userRepository.snapshot();
+
+            userRepository.delete("john.doe@university.edu");
+            userRepository.add(new User("Bob", "Johnson", "bob.johnson@university.edu"));
+
+            assertEquals(2, snapshot.size());
+            assertNotNull(snapshot.findByIdentity("john.doe@university.edu"));
+            assertNull(snapshot.findByIdentity("bob.johnson@university.edu"));
+            assertNull(snapshot.findByIdentity(null));
+            assertEquals(2, snapshot.getAll().size());
+            assertEquals(1, snapshot.count(user -> user.getFirstName().equals("Jane")));
+            assertEquals(1, snapshot.filter(user -> user.getLastName().equals("Doe")).size());
+            assertEquals(2, snapshot.stream().count());
+
+            assertEquals(2, userRepository.size());
+            assertNotNull(userRepository.findByIdentity("bob.johnson@university.edu"));
+        }
+
+        @Test
+        @DisplayName("Should see a consistent state while writers keep changing the repository")
+        void testConsistentScanDuringWrites() throws InterruptedException {
+            List<User> batch = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                batch.add(new User("John", "Doe", "user" + i + "@university.edu"));
+            }
+            userRepository.addAll(batch);
+            AtomicBoolean running = new AtomicBoolean(true);
+            Thread writer = new Thread(() -> {
+                int i = 0;
+                while (running.get()) {
+                    userRepository.delete("user" + (i % 2000) + "@university.edu");
+                    userRepository.add(new User("John", "Doe", "extra" + i + "@university.edu"));
+                    i++;
+                }
+            });
+            writer.start();
+
+            try {
+                for (int round = 0; round < 50; round++) {
+                    RepositorySnapshot<User> snapshot = userRepository.snapshot();
+                    int[] visited = {0};
+                    snapshot.forEach(user -> visited[0]++);
+                    assertEquals(snapshot.size(), visited[0]);
+                }
+            } finally {
+                running.set(false);
+                writer.join();
+            }
+        }
+    }
+}
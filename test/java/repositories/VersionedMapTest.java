@@ -0,0 +1,132 @@
+package repositories;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+@DisplayName("VersionedMap Tests")
+public class VersionedMapTest {
+
+    @Nested
+    @DisplayName("Map Operation Tests")
+    class MapOperationTests {
+        private VersionedMap<String> map;
+
+        @BeforeEach
+        void setUp() {
+            map = new VersionedMap<>();
+        }
+
+        @Test
+        @DisplayName("Should put, get and remove values")
+        void testBasicOperations() {
+            assertNull(map.put("a", "1"));
+            assertEquals("1", map.put("a", "2"));
+            assertNull(map.putIfAbsent("b", "3"));
+            assertEquals("3", map.putIfAbsent("b", "4"));
+
+            assertEquals("2", map.get("a"));
+            assertEquals("3", map.get("b"));
+            assertEquals(2, map.size());
+
+            assertEquals("2", map.remove("a"));
+            assertNull(map.remove("a"));
+            assertNull(map.get(42));
+            assertEquals(1, map.size());
+        }
+
+        @Test
+        @DisplayName("Should support conditional remove and replace")
+        void testConditionalOperations() {
+            map.put("a", "1");
+
+            assertFalse(map.remove("a", "2"));
+            assertFalse(map.replace("a", "2", "3"));
+            assertTrue(map.replace("a", "1", "3"));
+            assertEquals("3", map.replace("a", "4"));
+            assertNull(map.replace("missing", "4"));
+            assertTrue(map.remove("a", "4"));
+            assertTrue(map.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should keep keys with identical hash codes apart")
+        void testHashCollisions() {
+            String[] colliding = {"AaAa", "AaBB", "BBAa", "BBBB"};
+            for (int i = 0; i < colliding.length; i++) {
+                map.put(colliding[i], "v" + i);
+            }
+
+            for (int i = 0; i < colliding.length; i++) {
+                assertEquals("v" + i, map.get(colliding[i]));
+            }
+            assertEquals("v1", map.remove("AaBB"));
+            assertEquals("v2", map.remove("BBAa"));
+            assertEquals("v3", map.remove("BBBB"));
+            assertEquals("v0", map.get("AaAa"));
+            assertEquals(1, map.size());
+            assertEquals(1, map.entrySet().stream().count());
+        }
+
+        @Test
+        @DisplayName("Should behave like HashMap under random operations")
+        void testAgainstHashMap() {
+            Map<String, String> expected = new HashMap<>();
+            Random random = new Random(42);
+            for (int i = 0; i < 50_000; i++) {
+                String key = "k" + random.nextInt(2_000);
+                String value = "v" + random.nextInt(10);
+                switch (random.nextInt(4)) {
+                    case 0 -> assertEquals(expected.put(key, value), map.put(key, value));
+                    case 1 -> assertEquals(expected.putIfAbsent(key, value), map.putIfAbsent(key, value));
+                    case 2 -> assertEquals(expected.remove(key), map.remove(key));
+                    default -> assertEquals(expected.get(key), map.get(key));
+                }
+            }
+
+            assertEquals(expected.size(), map.size());
+            assertEquals(expected, new HashMap<>(map));
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshot Tests")
+    class SnapshotTests {
+
+        @Test
+        @DisplayName("Should not see writes made after snapshot")
+        void testSnapshotIsolation() {
+            VersionedMap<String> map = new VersionedMap<>();
+            map.put("a", "1");
+            map.put("b", "2");
+
+            VersionedMap.Version<String> snapshot = map.snapshot();
+            map.put("c", "3");
+            map.remove("a");
+            map.put("b", "20");
+
+            assertEquals(2, snapshot.size());
+            assertEquals("1", snapshot.get("a"));
+            assertEquals("2", snapshot.get("b"));
+            assertNull(snapshot.get("c"));
+            assertEquals(Map.of("a", "1", "b", "2"), new HashMap<>(snapshot));
+            assertEquals(Map.of("b", "20", "c", "3"), new HashMap<>(map));
+        }
+
+        @Test
+        @DisplayName("Should reject mutation through snapshot entries")
+        void testImmutableEntries() {
+            VersionedMap<String> map = new VersionedMap<>();
+            map.put("a", "1");
+
+            assertThrows(UnsupportedOperationException.class,
+                    () -> map.snapshot().entrySet().iterator().next().setValue("2"));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+
+@DisplayName("StringPool Tests")
+public class StringPoolTest {
+
+    @Nested
+    @DisplayName("Intern Tests")
+    class InternTests {
+
+        @Test
+        @DisplayName("Should return the first pooled instance for equal strings")
+        void testIntern() {
+            StringPool pool = new StringPool(16);
+            String first = new String("Smith");
+            String second = new String("Smith");
+
+            assertSame(first, pool.intern(first));
+            assertSame(first, pool.intern(second));
+            assertEquals(1, pool.getHits());
+            assertEquals(1, pool.getMisses());
+            assertNull(pool.intern(null));
+        }
+
+        @Test
+        @DisplayName("Should not pool long strings")
+        void testLongStringsNotPooled() {
+            StringPool pool = new StringPool(16);
+            String value = "x".repeat(StringPool.MAX_POOLED_LENGTH + 1);
+
+            assertSame(value, pool.intern(value));
+            assertEquals(0, pool.size());
+        }
+
+        @Test
+        @DisplayName("Should never hold more strings than its capacity")
+        void testBounded() {
+            StringPool pool = new StringPool(64);
+            for (int i = 0; i < 10_000; i++) {
+                pool.intern("name" + i);
+            }
+            assertEquals(64, pool.capacity());
+            assertTrue(pool.size() <= 64);
+
+            pool.clear();
+            assertEquals(0, pool.size());
+        }
+
+        @Test
+        @DisplayName("Should reject invalid capacities")
+        void testInvalidCapacity() {
+            assertThrows(IllegalArgumentException.class, () -> new StringPool(1));
+            assertThrows(IllegalArgumentException.class, () -> new StringPool(Integer.MAX_VALUE));
+            assertEquals(128, new StringPool(100).capacity());
+        }
+    }
+
+    @Nested
+    @DisplayName("Capitalized Tests")
+    class CapitalizedTests {
+
+        @ParameterizedTest
+        @ValueSource(strings = {"john", "JOHN", "jOhN", "  mary-ann ", "o'neil", "x", "\tbob\n",
+                "jos\u00E9", "\u00E9LODIE", "stra\u00DFe", "", "   "})
+        @DisplayName("Should match capitalizeText for every input")
+        void testMatchesCapitalizeText(String text) {
+            StringPool pool = new StringPool(16);
+            assertEquals(UserUtils.capitalizeText(text), pool.capitalized(text));
+            assertEquals(UserUtils.capitalizeText(text), pool.capitalized(text));
+        }
+
+        @Test
+        @DisplayName("Should share instances between spellings and with intern")
+        void testShared() {
+            StringPool pool = new StringPool(16);
+            String first = pool.capitalized("john");
+
+            assertSame(first, pool.capitalized(" JOHN "));
+            assertSame(first, pool.intern(new String("John")));
+            assertSame(first, pool.capitalized("jOHn"));
+            assertNull(pool.capitalized(null));
+        }
+
+        @Test
+        @DisplayName("Should hand out one instance per name under concurrent use")
+        void testConcurrent() throws InterruptedException {
+            StringPool pool = new StringPool(1024);
+            String[] names = {"anna", "BEN", "carl", "Dora", "eve", "FRANK", "gina", "hugo"};
+            ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                        for (int i = 0; i < 20_000; i++) {
+                            String name = names[i % names.length];
+                            assertEquals(UserUtils.capitalizeText(name), pool.capitalized(name));
+                        }
+                    } catch (Throwable e) {
+                        failures.add(e);
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertTrue(failures.isEmpty(), failures::toString);
+            for (String name : names) {
+                assertSame(pool.capitalized(name), pool.capitalized(name.toUpperCase()));
+            }
+        }
+    }
+}
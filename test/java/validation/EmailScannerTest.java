@@ -0,0 +1,131 @@
+package validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EmailScanner Tests")
+public class EmailScannerTest {
+    private static final Pattern REFERENCE = Pattern.compile(FieldRules.EMAIL_REGEX);
+    private static final String ALPHABET = "aZz09_-.@@..-_\u00E9\u0130\u212A \t\n\r";
+    private static final int FUZZ_ITERATIONS = 200_000;
+
+    private static boolean reference(String text) {
+        return REFERENCE.matcher(text).matches();
+    }
+
+    private static void assertAgrees(String text) {
+        boolean expected = reference(text);
+        assertEquals(expected, EmailScanner.isValid(text), () -> "CharSequence disagrees on '" + text + "'");
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        assertEquals(expected, EmailScanner.isValid(utf8, 0, utf8.length), () -> "bytes disagree on '" + text + "'");
+    }
+
+    @Nested
+    @DisplayName("Known Input Tests")
+    class KnownInputTests {
+
+        @ParameterizedTest
+        @ValueSource(strings = {"john.doe@university.edu", "a@b.cd", "a.-_@x-y.z_1.COM", "..@-.ab", "_@_._.ab",
+                "first.last@sub.domain.co.uk", "x@y.abcdefghijklmnop"})
+        @DisplayName("Should accept addresses in the language")
+        void testAccepts(String email) {
+            assertTrue(reference(email));
+            assertTrue(EmailScanner.isValid(email));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"", "@", "a@", "@b.cd", "a@b", "a@b.c", "a@b.c1", "a@.cd", "a@b..cd", "a@b.cd.",
+                "a@@b.cd", "a@b@c.de", "a b@c.de", "a@b.cd\n", "\u00E9@b.cd", "a@b.c\u212A", "a@b.c-"})
+        @DisplayName("Should reject addresses outside the language")
+        void testRejects(String email) {
+            assertFalse(reference(email));
+            assertFalse(EmailScanner.isValid(email));
+        }
+
+        @Test
+        @DisplayName("Should reject null")
+        void testNull() {
+            assertFalse(EmailScanner.isValid(null));
+        }
+
+        @Test
+        @DisplayName("Should validate a range without copying it")
+        void testRanges() {
+            StringBuilder buffer = new StringBuilder("name,john.doe@university.edu,42");
+            assertTrue(EmailScanner.isValid(buffer, 5, 28));
+            assertFalse(EmailScanner.isValid(buffer, 4, 28));
+            assertFalse(EmailScanner.isValid(buffer, 5, 29));
+
+            byte[] line = "x;a@b.cd;y".getBytes(StandardCharsets.US_ASCII);
+            assertTrue(EmailScanner.isValid(line, 2, 6));
+            assertFalse(EmailScanner.isValid(line, 2, 7));
+        }
+    }
+
+    @Nested
+    @DisplayName("Differential Fuzz Tests")
+    class DifferentialFuzzTests {
+
+        @Test
+        @DisplayName("Should agree with the regex on random strings")
+        void testRandomStrings() {
+            Random random = new Random(0x5EED);
+            for (int i = 0; i < FUZZ_ITERATIONS; i++) {
+                int length = random.nextInt(12);
+                StringBuilder text = new StringBuilder(length);
+                for (int j = 0; j < length; j++) {
+                    text.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+                }
+                assertAgrees(text.toString());
+            }
+        }
+
+        @Test
+        @DisplayName("Should agree with the regex on mutated valid addresses")
+        void testMutatedAddresses() {
+            Random random = new Random(42);
+            String[] seeds = {"john.doe@university.edu", "a@b.cd", "x_y-z@mail.example.co.uk", "q@w-e.r1.ty"};
+            for (int i = 0; i < FUZZ_ITERATIONS; i++) {
+                StringBuilder text = new StringBuilder(seeds[random.nextInt(seeds.length)]);
+                int mutations = 1 + random.nextInt(3);
+                for (int m = 0; m < mutations; m++) {
+                    char c = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+                    int position = text.length() == 0 ? 0 : random.nextInt(text.length());
+                    switch (random.nextInt(3)) {
+                        case 0 -> text.insert(position, c);
+                        case 1 -> {
+                            if (text.length() > 0) text.setCharAt(position, c);
+                        }
+                        default -> {
+                            if (text.length() > 0) text.deleteCharAt(position);
+                        }
+                    }
+                }
+                assertAgrees(text.toString());
+            }
+        }
+
+        @Test
+        @DisplayName("Should agree with the regex on every Latin-1 character in every position")
+        void testExhaustiveSingleCharacter() {
+            String template = "ab@cd.ef";
+            for (int position = 0; position <= template.length(); position++) {
+                for (char c = 0; c < 256; c++) {
+                    assertAgrees(template.substring(0, position) + c + template.substring(position));
+                    if (position < template.length()) {
+                        assertAgrees(template.substring(0, position) + c + template.substring(position + 1));
+                    }
+                }
+            }
+        }
+    }
+}
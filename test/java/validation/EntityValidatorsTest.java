@@ -0,0 +1,55 @@
+package validation;
+
+import model.Client;
+import model.Coach;
+import model.Exercise;
+import model.Intensity;
+import model.Level;
+import model.Plan;
+import model.Progress;
+import model.User;
+import model.Workout;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EntityValidators Tests")
+public class EntityValidatorsTest {
+
+    @Test
+    @DisplayName("Should validate users and report rejected fields")
+    void testUser() {
+        assertNull(EntityValidators.USER.firstInvalidField(new User("John", "Doe", "john.doe@university.edu")));
+        assertEquals("email", EntityValidators.USER.firstInvalidField(new User("John", "Doe", "not-an-email")));
+        assertEquals("firstName", EntityValidators.USER.firstInvalidField(new User("J", "Doe", "j.doe@university.edu")));
+    }
+
+    @Test
+    @DisplayName("Should include user rules for coaches and clients")
+    void testCoachAndClient() {
+        Coach coach = new Coach("Jane", "Smith", "jane.smith@university.edu", 10);
+        assertTrue(EntityValidators.COACH.isValid(coach));
+        assertEquals("lastName", EntityValidators.COACH.firstInvalidField(new Coach("Jane", "", "jane@university.edu", 10)));
+
+        assertTrue(EntityValidators.CLIENT.isValid(new Client("Bob", "Lee", "bob.lee@university.edu", Level.BEGINNER, coach)));
+        assertEquals("level", EntityValidators.CLIENT.firstInvalidField(new Client("Bob", "Lee", "bob.lee@university.edu", null, coach)));
+    }
+
+    @Test
+    @DisplayName("Should validate records and plain entities")
+    void testOtherEntities() {
+        assertTrue(EntityValidators.EXERCISE.isValid(new Exercise("Squat", 10, 3)));
+        assertTrue(EntityValidators.WORKOUT.isValid(new Workout("Leg Day", 45, Intensity.HIGH, List.of())));
+
+        assertNull(EntityValidators.PROGRESS.firstInvalidField(new Progress(new Date(), 80.0, 24.0, null)));
+        assertEquals("weight", EntityValidators.PROGRESS.firstInvalidField(new Progress(new Date(), 10.0, 24.0, null)));
+
+        Date tomorrow = new Date(System.currentTimeMillis() + 86_400_000L);
+        assertTrue(EntityValidators.PLAN.isValid(new Plan(List.of(), tomorrow, null)));
+        assertEquals("startDate", EntityValidators.PLAN.firstInvalidField(new Plan()));
+    }
+}
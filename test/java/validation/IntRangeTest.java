@@ -0,0 +1,51 @@
+package validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IntRange Tests")
+public class IntRangeTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "5, 180, 5, true",
+        "5, 180, 180, true",
+        "5, 180, 4, false",
+        "5, 180, 181, false",
+        "5, 180, -2147483648, false",
+        "5, 180, 2147483647, false",
+        "-10, 10, -10, true",
+        "-10, 10, -11, false",
+        "-2147483648, 2147483647, -2147483648, true",
+        "-2147483648, 2147483647, 2147483647, true",
+        "0, 0, 0, true",
+        "0, 0, 1, false"
+    })
+    @DisplayName("Should agree with the two-sided comparison")
+    void testFusedComparison(int min, int max, int value, boolean expected) {
+        assertEquals(expected, new IntRange(min, max).test(value));
+        assertEquals(value >= min && value <= max, new IntRange(min, max).test(value));
+    }
+
+    @Test
+    @DisplayName("Should reject inverted bounds")
+    void testInvalidBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new IntRange(2, 1));
+        assertThrows(IllegalArgumentException.class, () -> new DoubleRange(2.0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new DoubleRange(Double.NaN, 1.0));
+    }
+
+    @Test
+    @DisplayName("Should reject NaN in a double range")
+    void testDoubleRangeNaN() {
+        DoubleRange range = new DoubleRange(30.0, 300.0);
+        assertTrue(range.test(30.0));
+        assertTrue(range.test(300.0));
+        assertFalse(range.test(Double.NaN));
+        assertFalse(range.test(29.999));
+    }
+}
@@ -0,0 +1,110 @@
+package validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TextRule Tests")
+public class TextRuleTest {
+
+    @Nested
+    @DisplayName("Length Tests")
+    class LengthTests {
+
+        @ParameterizedTest
+        @CsvSource({
+            "ab, true",
+            "'  ab  ', true",
+            "a, false",
+            "'   a   ', false",
+            "abcde, true",
+            "abcdef, false"
+        })
+        @DisplayName("Should measure length after trimming")
+        void testTrimmedLengthBounds(String text, boolean expected) {
+            assertEquals(expected, TextRule.length(2, 5).test(text));
+        }
+
+        @Test
+        @DisplayName("Should reject null text")
+        void testNullText() {
+            assertFalse(TextRule.length(0, 5).test(null));
+        }
+
+        @Test
+        @DisplayName("Should match String.trim for control characters")
+        void testTrimmedLengthMatchesTrim() {
+            for (String text : new String[]{"", "   ", "\t\nabc\r\n", "\u0000x\u0001", "a b", "\u00A0a\u00A0"}) {
+                assertEquals(text.trim().length(), TextRule.trimmedLength(text), text);
+                int start = TextRule.trimStart(text);
+                assertEquals(text.trim(), text.substring(start, TextRule.trimEnd(text, start)), text);
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject invalid bounds")
+        void testInvalidBounds() {
+            assertThrows(IllegalArgumentException.class, () -> TextRule.length(5, 2));
+            assertThrows(IllegalArgumentException.class, () -> TextRule.length(-1, 2));
+        }
+    }
+
+    @Nested
+    @DisplayName("Pattern Tests")
+    class PatternTests {
+
+        @Test
+        @DisplayName("Should match the whole text against the pattern")
+        void testMatching() {
+            TextRule digits = TextRule.matching("\\d+");
+            assertTrue(digits.test("123"));
+            assertFalse(digits.test("123a"));
+            assertFalse(digits.test(null));
+        }
+
+        @Test
+        @DisplayName("Should combine length bounds with the pattern")
+        void testWithLength() {
+            TextRule digits = TextRule.matching("\\d+").withLength(2, 3);
+            assertTrue(digits.test("12"));
+            assertFalse(digits.test("1"));
+            assertFalse(digits.test("1234"));
+            assertEquals("\\d+", digits.getPattern().pattern());
+        }
+
+        @Test
+        @DisplayName("Should give consistent answers across threads")
+        void testConcurrentUse() throws Exception {
+            TextRule email = FieldRules.EMAIL;
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<Boolean>> results = new ArrayList<>();
+                for (int t = 0; t < 4; t++) {
+                    results.add(executor.submit(() -> {
+                        for (int i = 0; i < 10_000; i++) {
+                            if (!email.test("user" + i + "@university.edu") || email.test("user" + i + "@")) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    }));
+                }
+                for (Future<Boolean> result : results) {
+                    assertTrue(result.get());
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+}
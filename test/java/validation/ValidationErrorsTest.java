@@ -0,0 +1,90 @@
+package validation;
+
+import exception.InvalidDataException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ValidationErrors Tests")
+public class ValidationErrorsTest {
+
+    @Test
+    @DisplayName("Should record field, value and row for each failure")
+    void testAdd() {
+        ValidationErrors errors = new ValidationErrors();
+        errors.add(3, "email", "bad@");
+        errors.add(3, "reps", 0);
+        errors.add(7, "level", null);
+
+        assertEquals(3, errors.size());
+        assertEquals(2, errors.getFailedRowCount());
+        assertEquals(7, errors.getRow(2));
+        assertEquals("reps", errors.getField(1));
+        assertEquals("0", errors.getInvalidValue(1));
+        assertNull(errors.getInvalidValue(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> errors.getField(3));
+    }
+
+    @Test
+    @DisplayName("Should count but not retain errors beyond the limit")
+    void testLimit() {
+        ValidationErrors errors = new ValidationErrors(2);
+        for (int row = 0; row < 40; row++) {
+            errors.add(row, "name", "x" + row);
+        }
+
+        assertEquals(2, errors.size());
+        assertEquals(40, errors.getTotalCount());
+        assertEquals(40, errors.getFailedRowCount());
+        assertFalse(errors.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should merge per-worker sinks")
+    void testAddAll() {
+        ValidationErrors first = new ValidationErrors(3);
+        first.add(1, "a", "1");
+        first.add(2, "b", "2");
+        ValidationErrors second = new ValidationErrors();
+        second.add(10, "c", "3");
+        second.add(10, "d", "4");
+        second.add(11, "e", "5");
+
+        first.addAll(second);
+
+        assertEquals(3, first.size());
+        assertEquals(5, first.getTotalCount());
+        assertEquals(4, first.getFailedRowCount());
+        assertEquals("c", first.getField(2));
+    }
+
+    @Test
+    @DisplayName("Should build stackless exceptions from recorded failures")
+    void testToException() {
+        ValidationErrors errors = new ValidationErrors();
+        errors.add(12, "email", "bad@");
+
+        InvalidDataException exception = errors.toException(0);
+
+        assertEquals("email", exception.getFieldName());
+        assertEquals("bad@", exception.getInvalidValue());
+        assertTrue(exception.getMessage().contains("row 12"));
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    @DisplayName("Should reset on clear")
+    void testClear() {
+        ValidationErrors errors = new ValidationErrors(1);
+        errors.add(1, "a", "1");
+        errors.add(2, "b", "2");
+
+        errors.clear();
+
+        assertTrue(errors.isEmpty());
+        assertEquals(0, errors.getFailedRowCount());
+        errors.add(1, "a", "1");
+        assertEquals(1, errors.getFailedRowCount());
+    }
+}
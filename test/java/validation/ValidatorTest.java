@@ -0,0 +1,90 @@
+package validation;
+
+import exception.InvalidDataException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Validator Tests")
+public class ValidatorTest {
+
+    private record Sample(String label, int count, double ratio, Object tag) {
+    }
+
+    private final Validator<Sample> validator = Validator.<Sample>builder()
+            .text("label", Sample::label, TextRule.length(2, 10))
+            .range("count", Sample::count, new IntRange(1, 5))
+            .range("ratio", Sample::ratio, new DoubleRange(0.0, 1.0))
+            .notNull("tag", Sample::tag)
+            .build();
+
+    @Test
+    @DisplayName("Should accept an item passing every rule")
+    void testValid() {
+        Sample sample = new Sample("ok", 3, 0.5, "x");
+        assertTrue(validator.isValid(sample));
+        assertNull(validator.firstInvalidField(sample));
+    }
+
+    @Test
+    @DisplayName("Should report the first failing field in declaration order")
+    void testFirstInvalidField() {
+        assertEquals("label", validator.firstInvalidField(new Sample("x", 0, 2.0, null)));
+        assertEquals("count", validator.firstInvalidField(new Sample("ok", 0, 2.0, null)));
+        assertEquals("ratio", validator.firstInvalidField(new Sample("ok", 1, 2.0, null)));
+        assertEquals("tag", validator.firstInvalidField(new Sample("ok", 1, 1.0, null)));
+    }
+
+    @Test
+    @DisplayName("Should append rules from an included validator first")
+    void testInclude() {
+        Validator<Sample> extended = Validator.<Sample>builder()
+                .include(validator)
+                .check("positiveRatio", sample -> sample.ratio() > 0)
+                .build();
+
+        assertEquals(List.of("label", "count", "ratio", "tag", "positiveRatio"), extended.getFields());
+        assertEquals("positiveRatio", extended.firstInvalidField(new Sample("ok", 1, 0.0, "x")));
+        assertEquals("label", extended.firstInvalidField(new Sample(null, 1, 0.0, "x")));
+    }
+
+    @Test
+    @DisplayName("Should reject null items and blank field names")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> validator.firstInvalidField(null));
+        assertThrows(IllegalArgumentException.class, () -> Validator.<Sample>builder().notNull(" ", Sample::tag));
+    }
+
+    @Test
+    @DisplayName("Should report every failing field with its value")
+    void testValidateIntoSink() {
+        ValidationErrors errors = new ValidationErrors();
+
+        assertTrue(validator.validate(new Sample("ok", 3, 0.5, "x"), 1, errors));
+        assertFalse(validator.validate(new Sample("x", 9, 0.5, null), 2, errors));
+
+        assertEquals(3, errors.size());
+        assertEquals(1, errors.getFailedRowCount());
+        assertEquals("label", errors.getField(0));
+        assertEquals("x", errors.getInvalidValue(0));
+        assertEquals("count", errors.getField(1));
+        assertEquals("9", errors.getInvalidValue(1));
+        assertEquals("tag", errors.getField(2));
+        assertEquals(2, errors.getRow(2));
+    }
+
+    @Test
+    @DisplayName("Should throw a stackless exception for the first failure")
+    void testRequireValid() throws InvalidDataException {
+        validator.requireValid(new Sample("ok", 3, 0.5, "x"));
+
+        InvalidDataException exception = assertThrows(InvalidDataException.class,
+                () -> validator.requireValid(new Sample("ok", 3, 1.5, null)));
+        assertEquals("ratio", exception.getFieldName());
+        assertEquals("1.5", exception.getInvalidValue());
+        assertEquals(0, exception.getStackTrace().length);
+    }
+}